@@ -0,0 +1,21 @@
+package com.example.umc9th.global.auth.jwt;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 벤치마크용 로그 레벨 설정
+ * - 토큰 생성/인증 성공 경로의 log.info가 측정값에 섞이지 않도록 애플리케이션 로거를 WARN으로 올림
+ */
+final class BenchmarkLogging {
+
+    private static final String APPLICATION_LOGGER = "com.example.umc9th";
+
+    private BenchmarkLogging() {
+    }
+
+    static void quiet() {
+        ((Logger) LoggerFactory.getLogger(APPLICATION_LOGGER)).setLevel(Level.WARN);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.umc9th.global.auth.jwt;
+
+import com.example.umc9th.global.auth.CustomUserDetails;
+import com.example.umc9th.global.auth.CustomUserDetailsService;
+import com.example.umc9th.global.auth.service.TokenRevocationService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * JwtAuthFilter 요청 1건 처리 비용 벤치마크
+ * - 서블릿 요청/응답은 spring-test Mock 객체 사용
+ * - CustomUserDetailsService는 DB 없이 고정 사용자를 반환하는 스텁
+ * - claimsOnlyAuth=true: Claims만으로 인증, false: UserDetailsService 경로
+ * - 애플리케이션 로그는 WARN으로 올려 인증 성공 log.info 비용을 측정에서 제외
+ */
+@State(Scope.Benchmark)
+public class JwtAuthFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean claimsOnlyAuth;
+
+    private JwtAuthFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        JwtUtil jwtUtil = new JwtUtil(JwtUtilBenchmark.SECRET,
+                JwtUtilBenchmark.ACCESS_EXPIRATION, JwtUtilBenchmark.REFRESH_EXPIRATION, 10_000);
+        CustomUserDetails userDetails = new CustomUserDetails(JwtUtilBenchmark.createMember());
+
+        // 폐기 목록이 비어 있으므로 Bloom Filter 음성 → 저장소에 접근하지 않음
+        TokenRevocationService revocationService = new TokenRevocationService(
+                null, null, 100_000, 0.001, JwtUtilBenchmark.ACCESS_EXPIRATION);
+
+        filter = new JwtAuthFilter(jwtUtil, new StubUserDetailsService(userDetails), revocationService, claimsOnlyAuth);
+
+        request = new MockHttpServletRequest("GET", "/api/reviews/my");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.createAccessToken(userDetails));
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        filter.doFilter(request, response, chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    /**
+     * DB 없이 고정 사용자를 반환하는 UserDetailsService 스텁
+     */
+    private static class StubUserDetailsService extends CustomUserDetailsService {
+
+        private final UserDetails userDetails;
+
+        StubUserDetailsService(UserDetails userDetails) {
+            super(null, null);
+            this.userDetails = userDetails;
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String username) {
+            return userDetails;
+        }
+    }
+}
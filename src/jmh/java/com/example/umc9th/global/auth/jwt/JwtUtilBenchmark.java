@@ -0,0 +1,88 @@
+package com.example.umc9th.global.auth.jwt;
+
+import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.domain.member.enums.Gender;
+import com.example.umc9th.global.auth.CustomUserDetails;
+import com.example.umc9th.global.auth.JwtPrincipal;
+import com.example.umc9th.global.auth.enums.SocialType;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+
+/**
+ * JwtUtil 토큰 생성/검증 벤치마크
+ * - 검증은 캐시 적중(같은 토큰 반복)과 캐시 미적중(캐시 비활성화) 두 경로를 모두 측정
+ *   캐시 비활성화: verified-token-cache.max-size = 0 → 캐시 객체 없이 매번 서명 검증
+ * - 애플리케이션 로그는 WARN으로 올려 log.info 비용을 측정에서 제외
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    static final String SECRET = "dGVzdC1qd3Qtc2VjcmV0LWtleS1mb3ItdGVzdGluZy1wdXJwb3NlLW9ubHktMTIzNDU2Nzg5MA==";
+    static final long ACCESS_EXPIRATION = 14_400_000L;
+    static final long REFRESH_EXPIRATION = 604_800_000L;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private CustomUserDetails userDetails;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        jwtUtil = new JwtUtil(SECRET, ACCESS_EXPIRATION, REFRESH_EXPIRATION, 10_000);
+        uncachedJwtUtil = new JwtUtil(SECRET, ACCESS_EXPIRATION, REFRESH_EXPIRATION, 0);  // 캐시 비활성화 경로
+        userDetails = new CustomUserDetails(createMember());
+        accessToken = jwtUtil.createAccessToken(userDetails);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(userDetails);
+    }
+
+    @Benchmark
+    public Claims verifyCached() {
+        return jwtUtil.verify(accessToken);
+    }
+
+    @Benchmark
+    public Claims verifyUncached() {
+        return uncachedJwtUtil.verify(accessToken);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return jwtUtil.isValid(accessToken);
+    }
+
+    @Benchmark
+    public String getEmail() {
+        return jwtUtil.getEmail(accessToken);
+    }
+
+    @Benchmark
+    public JwtPrincipal getPrincipal() {
+        return jwtUtil.getPrincipal(accessToken);
+    }
+
+    static Member createMember() {
+        return Member.builder()
+                .id(1L)
+                .name("벤치마크")
+                .gender(Gender.NONE)
+                .birth(LocalDate.of(2000, 1, 1))
+                .address("서울시")
+                .detailAddress("강남구")
+                .socialUid("bench@example.com")
+                .socialType(SocialType.GOOGLE)
+                .email("bench@example.com")
+                .password("")
+                .point(0)
+                .build();
+    }
+}
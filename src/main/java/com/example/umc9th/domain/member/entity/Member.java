@@ -70,7 +70,7 @@ public class Member extends BaseEntity {
     @Column(name = "detail_address", nullable = false)
     private String detailAddress;
 
-    @Column(name = "social_uid", nullable = false)
+    @Column(name = "social_uid", nullable = false, unique = true)
     private String socialUid;
 
     @Column(name = "social_type", nullable = false)
@@ -1,11 +1,15 @@
 package com.example.umc9th.domain.member.repository;
 
 import com.example.umc9th.domain.member.entity.Member;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +55,15 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     Optional<Member> findByEmail(String email);
 
+    /**
+     * 이메일로 가장 먼저 가입한 회원 조회
+     * - email 컬럼에는 고유 제약이 없으므로, 여러 건이어도 예외 없이 한 건만 조회
+     *
+     * @param email 이메일
+     * @return 회원 Optional
+     */
+    Optional<Member> findFirstByEmailOrderByIdAsc(String email);
+
     /**
      * 소셜 UID로 회원 조회
      *
@@ -58,4 +71,54 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * @return 회원 Optional
      */
     Optional<Member> findBySocialUid(String socialUid);
+
+    /**
+     * 회원 행 쓰기 잠금 (SELECT ... FOR UPDATE)
+     * - 같은 회원의 동시 로그인이 세션 수 제한을 함께 통과하지 않도록 트랜잭션 끝까지 직렬화
+     *
+     * @param id 회원 ID
+     * @return 회원 ID Optional (없으면 empty)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m.id FROM Member m WHERE m.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    /**
+     * 비밀번호 해시 교체 (로그인 시 재해싱용)
+     * - 읽은 뒤 해싱하는 사이에 비밀번호가 바뀌었으면 덮어쓰지 않음 (조건부 UPDATE 한 문장)
+     *
+     * @return 영향받은 행 수 (0이면 그사이 비밀번호가 바뀜)
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :newPassword, m.updatedAt = :now " +
+           "WHERE m.id = :id AND m.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword,
+                                  @Param("now") LocalDateTime now);
+
+    /**
+     * 소셜 로그인 회원 upsert (한 문장, 원자적)
+     * - social_uid 고유 인덱스 충돌 시 아무것도 바꾸지 않음 (기존 회원 유지)
+     * - 같은 이메일의 다른 계정(일반 회원가입)이 있으면 삽입하지 않음 → 그 계정으로 로그인
+     * - 기본값은 기존 소셜 자동 가입과 동일 (성별 NONE, 생년월일 2000-01-01, 주소 "미설정", 포인트 0)
+     *
+     * @return 영향받은 행 수 (신규 여부 판단에 쓰지 않음: Connector/J는 기본으로 일치한 행 수를 돌려줘
+     *         중복 키로 아무것도 바뀌지 않아도 1이 될 수 있음)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO member (name, gender, birth, address, detail_address, social_uid, social_type,
+                                point, email, password, role, created_at, updated_at)
+            SELECT :name, 'NONE', DATE '2000-01-01', '미설정', '미설정', :socialUid, :socialType,
+                   0, :email, '', 'ROLE_USER', :now, :now
+            FROM DUAL
+            WHERE NOT EXISTS (SELECT 1 FROM member m WHERE m.email = :email AND m.social_uid <> :socialUid)
+            ON DUPLICATE KEY UPDATE social_uid = social_uid
+            """, nativeQuery = true)
+    int upsertSocialMember(@Param("socialUid") String socialUid,
+                           @Param("socialType") String socialType,
+                           @Param("email") String email,
+                           @Param("name") String name,
+                           @Param("now") LocalDateTime now);
 }
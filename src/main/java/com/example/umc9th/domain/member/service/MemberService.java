@@ -9,17 +9,21 @@ import com.example.umc9th.domain.member.repository.FoodRepository;
 import com.example.umc9th.domain.member.repository.MemberFoodRepository;
 import com.example.umc9th.domain.member.repository.MemberRepository;
 import com.example.umc9th.global.auth.CustomUserDetails;
+import com.example.umc9th.global.auth.cache.UserDetailsCache;
 import com.example.umc9th.global.auth.enums.Role;
 import com.example.umc9th.global.auth.enums.SocialType;
 import com.example.umc9th.global.auth.jwt.JwtUtil;
+import com.example.umc9th.global.auth.service.PasswordHashingService;
 import com.example.umc9th.global.exception.CustomException;
 import com.example.umc9th.global.response.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,74 +36,93 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final FoodRepository foodRepository;
     private final MemberFoodRepository memberFoodRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
     private final com.example.umc9th.global.auth.service.AuthService authService;
+    private final UserDetailsCache userDetailsCache;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 일반 로그인을 위한 회원가입
-     * - 비밀번호는 BCrypt로 암호화하여 저장
+     * - 비밀번호는 BCrypt로 암호화하여 저장 (전용 해싱 스레드 풀에서 실행)
      * - 기본 권한은 ROLE_USER
+     *
+     * 트랜잭션 경계:
+     * - 해싱은 최대 auth.password.hashing.timeout까지 기다리므로 트랜잭션(DB 커넥션) 밖에서 실행
+     * - 중복 확인(짧은 조회) → 해싱 → 짧은 쓰기 트랜잭션(중복 재확인 + INSERT) 순서
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MemberResponse.Join signup(MemberRequest.Join request) {
         log.info("[MemberService.signup] 회원가입 시작 - email: {}", request.getEmail());
 
-        // 1. 이메일 중복 체크
+        // 1. 이메일 중복 체크 (해싱 전에 빨리 실패)
         if (memberRepository.existsByEmail(request.getEmail())) {
             log.warn("[MemberService.signup] 중복된 이메일 - email: {}", request.getEmail());
             throw new CustomException(ErrorCode.MEMBER_DUPLICATE_EMAIL);
         }
 
-        // 2. 비밀번호 암호화 (BCrypt)
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // 2. 비밀번호 암호화 (BCrypt, 전용 스레드 풀, 커넥션 미점유)
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
         log.info("[MemberService.signup] 비밀번호 암호화 완료");
 
-        // 3. Member 엔티티 생성 (일반 로그인용)
-        Member member = Member.builder()
-                .name(request.getName())
-                .email(request.getEmail())
-                .password(encodedPassword)
-                .role(Role.ROLE_USER)  // 기본 권한: 일반 사용자
-                .gender(request.getGender())
-                .birth(request.getBirth())
-                .address(request.getAddress())
-                .detailAddress(request.getDetailAddress())
-                .socialUid("LOCAL_" + request.getEmail())  // 일반 로그인 구분용
-                .socialType(SocialType.GOOGLE)  // 임시값 (또는 LOCAL 타입 추가)
-                .point(0)
-                .build();
-
-        Member savedMember = memberRepository.save(member);
-        log.info("[MemberService.signup] 회원가입 완료 - ID: {}, email: {}",
-                savedMember.getId(), savedMember.getEmail());
-
-        // 4. 선호 음식 설정
-        if (request.getFoodPreferences() != null && !request.getFoodPreferences().isEmpty()) {
-            log.info("[MemberService.signup] 선호 음식 매핑 시작 - count: {}",
-                    request.getFoodPreferences().size());
-
-            List<Food> foods = foodRepository.findByNameIn(request.getFoodPreferences());
-            List<MemberFood> memberFoods = foods.stream()
-                    .map(food -> MemberFood.builder()
-                            .member(savedMember)
-                            .food(food)
-                            .build())
-                    .collect(Collectors.toList());
+        // 3. 짧은 쓰기 트랜잭션: 해싱하는 동안 같은 이메일로 가입했는지 다시 확인 후 저장
+        return transactionTemplate.execute(status -> {
+            if (memberRepository.existsByEmail(request.getEmail())) {
+                log.warn("[MemberService.signup] 중복된 이메일 (해싱 중 가입됨) - email: {}", request.getEmail());
+                throw new CustomException(ErrorCode.MEMBER_DUPLICATE_EMAIL);
+            }
 
-            memberFoodRepository.saveAll(memberFoods);
-            log.info("[MemberService.signup] 선호 음식 매핑 완료");
-        }
+            // Member 엔티티 생성 (일반 로그인용)
+            Member member = Member.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .password(encodedPassword)
+                    .role(Role.ROLE_USER)  // 기본 권한: 일반 사용자
+                    .gender(request.getGender())
+                    .birth(request.getBirth())
+                    .address(request.getAddress())
+                    .detailAddress(request.getDetailAddress())
+                    .socialUid("LOCAL_" + request.getEmail())  // 일반 로그인 구분용
+                    .socialType(SocialType.GOOGLE)  // 임시값 (또는 LOCAL 타입 추가)
+                    .point(0)
+                    .build();
+
+            Member savedMember = memberRepository.save(member);
+            log.info("[MemberService.signup] 회원가입 완료 - ID: {}, email: {}",
+                    savedMember.getId(), savedMember.getEmail());
+
+            // 선호 음식 설정
+            if (request.getFoodPreferences() != null && !request.getFoodPreferences().isEmpty()) {
+                log.info("[MemberService.signup] 선호 음식 매핑 시작 - count: {}",
+                        request.getFoodPreferences().size());
+
+                List<Food> foods = foodRepository.findByNameIn(request.getFoodPreferences());
+                List<MemberFood> memberFoods = foods.stream()
+                        .map(food -> MemberFood.builder()
+                                .member(savedMember)
+                                .food(food)
+                                .build())
+                        .collect(Collectors.toList());
+
+                memberFoodRepository.saveAll(memberFoods);
+                log.info("[MemberService.signup] 선호 음식 매핑 완료");
+            }
 
-        return MemberResponse.Join.from(savedMember);
+            return MemberResponse.Join.from(savedMember);
+        });
     }
 
     /**
      * 로그인 (JWT 토큰 발급)
-     * - 이메일/비밀번호 검증
+     * - 이메일/비밀번호 검증 (전용 해싱 스레드 풀에서 실행)
+     * - BCrypt cost가 바뀌었으면 새 cost로 다시 해싱하여 저장
      * - JWT Access Token 발급
+     *
+     * 트랜잭션 경계:
+     * - 회원 조회(짧은 조회) → 검증/재해싱(커넥션 미점유) → 짧은 쓰기 트랜잭션(재해싱 반영 + Refresh Token 저장)
+     * - 해싱 스레드 풀이 밀려도 DB 커넥션 풀은 다른 요청이 계속 쓸 수 있음
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MemberResponse.Login login(MemberRequest.Login request) {
         log.info("[MemberService.login] 로그인 시도 - email: {}", request.getEmail());
 
@@ -109,20 +132,34 @@ public class MemberService {
                     log.warn("[MemberService.login] 존재하지 않는 이메일 - email: {}", request.getEmail());
                     return new CustomException(ErrorCode.MEMBER_NOT_FOUND);
                 });
+        String storedPassword = member.getPassword();
 
-        // 2. 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        // 2. 비밀번호 검증 (커넥션 미점유)
+        if (!passwordHashingService.matches(request.getPassword(), storedPassword)) {
             log.warn("[MemberService.login] 비밀번호 불일치 - email: {}", request.getEmail());
             throw new CustomException(ErrorCode.MEMBER_INVALID_PASSWORD);
         }
 
+        // 2-1. cost 변경 시 재해싱 (평문을 알고 있는 로그인 시점에만 가능, 커넥션 미점유)
+        String rehashedPassword = passwordHashingService.needsRehash(storedPassword)
+                ? passwordHashingService.encode(request.getPassword())
+                : null;
+
         // 3. JWT Access Token + Refresh Token 발급
         CustomUserDetails userDetails = new CustomUserDetails(member);
         String accessToken = jwtUtil.createAccessToken(userDetails);
         String refreshToken = jwtUtil.createRefreshToken(userDetails);
 
-        // 4. Refresh Token DB에 저장
-        authService.saveRefreshToken(member, refreshToken);
+        // 4. 짧은 쓰기 트랜잭션: 재해싱 반영 + Refresh Token DB 저장
+        transactionTemplate.executeWithoutResult(status -> {
+            if (rehashedPassword != null) {
+                int updated = memberRepository.updatePasswordIfUnchanged(
+                        member.getId(), storedPassword, rehashedPassword, LocalDateTime.now());
+                log.info("[MemberService.login] 비밀번호 재해싱 {} - memberId: {}",
+                        updated == 1 ? "완료" : "생략 (그사이 비밀번호 변경됨)", member.getId());
+            }
+            authService.saveRefreshToken(member, refreshToken);
+        });
 
         log.info("[MemberService.login] 로그인 성공 - email: {}, memberId: {}",
                 request.getEmail(), member.getId());
@@ -249,6 +286,9 @@ public class MemberService {
                 request.getDetailAddress()
         );
 
+        // 캐시된 인증 정보 무효화 (이메일 변경 포함)
+        userDetailsCache.evictMember(id);
+
         log.info("[MemberService.updateMember] 회원 수정 완료 - ID: {}", id);
 
         return MemberResponse.Basic.from(member);
@@ -262,6 +302,7 @@ public class MemberService {
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
         memberRepository.delete(member);
+        userDetailsCache.evictMember(id);
 
         log.info("[MemberService.deleteMember] 회원 삭제 완료 - ID: {}", id);
     }
@@ -8,6 +8,7 @@ import com.example.umc9th.domain.mission.entity.Mission;
 import com.example.umc9th.domain.mission.entity.mapping.MemberMission;
 import com.example.umc9th.domain.mission.repository.MemberMissionRepository;
 import com.example.umc9th.domain.mission.repository.MissionRepository;
+import com.example.umc9th.domain.store.cache.StoreDetailCache;
 import com.example.umc9th.domain.store.entity.Store;
 import com.example.umc9th.domain.store.repository.StoreRepository;
 import com.example.umc9th.global.exception.CustomException;
@@ -30,6 +31,7 @@ public class MissionCommandService {
         private final MemberRepository memberRepository;
         private final MemberMissionRepository memberMissionRepository;
         private final StoreRepository storeRepository;
+        private final StoreDetailCache storeDetailCache;
 
         /**
          * 가게에 미션 추가하기
@@ -41,9 +43,9 @@ public class MissionCommandService {
                 log.info("[MissionCommandService.createMission] storeId: {}, name: {}, deadline: {}",
                                 request.getStoreId(), request.getName(), request.getDeadline());
 
-                // 가게 조회 (Validation에서 이미 검증했지만, 엔티티가 필요하므로 조회)
-                Store store = storeRepository.findById(request.getStoreId())
-                                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+                // 가게 존재 확인은 캐시로, 미션의 FK에는 ID만 담긴 프록시를 사용 (가게 SELECT 없음)
+                storeDetailCache.get(request.getStoreId());
+                Store store = storeRepository.getReferenceById(request.getStoreId());
 
                 // 미션 엔티티 생성 및 저장
                 Mission mission = Mission.builder()
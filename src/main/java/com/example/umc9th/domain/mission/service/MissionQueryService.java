@@ -4,6 +4,7 @@ import com.example.umc9th.domain.mission.converter.MissionConverter;
 import com.example.umc9th.domain.mission.dto.MissionResponse;
 import com.example.umc9th.domain.mission.entity.Mission;
 import com.example.umc9th.domain.mission.repository.MissionRepository;
+import com.example.umc9th.domain.store.cache.StoreDetailCache;
 import com.example.umc9th.domain.store.entity.Store;
 import com.example.umc9th.domain.store.repository.StoreRepository;
 import com.example.umc9th.global.response.code.ErrorCode;
@@ -21,16 +22,18 @@ public class MissionQueryService {
 
   private final MissionRepository missionRepository;
   private final StoreRepository storeRepository;
+  private final StoreDetailCache storeDetailCache;
   private final com.example.umc9th.domain.member.repository.MemberRepository memberRepository;
   private final com.example.umc9th.domain.mission.repository.MemberMissionRepository memberMissionRepository;
 
   /**
    * 가게의 미션 목록 조회 (Page 방식)
    * COUNT 쿼리를 실행하여 전체 페이지 수와 전체 데이터 개수를 제공합니다.
+   * 가게 존재 여부는 StoreDetailCache로 확인하고, 미션 조회 조건에는 ID만 담긴 프록시를 사용합니다.
    */
   public MissionResponse.MissionPreViewListDTO getStoreMissions(Long storeId, Integer page) {
-    Store store = storeRepository.findById(storeId)
-        .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+    storeDetailCache.get(storeId);
+    Store store = storeRepository.getReferenceById(storeId);
 
     PageRequest pageRequest = PageRequest.of(page - 1, 10);
     Page<Mission> missionPage = missionRepository.findAllByStore(store, pageRequest);
@@ -44,8 +47,8 @@ public class MissionQueryService {
    * 무한 스크롤 UI에 적합한 방식입니다.
    */
   public MissionResponse.MissionPreViewSliceDTO getStoreMissionsWithSlice(Long storeId, Integer page) {
-    Store store = storeRepository.findById(storeId)
-        .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+    storeDetailCache.get(storeId);
+    Store store = storeRepository.getReferenceById(storeId);
 
     PageRequest pageRequest = PageRequest.of(page - 1, 10);
     org.springframework.data.domain.Slice<Mission> missionSlice = missionRepository.findSliceByStore(store,
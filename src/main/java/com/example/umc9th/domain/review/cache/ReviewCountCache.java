@@ -0,0 +1,152 @@
+package com.example.umc9th.domain.review.cache;
+
+import com.example.umc9th.domain.review.dto.ReviewTotal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 리뷰 목록 전체 개수 로컬 캐시
+ * - 키: 정규화된 필터 조합 (memberId, storeId, storeName, minScore, maxScore)
+ * - 같은 필터로 2, 3페이지를 넘길 때 COUNT 쿼리를 다시 실행하지 않음
+ * - 최대 개수 + TTL 제한 (review.count-cache.*), 통계는 cache=reviewCount 지표로 노출
+ *
+ * 무효화:
+ * - 리뷰 작성 시 evict(memberId, storeId) 호출
+ * - 새 리뷰가 포함될 수 있는 키(회원/가게 필터가 없거나 일치하는 키)만 제거
+ * - (회원 필터, 가게 필터) 범위 → 키 역색인으로 영향받는 네 범위만 찾아 제거 (전체 순회 없음)
+ *   (m, s), (m, 없음), (없음, s), (없음, 없음)
+ * - 트랜잭션 중이면 커밋 후 한 번 더 제거 (커밋 전 옛 개수로 다시 채워진 항목 정리)
+ */
+@Slf4j
+@Component
+public class ReviewCountCache {
+
+    public static final String CACHE_NAME = "reviewCount";
+
+    private final Cache<Key, ReviewTotal> cache;
+    private final Map<Scope, Set<Key>> keysByScope = new ConcurrentHashMap<>();
+
+    public ReviewCountCache(
+            @Value("${review.count-cache.max-size:10000}") long maximumSize,
+            @Value("${review.count-cache.ttl:1m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)  // 제거 리스너를 호출 스레드에서 실행 → 역색인이 항목과 함께 정리됨
+                .removalListener((Key key, ReviewTotal total, RemovalCause cause) -> {
+                    // 크기/TTL로 밀려난 항목만 역색인에서 정리 (명시적 무효화는 remove가 먼저 정리)
+                    if (cause.wasEvicted() && key != null) {
+                        unindex(key);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("[ReviewCountCache] 리뷰 개수 캐시 초기화 - 최대: {}개, TTL: {}", maximumSize, ttl);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 계산 후 저장
+     *
+     * @param key    필터 조합 키
+     * @param loader 캐시 미스 시 COUNT 쿼리
+     * @return 전체 개수
+     */
+    public ReviewTotal get(Key key, Supplier<ReviewTotal> loader) {
+        return cache.get(key, k -> {
+            ReviewTotal total = loader.get();
+            keysByScope.computeIfAbsent(k.scope(), scope -> ConcurrentHashMap.newKeySet()).add(k);
+            return total;
+        });
+    }
+
+    /**
+     * 새 리뷰가 영향을 주는 개수 항목 제거
+     *
+     * @param memberId 리뷰 작성 회원 ID
+     * @param storeId  리뷰 대상 가게 ID
+     */
+    public void evict(Long memberId, Long storeId) {
+        remove(memberId, storeId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(memberId, storeId);
+                }
+            });
+        }
+    }
+
+    private void remove(Long memberId, Long storeId) {
+        // 가게 이름·별점 조건은 무시하고 보수적으로 제거 (새 리뷰가 포함될 가능성이 있는 키 전부)
+        int removed = 0;
+        for (Scope scope : Scope.affectedBy(memberId, storeId)) {
+            Set<Key> keys = keysByScope.remove(scope);
+            if (keys != null) {
+                cache.invalidateAll(keys);
+                removed += keys.size();
+            }
+        }
+        log.debug("[ReviewCountCache.evict] 캐시 제거 - memberId: {}, storeId: {}, 제거: {}개",
+                memberId, storeId, removed);
+    }
+
+    private void unindex(Key key) {
+        keysByScope.computeIfPresent(key.scope(), (scope, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * 개수 캐시 키 (정규화된 필터 조합)
+     * - 빈 storeName은 조건 없음(null)과 결과가 같으므로 null로 취급
+     */
+    public record Key(Long memberId, Long storeId, String storeName, Float minScore, Float maxScore) {
+
+        public static Key of(Long memberId, Long storeId, String storeName, Float minScore, Float maxScore) {
+            String normalizedName = storeName != null && !storeName.isEmpty() ? storeName : null;
+            return new Key(memberId, storeId, normalizedName, minScore, maxScore);
+        }
+
+        private Scope scope() {
+            return new Scope(memberId, storeId);
+        }
+    }
+
+    /**
+     * 무효화 범위 (키의 회원/가게 필터, null이면 조건 없음)
+     */
+    private record Scope(Long memberId, Long storeId) {
+
+        /**
+         * 회원 memberId가 가게 storeId에 쓴 리뷰가 포함될 수 있는 범위
+         */
+        static List<Scope> affectedBy(Long memberId, Long storeId) {
+            return List.of(
+                    new Scope(memberId, storeId),
+                    new Scope(memberId, null),
+                    new Scope(null, storeId),
+                    new Scope(null, null));
+        }
+    }
+}
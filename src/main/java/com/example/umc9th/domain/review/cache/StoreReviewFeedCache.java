@@ -0,0 +1,237 @@
+package com.example.umc9th.domain.review.cache;
+
+import com.example.umc9th.domain.review.dto.ReviewCursor;
+import com.example.umc9th.domain.review.dto.ReviewResponse;
+import com.example.umc9th.domain.review.event.ReplyCreatedEvent;
+import com.example.umc9th.domain.review.event.ReviewCreatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * 가게별 최신 리뷰 피드 캐시 (가게 리뷰 커서 조회의 첫 페이지)
+ * - 값: 가게마다 최신 리뷰 DTO capacity개를 담은 고정 크기 링 버퍼
+ * - 새 리뷰는 커밋 후 ReviewCreatedEvent로 링 버퍼 앞에 추가 (write-through) → 캐시가 살아 있는 동안 첫 페이지는 DB 조회 없음
+ *   (가게 정보는 버퍼에 이미 있는 리뷰의 값을 재사용, 리뷰가 없던 가게는 항목을 제거해 다음 조회 때 적재)
+ * - 가게 간 제거: 추정 바이트 합계가 max-bytes를 넘으면 Caffeine 정책(최근 사용 + 사용 빈도)으로 오래 안 쓴 가게부터 제거
+ * - 답글이 달리면 캐시된 답글 수/최근 답글이 달라지므로 ReplyCreatedEvent로 해당 가게 항목 제거
+ * - TTL: 다른 인스턴스에서 작성된 리뷰는 이벤트가 오지 않으므로 ttl이 지나면 다시 조회
+ * - 통계는 cache=storeReviewFeed 지표로 노출
+ */
+@Slf4j
+@Component
+public class StoreReviewFeedCache {
+
+    public static final String CACHE_NAME = "storeReviewFeed";
+
+    private final Cache<Long, Feed> cache;
+    private final int capacity;
+
+    public StoreReviewFeedCache(
+            @Value("${review.store-feed-cache.capacity:50}") int capacity,
+            @Value("${review.store-feed-cache.max-bytes:64MB}") DataSize maxBytes,
+            @Value("${review.store-feed-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.capacity = capacity;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((Long storeId, Feed feed) -> feed.estimatedBytes())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("[StoreReviewFeedCache] 가게 리뷰 피드 캐시 초기화 - 가게당: {}개, 최대: {}, TTL: {}",
+                capacity, maxBytes, ttl);
+    }
+
+    /**
+     * 링 버퍼에 담는 최신 리뷰 수 (이보다 큰 페이지는 캐시로 응답 불가)
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 가게 리뷰 첫 페이지 조회
+     * - 캐시 미스면 loader로 최신 리뷰를 최대 capacity + 1개 조회해 링 버퍼를 채움
+     *   (capacity개를 넘게 받았으면 버퍼 밖에 리뷰가 더 있다는 뜻)
+     *
+     * @param storeId 가게 ID
+     * @param size    페이지 크기 (capacity 이하)
+     * @param loader  storeId → 최신순 리뷰 최대 capacity + 1개
+     * @return 첫 페이지 커서 응답
+     */
+    public ReviewResponse.ReviewCursorListDTO getFirstPage(long storeId, int size,
+            LongFunction<List<ReviewResponse.MyReview>> loader) {
+        Feed feed = cache.get(storeId, id -> Feed.of(capacity, loader.apply(id)));
+        return feed.firstPage(size);
+    }
+
+    /**
+     * 새 리뷰를 해당 가게 피드 맨 앞에 추가 (캐시된 가게만, 커밋된 리뷰만)
+     * - 이미 캐시된 리뷰보다 오래된 리뷰가 늦게 도착하면 순서가 깨지므로 해당 가게 항목을 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        // compute 안에서 갱신해야 같은 가게에 대한 동시 추가가 직렬화되고 가중치도 다시 계산됨
+        cache.asMap().computeIfPresent(event.storeId(), (storeId, feed) -> {
+            // 이벤트에는 가게 이름/주소가 없으므로 버퍼에 있는 리뷰의 가게 정보를 재사용 (빈 피드면 다시 적재)
+            ReviewResponse.StoreInfo store = feed.storeInfo();
+            if (store == null) {
+                return null;
+            }
+            ReviewResponse.MyReview review = ReviewResponse.MyReview.from(
+                    event.toListRow(store.getName(), store.getAddress()), List.of());
+            return feed.push(review) ? feed : null;
+        });
+        log.debug("[StoreReviewFeedCache.onReviewCreated] 피드 갱신 - storeId: {}, reviewId: {}",
+                event.storeId(), event.reviewId());
+    }
+
+    /**
+     * 답글이 달린 리뷰의 가게 피드 제거 (다음 조회 때 답글 요약과 함께 다시 적재)
+     * - 답글은 리뷰보다 드물고, 링 버퍼 안의 리뷰 하나만 고치려면 DTO를 다시 만들어야 하므로 항목 전체를 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReplyCreated(ReplyCreatedEvent event) {
+        cache.invalidate(event.storeId());
+        log.debug("[StoreReviewFeedCache.onReplyCreated] 피드 제거 - storeId: {}, reviewId: {}",
+                event.storeId(), event.reviewId());
+    }
+
+    /**
+     * 가게 하나의 최신 리뷰 링 버퍼
+     * - head: 가장 최신 리뷰 위치, 뒤로 갈수록 오래된 리뷰
+     * - complete: 가게의 리뷰가 모두 버퍼 안에 있음 (버퍼 밖에 더 오래된 리뷰 없음)
+     */
+    static final class Feed {
+
+        private static final int BASE_BYTES = 64;
+        private static final int REVIEW_BASE_BYTES = 160;
+
+        private final ReviewResponse.MyReview[] ring;
+        private int head;
+        private int count;
+        private boolean complete;
+        private int estimatedBytes;
+
+        private Feed(int capacity) {
+            this.ring = new ReviewResponse.MyReview[capacity];
+            this.estimatedBytes = BASE_BYTES + capacity * 8;
+        }
+
+        /**
+         * @param newestFirst 최신순 리뷰 (capacity개를 넘으면 나머지는 버리고 complete = false)
+         */
+        static Feed of(int capacity, List<ReviewResponse.MyReview> newestFirst) {
+            Feed feed = new Feed(capacity);
+            int size = Math.min(capacity, newestFirst.size());
+            for (int i = 0; i < size; i++) {
+                feed.ring[i] = newestFirst.get(i);
+                feed.estimatedBytes += estimate(newestFirst.get(i));
+            }
+            feed.count = size;
+            feed.complete = newestFirst.size() <= capacity;
+            return feed;
+        }
+
+        /**
+         * 맨 앞에 추가 (가득 차 있으면 가장 오래된 리뷰를 덮어씀)
+         *
+         * @return false면 순서를 보장할 수 없어 버려야 함
+         */
+        synchronized boolean push(ReviewResponse.MyReview review) {
+            if (count > 0 && !isNewer(review, ring[head])) {
+                return false;
+            }
+
+            head = (head - 1 + ring.length) % ring.length;
+            if (count == ring.length) {
+                estimatedBytes -= estimate(ring[head]);
+                complete = false;  // 가장 오래된 리뷰가 버퍼 밖으로 밀려남
+            } else {
+                count++;
+            }
+            ring[head] = review;
+            estimatedBytes += estimate(review);
+            return true;
+        }
+
+        /**
+         * 버퍼에 있는 리뷰의 가게 정보 (비어 있으면 null)
+         */
+        synchronized ReviewResponse.StoreInfo storeInfo() {
+            return count > 0 ? ring[head].getStore() : null;
+        }
+
+        synchronized ReviewResponse.ReviewCursorListDTO firstPage(int size) {
+            int pageSize = Math.min(size, count);
+            List<ReviewResponse.MyReview> reviewList = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                reviewList.add(ring[(head + i) % ring.length]);
+            }
+
+            boolean hasNext = count > size || !complete;
+            String nextCursor = null;
+            if (hasNext && !reviewList.isEmpty()) {
+                ReviewResponse.MyReview last = reviewList.get(reviewList.size() - 1);
+                nextCursor = new ReviewCursor(last.getCreatedAt(), last.getId()).encode();
+            }
+
+            return ReviewResponse.ReviewCursorListDTO.builder()
+                    .reviewList(reviewList)
+                    .listSize(reviewList.size())
+                    .hasNext(hasNext)
+                    .nextCursor(nextCursor)
+                    .build();
+        }
+
+        synchronized int estimatedBytes() {
+            return estimatedBytes;
+        }
+
+        private static boolean isNewer(ReviewResponse.MyReview review, ReviewResponse.MyReview current) {
+            Comparator<ReviewResponse.MyReview> order = Comparator
+                    .comparing(ReviewResponse.MyReview::getCreatedAt)
+                    .thenComparing(ReviewResponse.MyReview::getId);
+            return order.compare(review, current) > 0;
+        }
+
+        /**
+         * 리뷰 DTO 하나의 대략적인 힙 사용량 (문자열은 UTF-16 기준)
+         */
+        private static int estimate(ReviewResponse.MyReview review) {
+            int chars = length(review.getContent());
+            if (review.getStore() != null) {
+                chars += length(review.getStore().getName()) + length(review.getStore().getAddress());
+            }
+            if (review.getLatestReply() != null) {
+                chars += length(review.getLatestReply().getContent());
+            }
+            if (review.getPhotoUrls() != null) {
+                for (String url : review.getPhotoUrls()) {
+                    chars += length(url) + 8;
+                }
+            }
+            return REVIEW_BASE_BYTES + chars * 2;
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.umc9th.domain.review.controller;
+
+import com.example.umc9th.domain.review.dto.ReplyRequest;
+import com.example.umc9th.domain.review.dto.ReplyResponse;
+import com.example.umc9th.domain.review.service.ReplyService;
+import com.example.umc9th.global.response.ApiResponse;
+import com.example.umc9th.global.response.code.SuccessCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "리뷰 답글", description = "리뷰 답글 조회/작성 API")
+@RestController
+@RequestMapping("/api/reviews/{reviewId}/replies")
+@RequiredArgsConstructor
+public class ReplyController {
+
+    private final ReplyService replyService;
+
+    @Operation(summary = "리뷰에 답글 작성", description = """
+            리뷰에 답글을 작성합니다.
+
+            **Validation:**
+            - content: 답글 내용 필수, 1000자 이하
+            """)
+    @PostMapping
+    public ApiResponse<ReplyResponse.ReplyDTO> createReply(
+            @Parameter(description = "리뷰 ID", example = "1") @PathVariable Long reviewId,
+            @Valid @RequestBody ReplyRequest.CreateReplyDTO request) {
+        return ApiResponse.onSuccess(SuccessCode.CREATED, replyService.createReply(reviewId, request));
+    }
+
+    @Operation(summary = "리뷰 답글 목록 조회 (커서 기반)", description = """
+            리뷰의 답글을 오래된 순으로 조회합니다.
+
+            **특징:**
+            - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달
+            - reply_id 기준 keyset 조회라 OFFSET 없이 깊은 페이지도 응답 시간이 일정
+            - 리뷰 목록 응답에는 리뷰별 답글 수(replyCount)와 최근 답글(latestReply)만 포함
+            """)
+    @GetMapping
+    public ApiResponse<ReplyResponse.ReplyCursorListDTO> getReplies(
+            @Parameter(description = "리뷰 ID", example = "1") @PathVariable Long reviewId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20") @RequestParam(name = "size", required = false) Integer size) {
+        return ApiResponse.onSuccess(SuccessCode.OK, replyService.getReplies(reviewId, cursor, size));
+    }
+}
@@ -3,6 +3,7 @@ package com.example.umc9th.domain.review.controller;
 import com.example.umc9th.domain.review.dto.ReviewRequest;
 import com.example.umc9th.domain.review.dto.ReviewResponse;
 import com.example.umc9th.domain.review.service.ReviewCommandService;
+import com.example.umc9th.domain.review.service.ReviewExportService;
 import com.example.umc9th.domain.review.service.ReviewQueryService;
 import com.example.umc9th.global.response.ApiResponse;
 import com.example.umc9th.global.response.code.SuccessCode;
@@ -11,7 +12,10 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,8 +26,11 @@ import java.util.List;
 @org.springframework.validation.annotation.Validated
 public class ReviewController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ReviewQueryService reviewQueryService;
     private final ReviewCommandService reviewCommandService;
+    private final ReviewExportService reviewExportService;
 
     @Operation(summary = "내가 작성한 리뷰 목록 조회 (Page)", description = """
             내가 작성한 리뷰 목록을 조회합니다. (Page 방식)
@@ -60,6 +67,22 @@ public class ReviewController {
         return ApiResponse.onSuccess(SuccessCode.OK, reviewQueryService.getMyReviewsListWithSlice(memberId, page));
     }
 
+    @Operation(summary = "내가 작성한 리뷰 목록 조회 (커서 기반)", description = """
+            내가 작성한 리뷰 목록을 커서 기반으로 조회합니다.
+
+            **특징:**
+            - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달
+            - OFFSET을 사용하지 않아 깊은 페이지에서도 응답 시간이 일정
+            - 정렬: 작성일 최신순 (같은 시각이면 ID 역순)
+            """)
+    @GetMapping("/my/cursor")
+    public ApiResponse<ReviewResponse.ReviewCursorListDTO> getMyReviewsWithCursor(
+            @Parameter(description = "회원 ID (임시)", example = "1") @RequestParam(name = "memberId") Long memberId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 10, 최대 50)", example = "10") @RequestParam(name = "size", required = false) Integer size) {
+        return ApiResponse.onSuccess(SuccessCode.OK, reviewQueryService.getReviewsWithCursor(memberId, null, cursor, size));
+    }
+
     @Operation(summary = "가게에 리뷰 추가하기", description = """
             가게에 새로운 리뷰를 작성합니다.
 
@@ -85,6 +108,7 @@ public class ReviewController {
             - 특정 가게 리뷰: storeId만 지정
             - 가게 이름 검색: storeName 지정
             - 별점 필터: minScore, maxScore 지정
+            - 본문 검색: q 지정 (두 글자 단위 부분 일치, 일치 정도 순으로 최대 50건)
             - 조건 조합: 여러 파라미터 자유롭게 조합
 
             **RESTful 권장 사항:**
@@ -101,9 +125,36 @@ public class ReviewController {
 
             @Parameter(description = "최소 별점", example = "4.0") @RequestParam(required = false) Float minScore,
 
-            @Parameter(description = "최대 별점", example = "4.99") @RequestParam(required = false) Float maxScore) {
-        List<ReviewResponse.MyReview> reviews = reviewQueryService.getReviews(
-                memberId, storeId, storeName, minScore, maxScore);
+            @Parameter(description = "최대 별점", example = "4.99") @RequestParam(required = false) Float maxScore,
+
+            @Parameter(description = "리뷰 본문 검색어 (지정 시 일치 정도 순 정렬)", example = "민트 초코") @RequestParam(required = false) String q) {
+        List<ReviewResponse.MyReview> reviews = q != null && !q.isBlank()
+                ? reviewQueryService.searchReviews(q, memberId, storeId, storeName, minScore, maxScore)
+                : reviewQueryService.getReviews(memberId, storeId, storeName, minScore, maxScore);
         return ApiResponse.onSuccess(SuccessCode.OK, reviews);
     }
+
+    @Operation(summary = "리뷰 내보내기 (NDJSON 스트리밍)", description = """
+            회원 또는 가게의 리뷰 전체를 한 줄에 하나씩 JSON으로 스트리밍합니다. (application/x-ndjson)
+
+            **특징:**
+            - 전체 목록을 메모리에 모으지 않고 DB 커서에서 읽는 대로 전송 (리뷰 수와 무관하게 메모리 일정)
+            - 각 줄은 리뷰 목록 조회의 리뷰 항목과 같은 형식 (사진 URL 포함)
+            - memberId, storeId 중 하나 이상 필수
+            - 정렬: 작성일 최신순
+            """)
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportReviews(
+            @Parameter(description = "회원 ID", example = "1") @RequestParam(required = false) Long memberId,
+
+            @Parameter(description = "가게 ID", example = "5") @RequestParam(required = false) Long storeId) {
+        if (memberId == null && storeId == null) {
+            throw new IllegalArgumentException("memberId 또는 storeId 중 하나는 필수입니다");
+        }
+
+        StreamingResponseBody body = out -> reviewExportService.exportReviews(memberId, storeId, out);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
+    }
 }
@@ -1,7 +1,9 @@
 package com.example.umc9th.domain.review.converter;
 
+import com.example.umc9th.domain.review.dto.ReviewAttachments;
+import com.example.umc9th.domain.review.dto.ReviewCursor;
+import com.example.umc9th.domain.review.dto.ReviewListRow;
 import com.example.umc9th.domain.review.dto.ReviewResponse;
-import com.example.umc9th.domain.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Slice;
 
@@ -13,17 +15,18 @@ public class ReviewConverter {
   /**
    * Page를 ReviewPreViewListDTO로 변환
    * 전체 페이지 수와 전체 데이터 개수 정보 포함
+   * totalExact가 false면 totalElements는 근사 모드 하한값
    */
-  public static ReviewResponse.ReviewPreViewListDTO toReviewPreViewListDTO(Page<Review> reviewPage) {
-    List<ReviewResponse.MyReview> reviewList = reviewPage.stream()
-        .map(ReviewResponse.MyReview::from)
-        .collect(Collectors.toList());
+  public static ReviewResponse.ReviewPreViewListDTO toReviewPreViewListDTO(Page<ReviewListRow> reviewPage,
+      boolean totalExact, ReviewAttachments attachments) {
+    List<ReviewResponse.MyReview> reviewList = toMyReviews(reviewPage.getContent(), attachments);
 
     return ReviewResponse.ReviewPreViewListDTO.builder()
         .reviewList(reviewList)
         .listSize(reviewList.size())
         .totalPage(reviewPage.getTotalPages())
         .totalElements(reviewPage.getTotalElements())
+        .isTotalExact(totalExact)
         .isFirst(reviewPage.isFirst())
         .isLast(reviewPage.isLast())
         .build();
@@ -33,10 +36,9 @@ public class ReviewConverter {
    * Slice를 ReviewPreViewSliceDTO로 변환
    * 다음 페이지 존재 여부만 포함 (COUNT 쿼리 불필요)
    */
-  public static ReviewResponse.ReviewPreViewSliceDTO toReviewPreViewSliceDTO(Slice<Review> reviewSlice) {
-    List<ReviewResponse.MyReview> reviewList = reviewSlice.stream()
-        .map(ReviewResponse.MyReview::from)
-        .collect(Collectors.toList());
+  public static ReviewResponse.ReviewPreViewSliceDTO toReviewPreViewSliceDTO(Slice<ReviewListRow> reviewSlice,
+      ReviewAttachments attachments) {
+    List<ReviewResponse.MyReview> reviewList = toMyReviews(reviewSlice.getContent(), attachments);
 
     return ReviewResponse.ReviewPreViewSliceDTO.builder()
         .reviewList(reviewList)
@@ -46,4 +48,37 @@ public class ReviewConverter {
         .isLast(reviewSlice.isLast())
         .build();
   }
+
+  /**
+   * 커서 조회 결과를 ReviewCursorListDTO로 변환
+   * size + 1개를 조회했으므로 초과분이 있으면 다음 페이지 존재
+   */
+  public static ReviewResponse.ReviewCursorListDTO toReviewCursorListDTO(List<ReviewListRow> reviews, int size,
+      ReviewAttachments attachments) {
+    boolean hasNext = reviews.size() > size;
+    List<ReviewListRow> content = hasNext ? reviews.subList(0, size) : reviews;
+
+    List<ReviewResponse.MyReview> reviewList = toMyReviews(content, attachments);
+
+    String nextCursor = hasNext ? ReviewCursor.of(content.get(content.size() - 1)).encode() : null;
+
+    return ReviewResponse.ReviewCursorListDTO.builder()
+        .reviewList(reviewList)
+        .listSize(reviewList.size())
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * 리뷰 행 목록을 MyReview 목록으로 변환
+   * 사진 URL, 답글 요약은 페이지 단위로 미리 조회해 리뷰 ID별로 묶어 둔 값에서 꺼냄 (리뷰별 조회 없음)
+   */
+  public static List<ReviewResponse.MyReview> toMyReviews(List<ReviewListRow> rows,
+      ReviewAttachments attachments) {
+    return rows.stream()
+        .map(row -> ReviewResponse.MyReview.from(
+            row, attachments.photoUrls(row.id()), attachments.replySummary(row.id())))
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,31 @@
+package com.example.umc9th.domain.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 답글 관련 요청 DTO 모음
+ */
+public class ReplyRequest {
+
+    /**
+     * 답글 작성 요청 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "답글 작성 요청")
+    public static class CreateReplyDTO {
+
+        @Schema(description = "답글 내용", example = "방문해 주셔서 감사합니다!")
+        @NotBlank(message = "답글 내용은 필수입니다")
+        @Size(max = 1000, message = "답글 내용은 1000자 이하여야 합니다")
+        private String content;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.umc9th.domain.review.dto;
+
+import com.example.umc9th.domain.review.entity.Reply;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 답글 응답 DTO 모음
+ */
+public class ReplyResponse {
+
+    /**
+     * 답글 DTO
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "답글")
+    public static class ReplyDTO {
+        @Schema(description = "답글 ID", example = "1")
+        private Long id;
+
+        @Schema(description = "답글 내용", example = "방문해 주셔서 감사합니다!")
+        private String content;
+
+        public static ReplyDTO from(Reply reply) {
+            return ReplyDTO.builder()
+                    .id(reply.getId())
+                    .content(reply.getContent())
+                    .build();
+        }
+    }
+
+    /**
+     * 리뷰 목록에 붙는 최근 답글 미리보기
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "최근 답글 미리보기")
+    public static class ReplyPreview {
+        @Schema(description = "답글 ID", example = "3")
+        private Long id;
+
+        @Schema(description = "답글 내용 (앞 100자)", example = "방문해 주셔서 감사합니다!")
+        private String content;
+
+        public static ReplyPreview from(ReplySummary summary) {
+            return ReplyPreview.builder()
+                    .id(summary.latestReplyId())
+                    .content(summary.latestReplyPreview())
+                    .build();
+        }
+    }
+
+    /**
+     * 답글 목록 응답 DTO (reply_id keyset 커서)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "답글 목록 응답 (커서 기반)")
+    public static class ReplyCursorListDTO {
+        @Schema(description = "답글 목록 (오래된 순)")
+        private List<ReplyDTO> replyList;
+
+        @Schema(description = "현재 페이지 답글 개수", example = "20")
+        private Integer listSize;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private Boolean hasNext;
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MTIz")
+        private String nextCursor;
+    }
+}
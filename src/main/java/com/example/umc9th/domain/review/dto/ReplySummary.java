@@ -0,0 +1,30 @@
+package com.example.umc9th.domain.review.dto;
+
+/**
+ * 리뷰별 답글 요약 (ReplyRepository.findSummaryMapByReviewIds 결과)
+ * - 답글 수 + 가장 최근 답글(가장 큰 reply_id) 미리보기
+ *
+ * @param reviewId           리뷰 ID
+ * @param replyCount         답글 수
+ * @param latestReplyId      가장 최근 답글 ID
+ * @param latestReplyPreview 가장 최근 답글 내용 (앞 100자)
+ */
+public record ReplySummary(
+        Long reviewId,
+        long replyCount,
+        Long latestReplyId,
+        String latestReplyPreview
+) {
+
+    /**
+     * 네이티브 쿼리 결과 행 → 요약 (컬럼 순서: review_id, reply_count, latest_reply_id, preview)
+     * - 숫자 컬럼 타입은 DB 드라이버마다 다를 수 있어 Number로 받음
+     */
+    public static ReplySummary fromRow(Object[] row) {
+        return new ReplySummary(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(),
+                (String) row[3]);
+    }
+}
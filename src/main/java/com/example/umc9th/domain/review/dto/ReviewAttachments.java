@@ -0,0 +1,24 @@
+package com.example.umc9th.domain.review.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리뷰 목록 한 페이지에 붙는 부가 정보 (페이지 단위로 한 번씩 일괄 조회한 결과)
+ *
+ * @param photoUrlsByReviewId   리뷰 ID → 사진 URL 목록
+ * @param replySummaryByReviewId 리뷰 ID → 답글 수 + 최근 답글
+ */
+public record ReviewAttachments(
+        Map<Long, List<String>> photoUrlsByReviewId,
+        Map<Long, ReplySummary> replySummaryByReviewId
+) {
+
+    public List<String> photoUrls(Long reviewId) {
+        return photoUrlsByReviewId.getOrDefault(reviewId, List.of());
+    }
+
+    public ReplySummary replySummary(Long reviewId) {
+        return replySummaryByReviewId.get(reviewId);
+    }
+}
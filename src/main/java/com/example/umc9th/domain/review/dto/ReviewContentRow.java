@@ -0,0 +1,7 @@
+package com.example.umc9th.domain.review.dto;
+
+/**
+ * 리뷰 본문 색인용 프로젝션 (ID + 내용만 조회)
+ */
+public record ReviewContentRow(Long id, String content) {
+}
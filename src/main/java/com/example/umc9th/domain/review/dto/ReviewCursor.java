@@ -0,0 +1,44 @@
+package com.example.umc9th.domain.review.dto;
+
+import com.example.umc9th.domain.review.entity.Review;
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.response.CursorCodec;
+import com.example.umc9th.global.response.code.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 리뷰 목록 커서 (마지막으로 받은 리뷰의 정렬 키)
+ * - 정렬: created_at DESC, review_id DESC
+ * - 다음 페이지 조건: (created_at, review_id) < (cursor.createdAt, cursor.id)
+ */
+public record ReviewCursor(LocalDateTime createdAt, Long id) {
+
+    public static ReviewCursor of(Review review) {
+        return new ReviewCursor(review.getCreatedAt(), review.getId());
+    }
+
+    public static ReviewCursor of(ReviewListRow row) {
+        return new ReviewCursor(row.createdAt(), row.id());
+    }
+
+    /**
+     * 커서 문자열 디코딩 (null이면 첫 페이지)
+     */
+    public static ReviewCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new ReviewCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt, id);
+    }
+}
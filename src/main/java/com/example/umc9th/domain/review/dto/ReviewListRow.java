@@ -0,0 +1,20 @@
+package com.example.umc9th.domain.review.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 목록 조회용 프로젝션 (QueryDSL Projections.constructor)
+ * - 목록 응답(ReviewResponse.MyReview)에 필요한 컬럼만 조회
+ * - 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않음 (스냅샷·dirty checking 없음)
+ * - 생성자 파라미터 순서가 ReviewQueryRepository의 select 순서와 같아야 함
+ */
+public record ReviewListRow(
+        Long id,
+        String content,
+        Float star,
+        LocalDateTime createdAt,
+        Long storeId,
+        String storeName,
+        String storeAddress
+) {
+}
@@ -1,7 +1,5 @@
 package com.example.umc9th.domain.review.dto;
 
-import com.example.umc9th.global.validation.annotation.ExistMember;
-import com.example.umc9th.global.validation.annotation.ExistStore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -16,6 +14,7 @@ public class ReviewRequest {
 
     /**
      * 리뷰 작성 요청 DTO
+     * - 가게/회원 존재 여부는 검증 단계에서 조회하지 않음 (INSERT의 FK 위반으로 판별, ReviewCommandService 참고)
      */
     @Getter
     @Builder
@@ -26,12 +25,10 @@ public class ReviewRequest {
 
         @Schema(description = "가게 ID", example = "1")
         @NotNull(message = "가게 ID는 필수입니다")
-        @ExistStore
         private Long storeId;
 
         @Schema(description = "회원 ID (현재는 하드코딩, 추후 인증에서 자동 추출)", example = "1")
         @NotNull(message = "회원 ID는 필수입니다")
-        @ExistMember
         private Long memberId;
 
         @Schema(description = "리뷰 내용", example = "음식이 정말 맛있어요!")
@@ -54,6 +54,15 @@ public class ReviewResponse {
 
         private StoreInfo store;
 
+        @Schema(description = "리뷰 사진 URL 목록 (없으면 빈 리스트)")
+        private java.util.List<String> photoUrls;
+
+        @Schema(description = "답글 수", example = "3")
+        private Long replyCount;
+
+        @Schema(description = "가장 최근 답글 미리보기 (답글 없으면 null)")
+        private ReplyResponse.ReplyPreview latestReply;
+
         public static MyReview from(Review review) {
             return MyReview.builder()
                     .id(review.getId())
@@ -63,6 +72,38 @@ public class ReviewResponse {
                     .store(StoreInfo.from(review.getStore()))
                     .build();
         }
+
+        /**
+         * 목록 조회 프로젝션 → DTO 변환 (엔티티 로딩 없음)
+         *
+         * @param photoUrls 이 리뷰의 사진 URL (페이지 단위 일괄 조회 결과에서 꺼낸 값)
+         */
+        public static MyReview from(ReviewListRow row, java.util.List<String> photoUrls) {
+            return from(row, photoUrls, null);
+        }
+
+        /**
+         * 목록 조회 프로젝션 → DTO 변환 (엔티티 로딩 없음)
+         *
+         * @param photoUrls    이 리뷰의 사진 URL (페이지 단위 일괄 조회 결과에서 꺼낸 값)
+         * @param replySummary 이 리뷰의 답글 요약 (페이지 단위 일괄 조회 결과, 답글 없으면 null)
+         */
+        public static MyReview from(ReviewListRow row, java.util.List<String> photoUrls, ReplySummary replySummary) {
+            return MyReview.builder()
+                    .id(row.id())
+                    .content(row.content())
+                    .star(row.star())
+                    .createdAt(row.createdAt())
+                    .store(StoreInfo.builder()
+                            .id(row.storeId())
+                            .name(row.storeName())
+                            .address(row.storeAddress())
+                            .build())
+                    .photoUrls(photoUrls)
+                    .replyCount(replySummary != null ? replySummary.replyCount() : 0L)
+                    .latestReply(replySummary != null ? ReplyResponse.ReplyPreview.from(replySummary) : null)
+                    .build();
+        }
     }
 
     /**
@@ -103,9 +144,12 @@ public class ReviewResponse {
         @Schema(description = "전체 페이지 수", example = "5")
         private Integer totalPage;
 
-        @Schema(description = "전체 리뷰 개수", example = "50")
+        @Schema(description = "전체 리뷰 개수 (isTotalExact가 false면 하한값)", example = "50")
         private Long totalElements;
 
+        @Schema(description = "전체 리뷰 개수가 정확한 값인지 여부 (근사 모드에서 상한을 넘으면 false)", example = "true")
+        private Boolean isTotalExact;
+
         @Schema(description = "첫 페이지 여부", example = "true")
         private Boolean isFirst;
 
@@ -141,4 +185,29 @@ public class ReviewResponse {
         @Schema(description = "마지막 페이지 여부", example = "false")
         private Boolean isLast;
     }
+
+    /**
+     * 리뷰 목록 조회 응답 DTO (커서 기반)
+     *
+     * Slice와의 차이점:
+     * - 페이지 번호 대신 nextCursor를 다음 요청에 그대로 전달
+     * - OFFSET을 쓰지 않아 깊은 페이지도 응답 시간이 일정
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "리뷰 목록 조회 응답 (커서 기반)")
+    public static class ReviewCursorListDTO {
+        @Schema(description = "리뷰 목록")
+        private java.util.List<MyReview> reviewList;
+
+        @Schema(description = "현재 페이지 리뷰 개수", example = "10")
+        private Integer listSize;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private Boolean hasNext;
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wMS0xNVQxNDozMDowMHwxMjM")
+        private String nextCursor;
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.umc9th.domain.review.dto;
+
+/**
+ * 리뷰 목록 전체 개수
+ *
+ * @param count 전체 개수 (exact가 false면 하한값)
+ * @param exact 정확한 값 여부 (근사 모드에서 상한을 넘으면 false)
+ */
+public record ReviewTotal(long count, boolean exact) {
+
+    public static ReviewTotal exact(long count) {
+        return new ReviewTotal(count, true);
+    }
+
+    public static ReviewTotal atLeast(long count) {
+        return new ReviewTotal(count, false);
+    }
+}
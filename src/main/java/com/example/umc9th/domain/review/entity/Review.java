@@ -14,10 +14,18 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        // 커서 페이지네이션: (회원|가게) 조건 + created_at DESC, review_id DESC 정렬을 인덱스로 처리
+        @Index(name = "idx_review_user_created", columnList = "user_id, created_at, review_id"),
+        @Index(name = "idx_review_store_created", columnList = "store_id, created_at, review_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Review {
 
+    // FK 이름 고정 (V8) → INSERT의 FK 위반을 제약 이름으로 판별 (ForeignKeyViolations)
+    public static final String FK_STORE = "fk_review_store";
+    public static final String FK_MEMBER = "fk_review_member";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "review_id")
@@ -34,10 +42,10 @@ public class Review {
     private Float star;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "store_id", nullable = false)
+    @JoinColumn(name = "store_id", nullable = false, foreignKey = @ForeignKey(name = FK_STORE))
     private Store store;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = FK_MEMBER))
     private Member user;
 }
@@ -0,0 +1,17 @@
+package com.example.umc9th.domain.review.event;
+
+/**
+ * 답글 작성 이벤트
+ * - ReplyService.createReply()에서 발행
+ * - 리스너는 @TransactionalEventListener(AFTER_COMMIT)로 받아 커밋된 답글만 반영
+ *
+ * @param replyId  답글 ID
+ * @param reviewId 리뷰 ID
+ * @param storeId  리뷰가 속한 가게 ID
+ */
+public record ReplyCreatedEvent(
+        Long replyId,
+        Long reviewId,
+        Long storeId
+) {
+}
@@ -0,0 +1,38 @@
+package com.example.umc9th.domain.review.event;
+
+import com.example.umc9th.domain.review.dto.ReviewListRow;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 작성 이벤트
+ * - ReviewCommandService.createReview()에서 발행
+ * - 리스너는 @TransactionalEventListener(AFTER_COMMIT)로 받아 커밋된 리뷰만 반영
+ * - 작성 경로는 가게를 조회하지 않으므로 가게 이름/주소는 담지 않음
+ *
+ * @param reviewId  리뷰 ID
+ * @param memberId  작성 회원 ID
+ * @param storeId   가게 ID
+ * @param content   리뷰 내용
+ * @param star      별점
+ * @param createdAt 작성 시각
+ */
+public record ReviewCreatedEvent(
+        Long reviewId,
+        Long memberId,
+        Long storeId,
+        String content,
+        Float star,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 목록 조회 행과 같은 형태로 변환 (목록 캐시에 바로 넣기 위함)
+     *
+     * @param storeName    가게 이름 (캐시에 이미 있는 값 재사용)
+     * @param storeAddress 가게 상세 주소 (캐시에 이미 있는 값 재사용)
+     */
+    public ReviewListRow toListRow(String storeName, String storeAddress) {
+        return new ReviewListRow(reviewId, content, star, createdAt, storeId, storeName, storeAddress);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.umc9th.domain.review.repository;
+
+import com.example.umc9th.domain.review.dto.ReplySummary;
+import com.example.umc9th.domain.review.entity.Reply;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public interface ReplyRepository extends JpaRepository<Reply, Long> {
+
+    /**
+     * 리뷰 답글 목록 (keyset: lastReplyId 이후 reply_id 오름차순)
+     * - review_id FK 인덱스 (review_id, reply_id) 범위 스캔으로 처리, OFFSET 없음
+     */
+    @Query("SELECT r FROM Reply r " +
+           "WHERE r.review.id = :reviewId AND r.id > :lastReplyId " +
+           "ORDER BY r.id ASC")
+    List<Reply> findPageAfter(@Param("reviewId") Long reviewId,
+                              @Param("lastReplyId") Long lastReplyId,
+                              Pageable pageable);
+
+    /**
+     * 여러 리뷰의 답글 수 + 최근 답글 미리보기를 한 번에 조회
+     * - 리뷰 ID별 COUNT/MAX(reply_id)를 묶은 뒤 최근 답글 행과 PK로 조인 (쿼리 1회)
+     * - 미리보기는 앞 100자까지만 조회
+     * - 답글 없는 리뷰는 결과에 없음
+     * - 행: [review_id, reply_count, latest_reply_id, 미리보기] (ReplySummary.fromRow로 변환)
+     */
+    @Query(value = """
+            SELECT g.review_id, g.reply_count, g.latest_reply_id, LEFT(latest.content, 100)
+            FROM (SELECT review_id, COUNT(*) AS reply_count, MAX(reply_id) AS latest_reply_id
+                  FROM reply
+                  WHERE review_id IN (:reviewIds)
+                  GROUP BY review_id) g
+            JOIN reply latest ON latest.reply_id = g.latest_reply_id
+            """, nativeQuery = true)
+    List<Object[]> findSummaryRowsByReviewIds(@Param("reviewIds") List<Long> reviewIds);
+
+    /**
+     * 여러 리뷰의 답글 요약을 리뷰 ID별 맵으로 조회 (쿼리 1회)
+     *
+     * @param reviewIds 리뷰 ID 목록
+     * @return 리뷰 ID → 답글 요약 (답글 없는 리뷰는 키 없음)
+     */
+    default Map<Long, ReplySummary> findSummaryMapByReviewIds(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+        return findSummaryRowsByReviewIds(reviewIds).stream()
+                .map(ReplySummary::fromRow)
+                .collect(Collectors.toMap(ReplySummary::reviewId, Function.identity()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.umc9th.domain.review.repository;
+
+import com.example.umc9th.domain.review.dto.ReviewListRow;
+import com.example.umc9th.global.config.ExportDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 리뷰 내보내기 Repository (전용 커넥션 풀 + JDBC 서버 커서)
+ *
+ * 전체 결과를 List로 만들지 않고 forward-only 커서로 fetch size개씩 읽습니다.
+ * - MySQL Connector/J는 useCursorFetch=true인 커넥션에서만 fetch size 단위로 서버 커서를 사용
+ *   → 이 설정은 ExportDataSource 풀에만 있으므로 내보내기 쿼리는 이 풀로 실행
+ * - 컬럼은 목록 프로젝션(ReviewQueryRepository.LIST_ROW)과 같은 순서
+ * - 다 읽은 뒤 반드시 close() 해야 커넥션이 반납됨 (try-with-resources)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewExportRepository {
+
+    private static final RowMapper<ReviewListRow> LIST_ROW = (rs, rowNum) -> new ReviewListRow(
+            rs.getLong("review_id"),
+            rs.getString("content"),
+            rs.getFloat("star"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getLong("store_id"),
+            rs.getString("name"),
+            rs.getString("detail_address"));
+
+    private final ExportDataSource exportDataSource;
+
+    /**
+     * 회원/가게 리뷰 전체를 작성일 최신순 스트림으로 조회
+     *
+     * @param memberId 회원 ID (nullable)
+     * @param storeId  가게 ID (nullable)
+     * @return 리뷰 스트림 (컬럼 프로젝션)
+     */
+    public Stream<ReviewListRow> streamReviews(Long memberId, Long storeId) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT r.review_id, r.content, r.star, r.created_at, s.store_id, s.name, s.detail_address
+                FROM review r
+                JOIN store s ON s.store_id = r.store_id
+                WHERE 1 = 1
+                """);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (memberId != null) {
+            sql.append(" AND r.user_id = :memberId");
+            params.addValue("memberId", memberId);
+        }
+        if (storeId != null) {
+            sql.append(" AND r.store_id = :storeId");
+            params.addValue("storeId", storeId);
+        }
+        sql.append(" ORDER BY r.created_at DESC, r.review_id DESC");
+
+        return exportDataSource.jdbcTemplate().queryForStream(sql.toString(), params, LIST_ROW);
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public interface ReviewPhotoRepository extends JpaRepository<ReviewPhoto, Long> {
 
@@ -18,4 +20,22 @@ public interface ReviewPhotoRepository extends JpaRepository<ReviewPhoto, Long>
            "WHERE rp.review.id IN :reviewIds " +
            "ORDER BY rp.review.id ASC, rp.id ASC")
     List<ReviewPhoto> findByReviewIdIn(@Param("reviewIds") List<Long> reviewIds);
+
+    /**
+     * 여러 리뷰의 사진 URL 일괄 조회
+     * - 리뷰 ID IN 쿼리 한 번으로 조회 후 메모리에서 리뷰 ID별로 묶음 (리뷰마다 조회하는 N+1 방지)
+     * - 리뷰 ID, 사진 ID 오름차순으로 조회되므로 리뷰별 사진 순서가 유지됨
+     *
+     * @param reviewIds 리뷰 ID 목록
+     * @return 리뷰 ID → 사진 URL 목록 (사진 없는 리뷰는 키 없음)
+     */
+    default Map<Long, List<String>> findPhotoUrlsByReviewIds(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+        return findByReviewIdIn(reviewIds).stream()
+                .collect(Collectors.groupingBy(
+                        photo -> photo.getReview().getId(),
+                        Collectors.mapping(ReviewPhoto::getPhotoUrl, Collectors.toList())));
+    }
 }
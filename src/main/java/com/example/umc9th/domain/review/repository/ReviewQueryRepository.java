@@ -1,6 +1,11 @@
 package com.example.umc9th.domain.review.repository;
 
+import com.example.umc9th.domain.review.dto.ReviewCursor;
+import com.example.umc9th.domain.review.dto.ReviewListRow;
+import com.example.umc9th.domain.review.dto.ReviewTotal;
 import com.example.umc9th.domain.review.entity.Review;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +32,22 @@ public class ReviewQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    /**
+     * 목록 응답용 컬럼 프로젝션 (ReviewListRow 생성자 순서)
+     * - 엔티티 대신 필요한 7개 컬럼만 조회 → 영속성 컨텍스트 적재·dirty checking 없음
+     * - store는 ManyToOne 내부 조인이므로 행이 늘어나지 않아 DISTINCT 불필요
+     */
+    private static final ConstructorExpression<ReviewListRow> LIST_ROW = Projections.constructor(
+            ReviewListRow.class,
+            review.id,
+            review.content,
+            review.star,
+            review.createdAt,
+            store.id,
+            store.name,
+            store.detailAddress
+    );
+
     /**
      * 회원의 리뷰를 동적 조건으로 조회
      *
@@ -119,14 +140,13 @@ public class ReviewQueryRepository {
      * @param storeName 가게 이름 부분 일치 (nullable)
      * @param minScore 최소 별점 (nullable)
      * @param maxScore 최대 별점 (nullable)
-     * @return 조건에 맞는 리뷰 리스트 (Fetch Join 적용)
+     * @return 조건에 맞는 리뷰 목록 (컬럼 프로젝션)
      */
-    public List<Review> findReviews(Long memberId, Long storeId, String storeName, Float minScore, Float maxScore) {
+    public List<ReviewListRow> findReviews(Long memberId, Long storeId, String storeName, Float minScore, Float maxScore) {
         return queryFactory
-                .selectFrom(review)
-                .distinct()
-                .join(review.store, store).fetchJoin()
-                .join(review.user, member).fetchJoin()
+                .select(LIST_ROW)
+                .from(review)
+                .join(review.store, store)
                 .where(
                     memberIdEq(memberId),
                     storeIdEq(storeId),
@@ -137,6 +157,29 @@ public class ReviewQueryRepository {
                 .fetch();
     }
 
+    /**
+     * 지정한 리뷰 ID들 중 필터 조건에 맞는 리뷰 조회 (본문 검색 후보 조회용)
+     * - 정렬은 호출 측에서 검색 순위대로 다시 맞춤
+     *
+     * @param reviewIds 리뷰 ID 목록
+     * @return 조건에 맞는 리뷰 목록 (컬럼 프로젝션, 순서 보장 없음)
+     */
+    public List<ReviewListRow> findReviewsByIds(List<Long> reviewIds, Long memberId, Long storeId,
+            String storeName, Float minScore, Float maxScore) {
+        return queryFactory
+                .select(LIST_ROW)
+                .from(review)
+                .join(review.store, store)
+                .where(
+                    review.id.in(reviewIds),
+                    memberIdEq(memberId),
+                    storeIdEq(storeId),
+                    storeNameContains(storeName),
+                    starBetween(minScore, maxScore)
+                )
+                .fetch();
+    }
+
     private BooleanExpression memberIdEq(Long memberId) {
         return memberId != null ? review.user.id.eq(memberId) : null;
     }
@@ -148,24 +191,26 @@ public class ReviewQueryRepository {
     /**
      * 페이징을 지원하는 범용 리뷰 검색 (동적 쿼리 + 페이징)
      *
+     * 전체 개수는 countReviews()로 따로 구해 전달합니다.
+     * (같은 필터의 다음 페이지에서는 ReviewCountCache에 저장된 개수를 재사용)
+     *
      * @param memberId 회원 ID (nullable)
      * @param storeId 가게 ID (nullable)
      * @param storeName 가게 이름 부분 일치 (nullable)
      * @param minScore 최소 별점 (nullable)
      * @param maxScore 최대 별점 (nullable)
      * @param pageable 페이징 정보
-     * @return 페이징된 리뷰 리스트
+     * @param total 전체 개수
+     * @return 페이징된 리뷰 목록 (컬럼 프로젝션)
      */
-    public Page<Review> findReviewsWithPaging(
+    public Page<ReviewListRow> findReviewsWithPaging(
             Long memberId, Long storeId, String storeName,
-            Float minScore, Float maxScore, Pageable pageable) {
+            Float minScore, Float maxScore, Pageable pageable, long total) {
 
-        // 1. 데이터 조회 (LIMIT, OFFSET 적용)
-        List<Review> reviews = queryFactory
-                .selectFrom(review)
-                .distinct()
-                .join(review.store, store).fetchJoin()
-                .join(review.user, member).fetchJoin()
+        List<ReviewListRow> reviews = queryFactory
+                .select(LIST_ROW)
+                .from(review)
+                .join(review.store, store)
                 .where(
                         memberIdEq(memberId),
                         storeIdEq(storeId),
@@ -177,12 +222,47 @@ public class ReviewQueryRepository {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 2. 전체 개수 조회 (페이징 정보 계산용)
+        return new PageImpl<>(reviews, pageable, total);
+    }
+
+    /**
+     * 조건에 맞는 리뷰 전체 개수
+     *
+     * approximateLimit > 0 이면 근사 모드:
+     * - 리뷰 ID를 최대 approximateLimit + 1개까지만 읽고 멈춤 (인덱스 범위 스캔이 상한에서 끝남)
+     * - 상한 이하면 정확한 개수, 넘으면 approximateLimit을 하한값으로 반환 (exact = false)
+     * - 결과가 매우 많은 필터에서 전체 COUNT 비용을 상한으로 묶음
+     *
+     * @param approximateLimit 근사 모드 상한 (0 이하면 항상 정확한 COUNT)
+     * @return 전체 개수
+     */
+    public ReviewTotal countReviews(
+            Long memberId, Long storeId, String storeName,
+            Float minScore, Float maxScore, long approximateLimit) {
+
+        if (approximateLimit > 0) {
+            List<Long> ids = queryFactory
+                    .select(review.id)
+                    .from(review)
+                    .join(review.store, store)
+                    .where(
+                            memberIdEq(memberId),
+                            storeIdEq(storeId),
+                            storeNameContains(storeName),
+                            starBetween(minScore, maxScore)
+                    )
+                    .limit(approximateLimit + 1)
+                    .fetch();
+            return ids.size() > approximateLimit
+                    ? ReviewTotal.atLeast(approximateLimit)
+                    : ReviewTotal.exact(ids.size());
+        }
+
+        // member는 user_id FK로만 필터링하므로 조인하지 않음
         Long total = queryFactory
                 .select(review.count())
                 .from(review)
                 .join(review.store, store)
-                .join(review.user, member)
                 .where(
                         memberIdEq(memberId),
                         storeIdEq(storeId),
@@ -191,8 +271,7 @@ public class ReviewQueryRepository {
                 )
                 .fetchOne();
 
-        // 3. Page 객체로 변환
-        return new PageImpl<>(reviews, pageable, total != null ? total : 0);
+        return ReviewTotal.exact(total != null ? total : 0L);
     }
 
     /**
@@ -207,18 +286,17 @@ public class ReviewQueryRepository {
      * @param minScore 최소 별점 (nullable)
      * @param maxScore 최대 별점 (nullable)
      * @param pageable 페이징 정보
-     * @return Slice 형태의 리뷰 리스트 (다음 페이지 존재 여부 포함)
+     * @return Slice 형태의 리뷰 목록 (다음 페이지 존재 여부 포함, 컬럼 프로젝션)
      */
-    public Slice<Review> findReviewsWithSlice(
+    public Slice<ReviewListRow> findReviewsWithSlice(
             Long memberId, Long storeId, String storeName,
             Float minScore, Float maxScore, Pageable pageable) {
 
         // 1. size + 1개 조회하여 hasNext 판단 (COUNT 쿼리 불필요)
-        List<Review> reviews = queryFactory
-                .selectFrom(review)
-                .distinct()
-                .join(review.store, store).fetchJoin()
-                .join(review.user, member).fetchJoin()
+        List<ReviewListRow> reviews = queryFactory
+                .select(LIST_ROW)
+                .from(review)
+                .join(review.store, store)
                 .where(
                         memberIdEq(memberId),
                         storeIdEq(storeId),
@@ -240,4 +318,44 @@ public class ReviewQueryRepository {
         // 3. Slice 객체로 변환 (COUNT 쿼리 없음!)
         return new SliceImpl<>(reviews, pageable, hasNext);
     }
+
+    /**
+     * 커서(keyset) 기반 리뷰 조회
+     *
+     * OFFSET 대신 마지막 행의 (createdAt, id)보다 뒤에 있는 행부터 읽습니다.
+     * 앞 페이지 행을 읽고 버리지 않으므로 몇 번째 페이지든 응답 시간이 같습니다.
+     * (user_id|store_id, created_at, review_id) 인덱스를 그대로 타도록 정렬 키를 맞춤
+     *
+     * @param memberId 회원 ID (nullable)
+     * @param storeId 가게 ID (nullable)
+     * @param cursor 이전 페이지 마지막 리뷰 (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return size + 1개까지의 리뷰 (초과분으로 다음 페이지 존재 여부 판단, 컬럼 프로젝션)
+     */
+    public List<ReviewListRow> findReviewsByCursor(Long memberId, Long storeId, ReviewCursor cursor, int size) {
+        return queryFactory
+                .select(LIST_ROW)
+                .from(review)
+                .join(review.store, store)
+                .where(
+                        memberIdEq(memberId),
+                        storeIdEq(storeId),
+                        cursorAfter(cursor)
+                )
+                .orderBy(review.createdAt.desc(), review.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 커서 조건 (seek predicate)
+     * - created_at < :createdAt OR (created_at = :createdAt AND review_id < :id)
+     */
+    private BooleanExpression cursorAfter(ReviewCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return review.createdAt.lt(cursor.createdAt())
+                .or(review.createdAt.eq(cursor.createdAt()).and(review.id.lt(cursor.id())));
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.umc9th.domain.review.repository;
 
+import com.example.umc9th.domain.review.dto.ReviewContentRow;
 import com.example.umc9th.domain.review.entity.Review;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -29,4 +30,14 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
                      "WHERE r.user.id = :memberId " +
                      "ORDER BY r.createdAt DESC")
        List<Review> findByMemberIdWithStore(@Param("memberId") Long memberId);
+
+       /**
+        * 리뷰 본문 색인용 배치 조회 (keyset: lastId 이후 ID 오름차순)
+        * - 엔티티 대신 ID, 내용만 조회하여 영속성 컨텍스트에 쌓이지 않음
+        */
+       @Query("SELECT new com.example.umc9th.domain.review.dto.ReviewContentRow(r.id, r.content) " +
+                     "FROM Review r " +
+                     "WHERE r.id > :lastId " +
+                     "ORDER BY r.id ASC")
+       List<ReviewContentRow> findContentBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,88 @@
+package com.example.umc9th.domain.review.search;
+
+import com.example.umc9th.domain.review.dto.ReviewContentRow;
+import com.example.umc9th.domain.review.event.ReviewCreatedEvent;
+import com.example.umc9th.domain.review.repository.ReviewRepository;
+import com.example.umc9th.global.search.BigramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 리뷰 본문 검색 색인 (BigramIndex 기반)
+ * - LIKE '%검색어%'의 전체 테이블 스캔 대신 메모리 역색인으로 후보 리뷰 ID를 찾음
+ *
+ * 색인 구성:
+ * - 애플리케이션 시작 후 review 테이블을 ID 순 batch-size개씩 읽어 색인 (전체를 한 번에 메모리에 올리지 않음)
+ * - 이후 새 리뷰는 ReviewCreatedEvent(커밋 후)로 하나씩 추가
+ * - 초기 색인 중에도 검색은 가능 (그때까지 색인된 리뷰만 검색됨)
+ * - 인스턴스마다 자체 색인을 가짐 (다른 인스턴스에서 작성된 리뷰는 재시작 시 반영)
+ */
+@Slf4j
+@Component
+public class ReviewContentIndex {
+
+    private final ReviewRepository reviewRepository;
+    private final int batchSize;
+    private final BigramIndex index = new BigramIndex();
+
+    public ReviewContentIndex(
+            ReviewRepository reviewRepository,
+            @Value("${review.search.index.batch-size:1000}") int batchSize
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 시작 시 전체 리뷰 색인 (ID keyset 배치)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        long indexed = 0L;
+
+        while (true) {
+            List<ReviewContentRow> batch = reviewRepository.findContentBatchAfter(lastId, PageRequest.of(0, batchSize));
+            for (ReviewContentRow row : batch) {
+                index.add(row.id(), row.content());
+            }
+            indexed += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).id();
+        }
+
+        log.info("[ReviewContentIndex.build] 리뷰 본문 색인 완료 - 리뷰: {}건, bigram: {}개, 포스팅: {}KB, {}ms",
+                indexed, index.termCount(), index.postingBytes() / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 새 리뷰 색인 (커밋된 리뷰만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        index.add(event.reviewId(), event.content());
+        log.debug("[ReviewContentIndex.onReviewCreated] 리뷰 색인 - reviewId: {}", event.reviewId());
+    }
+
+    /**
+     * 본문 검색 (일치 bigram 수 내림차순, 같으면 최신순)
+     *
+     * @param query 검색어
+     * @param limit 최대 후보 수
+     * @return 리뷰 ID와 일치 수
+     */
+    public List<BigramIndex.Hit> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.umc9th.domain.review.service;
+
+import com.example.umc9th.domain.review.dto.ReplyRequest;
+import com.example.umc9th.domain.review.dto.ReplyResponse;
+import com.example.umc9th.domain.review.entity.Reply;
+import com.example.umc9th.domain.review.entity.Review;
+import com.example.umc9th.domain.review.event.ReplyCreatedEvent;
+import com.example.umc9th.domain.review.repository.ReplyRepository;
+import com.example.umc9th.domain.review.repository.ReviewRepository;
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.response.CursorCodec;
+import com.example.umc9th.global.response.code.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 리뷰 답글 Service
+ * - 목록: reply_id 오름차순 keyset 페이지네이션 (OFFSET 없음)
+ * - 리뷰 목록에 붙는 답글 수/최근 답글은 ReplyRepository.findSummaryMapByReviewIds로 페이지 단위 일괄 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReplyService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ReplyRepository replyRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 답글 작성
+     *
+     * @param reviewId 리뷰 ID
+     * @param request  답글 작성 요청 DTO
+     * @return 생성된 답글
+     */
+    @Transactional
+    public ReplyResponse.ReplyDTO createReply(Long reviewId, ReplyRequest.CreateReplyDTO request) {
+        log.info("[ReplyService.createReply] reviewId: {}", reviewId);
+
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
+
+        Reply reply = replyRepository.save(Reply.builder()
+                .content(request.getContent())
+                .review(review)
+                .build());
+
+        // 커밋 후 답글 수가 담긴 목록 캐시(가게 리뷰 피드) 무효화
+        eventPublisher.publishEvent(new ReplyCreatedEvent(reply.getId(), reviewId, review.getStore().getId()));
+
+        log.info("[ReplyService.createReply] 답글 작성 완료 - replyId: {}", reply.getId());
+        return ReplyResponse.ReplyDTO.from(reply);
+    }
+
+    /**
+     * 리뷰 답글 목록 조회 (오래된 순, 커서 기반)
+     *
+     * @param reviewId 리뷰 ID
+     * @param cursor   이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기 (null이면 20, 최대 100)
+     * @return 커서 기반 답글 목록
+     */
+    public ReplyResponse.ReplyCursorListDTO getReplies(Long reviewId, String cursor, Integer size) {
+        log.info("[ReplyService.getReplies] reviewId: {}, cursor: {}, size: {}", reviewId, cursor, size);
+
+        int pageSize = resolvePageSize(size);
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new CustomException(ErrorCode.REVIEW_NOT_FOUND);
+        }
+
+        // size + 1개 조회로 다음 페이지 존재 여부 판단
+        List<Reply> replies = replyRepository.findPageAfter(
+                reviewId, decodeCursor(cursor), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = replies.size() > pageSize;
+        List<Reply> content = hasNext ? replies.subList(0, pageSize) : replies;
+
+        List<ReplyResponse.ReplyDTO> replyList = content.stream().map(ReplyResponse.ReplyDTO::from).toList();
+        String nextCursor = hasNext ? CursorCodec.encode(content.get(content.size() - 1).getId()) : null;
+
+        return ReplyResponse.ReplyCursorListDTO.builder()
+                .replyList(replyList)
+                .listSize(replyList.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 커서 문자열 → 마지막으로 받은 reply_id (첫 페이지면 0)
+     */
+    private long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(CursorCodec.decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            log.warn("[ReplyService.resolvePageSize] 잘못된 페이지 크기: {}", size);
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+        return size;
+    }
+}
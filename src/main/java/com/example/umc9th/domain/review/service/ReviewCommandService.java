@@ -2,16 +2,22 @@ package com.example.umc9th.domain.review.service;
 
 import com.example.umc9th.domain.member.entity.Member;
 import com.example.umc9th.domain.member.repository.MemberRepository;
+import com.example.umc9th.domain.review.cache.ReviewCountCache;
 import com.example.umc9th.domain.review.dto.ReviewRequest;
 import com.example.umc9th.domain.review.dto.ReviewResponse;
 import com.example.umc9th.domain.review.entity.Review;
+import com.example.umc9th.domain.review.event.ReviewCreatedEvent;
 import com.example.umc9th.domain.review.repository.ReviewRepository;
 import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.domain.store.repository.StoreRatingSummaryRepository;
 import com.example.umc9th.domain.store.repository.StoreRepository;
 import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.exception.ForeignKeyViolations;
 import com.example.umc9th.global.response.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,9 +33,15 @@ public class ReviewCommandService {
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
+    private final StoreRatingSummaryRepository storeRatingSummaryRepository;
+    private final ReviewCountCache reviewCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 리뷰 작성
+     * - 회원/가게는 조회하지 않고 참조 프록시(getReferenceById)로 연결 → 사전 SELECT 없이 INSERT 한 번
+     * - 없는 회원/가게 ID는 INSERT의 FK 위반으로 감지해 MEMBER_NOT_FOUND / STORE_NOT_FOUND로 변환
+     * - 같은 트랜잭션에서 가게 별점 요약(store_rating_summary)도 upsert로 갱신
      * @param request 리뷰 작성 요청 DTO
      * @return 생성된 리뷰 정보
      */
@@ -37,15 +49,11 @@ public class ReviewCommandService {
         log.info("[ReviewCommandService.createReview] storeId: {}, memberId: {}, star: {}",
                 request.getStoreId(), request.getMemberId(), request.getStar());
 
-        // 회원 조회 (Validation에서 이미 검증했지만, 엔티티가 필요하므로 조회)
-        Member member = memberRepository.findById(request.getMemberId())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        // 참조 프록시 (SELECT 없음, ID 외 필드에 접근하면 초기화되므로 ID만 사용)
+        Member member = memberRepository.getReferenceById(request.getMemberId());
+        Store store = storeRepository.getReferenceById(request.getStoreId());
 
-        // 가게 조회 (Validation에서 이미 검증했지만, 엔티티가 필요하므로 조회)
-        Store store = storeRepository.findById(request.getStoreId())
-                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
-
-        // 리뷰 엔티티 생성 및 저장
+        // 리뷰 엔티티 생성 및 저장 (IDENTITY 전략이라 save 시점에 INSERT 실행 → FK 위반도 여기서 발생)
         Review review = Review.builder()
                 .content(request.getContent())
                 .star(request.getStar())
@@ -53,10 +61,42 @@ public class ReviewCommandService {
                 .user(member)
                 .build();
 
-        Review savedReview = reviewRepository.save(review);
+        Review savedReview;
+        try {
+            savedReview = reviewRepository.save(review);
+        } catch (DataIntegrityViolationException e) {
+            throw translateForeignKeyViolation(e);
+        }
+
+        // 가게 별점 요약 갱신 (행 잠금 한 번, 읽고-쓰기 경합 없음)
+        storeRatingSummaryRepository.addReview(savedReview.getId());
+
+        // 이 회원/가게가 포함될 수 있는 목록 개수 캐시 무효화
+        reviewCountCache.evict(request.getMemberId(), request.getStoreId());
+
+        // 커밋 후 본문 검색 색인, 가게 리뷰 피드 캐시 등 후속 처리
+        eventPublisher.publishEvent(new ReviewCreatedEvent(
+                savedReview.getId(), request.getMemberId(), request.getStoreId(), savedReview.getContent(),
+                savedReview.getStar(), savedReview.getCreatedAt()));
 
         log.info("[ReviewCommandService.createReview] 리뷰 작성 완료 - reviewId: {}", savedReview.getId());
 
         return ReviewResponse.CreateReview.from(savedReview);
     }
+
+    /**
+     * 리뷰 INSERT의 FK 위반 → 기존 ErrorCode
+     * - FK 위반이 아닌 무결성 위반은 그대로 전파
+     */
+    private RuntimeException translateForeignKeyViolation(DataIntegrityViolationException e) {
+        if (ForeignKeyViolations.isViolationOf(e, Review.FK_MEMBER)) {
+            log.warn("[ReviewCommandService.createReview] 존재하지 않는 회원");
+            return new CustomException(ErrorCode.MEMBER_NOT_FOUND, e);
+        }
+        if (ForeignKeyViolations.isViolationOf(e, Review.FK_STORE)) {
+            log.warn("[ReviewCommandService.createReview] 존재하지 않는 가게");
+            return new CustomException(ErrorCode.STORE_NOT_FOUND, e);
+        }
+        return e;
+    }
 }
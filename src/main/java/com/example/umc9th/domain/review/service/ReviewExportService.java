@@ -0,0 +1,109 @@
+package com.example.umc9th.domain.review.service;
+
+import com.example.umc9th.domain.review.converter.ReviewConverter;
+import com.example.umc9th.domain.review.dto.ReviewAttachments;
+import com.example.umc9th.domain.review.dto.ReviewListRow;
+import com.example.umc9th.domain.review.dto.ReviewResponse;
+import com.example.umc9th.domain.review.repository.ReplyRepository;
+import com.example.umc9th.domain.review.repository.ReviewExportRepository;
+import com.example.umc9th.domain.review.repository.ReviewPhotoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 리뷰 내보내기 Service (NDJSON 스트리밍)
+ *
+ * 메모리 사용량이 리뷰 수와 무관하게 일정하도록:
+ * - 내보내기 전용 커넥션 풀의 JDBC 서버 커서로 fetch-size개씩 읽고 (ReviewExportRepository.streamReviews)
+ * - 같은 크기의 청크마다 사진 URL을 IN 쿼리 한 번으로 채워 한 줄에 리뷰 하나씩 쓰고 flush
+ * - 청크마다 영속성 컨텍스트를 비움 (프로젝션 행은 관리 대상이 아니지만 사진 엔티티가 쌓이지 않도록)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ReviewExportService {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ReviewExportRepository reviewExportRepository;
+    private final ReviewPhotoRepository reviewPhotoRepository;
+    private final ReplyRepository replyRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사진·답글 요약 조회/flush 청크 크기 (JDBC fetch size와 같은 값, ExportDataSource 참고)
+     */
+    @Value("${review.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * 회원 또는 가게의 리뷰 전체를 NDJSON으로 출력
+     * - StreamingResponseBody 스레드에서 호출되며, 이 메서드가 트랜잭션(커넥션)을 끝까지 유지
+     * - 리뷰 행은 내보내기 풀 커넥션, 사진·답글 요약은 이 트랜잭션의 기본 풀 커넥션으로 조회
+     *
+     * @param memberId 회원 ID (nullable)
+     * @param storeId  가게 ID (nullable)
+     * @param out      응답 스트림
+     * @return 출력한 리뷰 수
+     */
+    public long exportReviews(Long memberId, Long storeId, OutputStream out) {
+        log.info("[ReviewExportService.exportReviews] 리뷰 내보내기 시작 - memberId: {}, storeId: {}, fetchSize: {}",
+                memberId, storeId, fetchSize);
+
+        long written = 0L;
+        List<ReviewListRow> chunk = new ArrayList<>(fetchSize);
+        try (Stream<ReviewListRow> rows = reviewExportRepository.streamReviews(memberId, storeId)) {
+            Iterator<ReviewListRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == fetchSize) {
+                    written += writeChunk(chunk, out);
+                }
+            }
+            written += writeChunk(chunk, out);
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등 → 커서를 닫고 중단
+            log.warn("[ReviewExportService.exportReviews] 출력 중단 - 출력: {}건, error: {}", written, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("[ReviewExportService.exportReviews] 리뷰 내보내기 완료 - 출력: {}건", written);
+        return written;
+    }
+
+    private int writeChunk(List<ReviewListRow> chunk, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> reviewIds = chunk.stream().map(ReviewListRow::id).toList();
+        List<ReviewResponse.MyReview> reviews = ReviewConverter.toMyReviews(chunk, new ReviewAttachments(
+                reviewPhotoRepository.findPhotoUrlsByReviewIds(reviewIds),
+                replyRepository.findSummaryMapByReviewIds(reviewIds)));
+        for (ReviewResponse.MyReview review : reviews) {
+            out.write(objectMapper.writeValueAsBytes(review));
+            out.write(NEWLINE);
+        }
+        out.flush();
+
+        int size = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return size;
+    }
+}
@@ -1,28 +1,95 @@
 package com.example.umc9th.domain.review.service;
 
+import com.example.umc9th.domain.review.cache.ReviewCountCache;
+import com.example.umc9th.domain.review.cache.StoreReviewFeedCache;
+import com.example.umc9th.domain.review.converter.ReviewConverter;
+import com.example.umc9th.domain.review.dto.ReviewAttachments;
+import com.example.umc9th.domain.review.dto.ReviewCursor;
+import com.example.umc9th.domain.review.dto.ReviewListRow;
 import com.example.umc9th.domain.review.dto.ReviewResponse;
-import com.example.umc9th.domain.review.entity.Review;
+import com.example.umc9th.domain.review.dto.ReviewTotal;
+import com.example.umc9th.domain.review.repository.ReplyRepository;
+import com.example.umc9th.domain.review.repository.ReviewPhotoRepository;
 import com.example.umc9th.domain.review.repository.ReviewQueryRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.umc9th.domain.review.search.ReviewContentIndex;
+import com.example.umc9th.global.search.BigramIndex;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class ReviewQueryService {
 
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 10;
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final ReviewQueryRepository reviewQueryRepository;
+    private final ReviewPhotoRepository reviewPhotoRepository;
+    private final ReplyRepository replyRepository;
+    private final ReviewCountCache reviewCountCache;
+    private final ReviewContentIndex reviewContentIndex;
+    private final StoreReviewFeedCache storeReviewFeedCache;
+
+    /**
+     * 전체 개수 근사 모드 상한 (0 이하면 항상 정확한 COUNT)
+     * - 상한을 넘는 필터는 totalElements = 상한, isTotalExact = false
+     */
+    private final long countApproximateLimit;
+
+    /**
+     * 본문 검색 시 색인에서 가져올 최대 후보 수 (필터 적용 전, 이 안에서 결과를 채울 때까지 페이지 단위로 필터)
+     */
+    private final int searchMaxCandidates;
+
+    /**
+     * 본문 검색 후보를 한 번에 필터 쿼리로 넘길 개수 (IN 절 크기)
+     */
+    private final int searchCandidateBatchSize;
+
+    /**
+     * 본문 검색 최대 결과 수
+     */
+    private final int searchMaxResults;
+
+    public ReviewQueryService(
+            ReviewQueryRepository reviewQueryRepository,
+            ReviewPhotoRepository reviewPhotoRepository,
+            ReplyRepository replyRepository,
+            ReviewCountCache reviewCountCache,
+            ReviewContentIndex reviewContentIndex,
+            StoreReviewFeedCache storeReviewFeedCache,
+            @Value("${review.count.approximate-limit:0}") long countApproximateLimit,
+            @Value("${review.search.max-candidates:10000}") int searchMaxCandidates,
+            @Value("${review.search.candidate-batch-size:500}") int searchCandidateBatchSize,
+            @Value("${review.search.max-results:50}") int searchMaxResults
+    ) {
+        this.reviewQueryRepository = reviewQueryRepository;
+        this.reviewPhotoRepository = reviewPhotoRepository;
+        this.replyRepository = replyRepository;
+        this.reviewCountCache = reviewCountCache;
+        this.reviewContentIndex = reviewContentIndex;
+        this.storeReviewFeedCache = storeReviewFeedCache;
+        this.countApproximateLimit = countApproximateLimit;
+        this.searchMaxCandidates = searchMaxCandidates;
+        this.searchCandidateBatchSize = searchCandidateBatchSize;
+        this.searchMaxResults = searchMaxResults;
+    }
 
     /**
      * 내가 작성한 리뷰 목록 조회 (페이징 - Page 방식)
      *
      * COUNT 쿼리를 실행하여 전체 페이지 수와 전체 데이터 개수를 제공합니다.
      * 페이지 번호 UI (1, 2, 3...)가 필요한 경우 사용하세요.
+     * 전체 개수는 필터 조합별로 캐시되어 다음 페이지부터는 COUNT 쿼리를 생략합니다.
      *
      * @param memberId 회원 ID
      * @param page 페이지 번호 (1부터 시작)
@@ -35,11 +102,17 @@ public class ReviewQueryService {
         org.springframework.data.domain.PageRequest pageRequest = org.springframework.data.domain.PageRequest
                 .of(page - 1, 10);
 
+        // 전체 개수 (같은 필터면 캐시 재사용)
+        ReviewTotal total = reviewCountCache.get(
+                ReviewCountCache.Key.of(memberId, null, null, null, null),
+                () -> reviewQueryRepository.countReviews(memberId, null, null, null, null, countApproximateLimit));
+
         // QueryRepository의 페이징 메서드 사용 (일관성 확보)
-        org.springframework.data.domain.Page<Review> reviewPage = reviewQueryRepository.findReviewsWithPaging(
-                memberId, null, null, null, null, pageRequest);
+        org.springframework.data.domain.Page<ReviewListRow> reviewPage = reviewQueryRepository.findReviewsWithPaging(
+                memberId, null, null, null, null, pageRequest, total.count());
 
-        return com.example.umc9th.domain.review.converter.ReviewConverter.toReviewPreViewListDTO(reviewPage);
+        return com.example.umc9th.domain.review.converter.ReviewConverter.toReviewPreViewListDTO(reviewPage,
+                total.exact(), loadAttachments(reviewPage.getContent()));
     }
 
     /**
@@ -60,10 +133,62 @@ public class ReviewQueryService {
                 .of(page - 1, 10);
 
         // QueryRepository의 Slice 메서드 사용 (COUNT 쿼리 없음!)
-        org.springframework.data.domain.Slice<Review> reviewSlice = reviewQueryRepository.findReviewsWithSlice(
+        org.springframework.data.domain.Slice<ReviewListRow> reviewSlice = reviewQueryRepository.findReviewsWithSlice(
                 memberId, null, null, null, null, pageRequest);
 
-        return com.example.umc9th.domain.review.converter.ReviewConverter.toReviewPreViewSliceDTO(reviewSlice);
+        return com.example.umc9th.domain.review.converter.ReviewConverter.toReviewPreViewSliceDTO(reviewSlice,
+                loadAttachments(reviewSlice.getContent()));
+    }
+
+    /**
+     * 리뷰 목록 조회 (커서 기반)
+     *
+     * OFFSET 없이 마지막 리뷰의 (createdAt, id) 이후부터 조회합니다.
+     * 깊은 페이지에서도 응답 시간이 일정하여 무한 스크롤에 적합합니다.
+     * 가게 리뷰의 첫 페이지(회원 필터·커서 없음)는 StoreReviewFeedCache에서 응답합니다.
+     *
+     * @param memberId 회원 ID (nullable)
+     * @param storeId  가게 ID (nullable)
+     * @param cursor   이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기 (null이면 10, 최대 50)
+     * @return 커서 기반 리뷰 목록
+     */
+    public ReviewResponse.ReviewCursorListDTO getReviewsWithCursor(Long memberId, Long storeId, String cursor,
+            Integer size) {
+        log.info("[getReviewsWithCursor] memberId={}, storeId={}, cursor={}, size={}", memberId, storeId, cursor, size);
+
+        int pageSize = resolveCursorPageSize(size);
+
+        // 가게 피드 첫 페이지는 캐시에서 응답 (캐시가 살아 있으면 DB 조회 없음)
+        if (storeId != null && memberId == null && (cursor == null || cursor.isBlank())
+                && pageSize <= storeReviewFeedCache.capacity()) {
+            return storeReviewFeedCache.getFirstPage(storeId, pageSize, this::loadStoreFeed);
+        }
+
+        List<ReviewListRow> reviews = reviewQueryRepository.findReviewsByCursor(
+                memberId, storeId, ReviewCursor.decode(cursor), pageSize);
+
+        return ReviewConverter.toReviewCursorListDTO(reviews, pageSize, loadAttachments(reviews));
+    }
+
+    /**
+     * 가게 피드 캐시 적재용 최신 리뷰 조회 (최대 capacity + 1개, 사진·답글 요약 포함)
+     */
+    private List<ReviewResponse.MyReview> loadStoreFeed(long storeId) {
+        List<ReviewListRow> rows = reviewQueryRepository.findReviewsByCursor(
+                null, storeId, null, storeReviewFeedCache.capacity());
+        return ReviewConverter.toMyReviews(rows, loadAttachments(rows));
+    }
+
+    private int resolveCursorPageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_CURSOR_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            log.warn("[resolveCursorPageSize] 잘못된 페이지 크기: {}", size);
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다");
+        }
+        return size;
     }
 
     /**
@@ -85,14 +210,96 @@ public class ReviewQueryService {
         // 별점 범위 검증
         validateScoreRange(minScore, maxScore);
 
-        List<Review> reviews = reviewQueryRepository.findReviews(memberId, storeId, storeName, minScore, maxScore);
+        List<ReviewListRow> reviews = reviewQueryRepository.findReviews(memberId, storeId, storeName, minScore, maxScore);
         log.info("[getReviews] result count: {}", reviews.size());
 
-        return reviews.stream()
-                .map(ReviewResponse.MyReview::from)
+        return ReviewConverter.toMyReviews(reviews, loadAttachments(reviews));
+    }
+
+    /**
+     * 리뷰 본문 검색 (bigram 색인 + 필터)
+     *
+     * 1. 색인에서 검색어와 bigram이 일치하는 후보 리뷰 ID를 일치 수 순으로 조회 (DB 스캔 없음, 최대 max-candidates개)
+     * 2. 후보를 순위 순서대로 candidate-batch-size개씩 잘라 ID IN 조건 + 나머지 필터로 조회
+     * 3. 최대 결과 수가 채워지거나 후보가 떨어질 때까지 2를 반복
+     *    → 필터(회원/가게/별점)에 맞는 리뷰가 상위 후보 밖에 있어도 결과에서 빠지지 않음
+     * 4. 각 배치 결과를 색인 순위(일치 수 내림차순, 같으면 최신순)대로 이어 붙여 반환
+     *
+     * @param query     검색어 (두 글자 이상 단어 포함)
+     * @param memberId  회원 ID (nullable)
+     * @param storeId   가게 ID (nullable)
+     * @param storeName 가게 이름 (nullable)
+     * @param minScore  최소 별점 (nullable)
+     * @param maxScore  최대 별점 (nullable)
+     * @return 검색 순위 순 리뷰 DTO 리스트
+     */
+    public List<ReviewResponse.MyReview> searchReviews(String query, Long memberId, Long storeId, String storeName,
+            Float minScore, Float maxScore) {
+        log.info("[searchReviews] q={}, memberId={}, storeId={}, storeName={}, minScore={}, maxScore={}",
+                query, memberId, storeId, storeName, minScore, maxScore);
+
+        validateScoreRange(minScore, maxScore);
+        if (BigramIndex.bigrams(query).length == 0) {
+            log.warn("[searchReviews] 색인 가능한 검색어 없음: {}", query);
+            throw new IllegalArgumentException("검색어는 두 글자 이상의 단어를 포함해야 합니다");
+        }
+
+        List<BigramIndex.Hit> hits = reviewContentIndex.search(query, searchMaxCandidates);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        int batchSize = Math.max(1, searchCandidateBatchSize);
+        List<ReviewListRow> rows = new ArrayList<>(Math.min(searchMaxResults, hits.size()));
+        int scanned = 0;
+        while (scanned < hits.size() && rows.size() < searchMaxResults) {
+            List<BigramIndex.Hit> batch = hits.subList(scanned, Math.min(scanned + batchSize, hits.size()));
+            scanned += batch.size();
+            rows.addAll(filterCandidates(batch, searchMaxResults - rows.size(),
+                    memberId, storeId, storeName, minScore, maxScore));
+        }
+
+        if (rows.size() < searchMaxResults && hits.size() >= searchMaxCandidates) {
+            log.warn("[searchReviews] 후보 상한({})까지 필터했지만 결과가 부족함 - result count: {}",
+                    searchMaxCandidates, rows.size());
+        }
+        log.info("[searchReviews] candidates: {}, scanned: {}, result count: {}", hits.size(), scanned, rows.size());
+
+        return ReviewConverter.toMyReviews(rows, loadAttachments(rows));
+    }
+
+    /**
+     * 후보 한 배치를 필터로 조회해 색인 순위대로 최대 limit개 반환
+     */
+    private List<ReviewListRow> filterCandidates(List<BigramIndex.Hit> batch, int limit, Long memberId, Long storeId,
+            String storeName, Float minScore, Float maxScore) {
+        Map<Long, Integer> rankById = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            rankById.put(batch.get(i).id(), i);
+        }
+
+        return reviewQueryRepository.findReviewsByIds(
+                List.copyOf(rankById.keySet()), memberId, storeId, storeName, minScore, maxScore).stream()
+                .sorted(Comparator.comparingInt(row -> rankById.get(row.id())))
+                .limit(limit)
                 .toList();
     }
 
+    /**
+     * 페이지에 포함된 리뷰들의 사진 URL, 답글 요약 일괄 조회
+     * - 사진: IN 쿼리 1회
+     * - 답글 수 + 최근 답글: 리뷰 ID별 GROUP BY 쿼리 1회
+     *
+     * @param rows 리뷰 목록 행
+     * @return 리뷰 ID별 사진 URL, 답글 요약
+     */
+    private ReviewAttachments loadAttachments(List<ReviewListRow> rows) {
+        List<Long> reviewIds = rows.stream().map(ReviewListRow::id).toList();
+        return new ReviewAttachments(
+                reviewPhotoRepository.findPhotoUrlsByReviewIds(reviewIds),
+                replyRepository.findSummaryMapByReviewIds(reviewIds));
+    }
+
     /**
      * 별점 범위 검증
      * - 별점은 0.0 ~ 5.0 범위여야 함
@@ -0,0 +1,100 @@
+package com.example.umc9th.domain.store.cache;
+
+import com.example.umc9th.domain.store.dto.StoreSnapshot;
+import com.example.umc9th.domain.store.event.StoreCreatedEvent;
+import com.example.umc9th.domain.store.repository.StoreRepository;
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.response.code.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 가게 상세 캐시 (read-through, 가게 ID → StoreSnapshot)
+ * - 캐시 미스면 findByIdWithDetails(Store + Location + Food fetch join) 한 번으로 적재
+ * - 가게 메타데이터만 필요한 경로(존재 검증, 미션 조회/추가, 가게 상세)는 인기 가게를 반복 조회하지 않음
+ * - 없는 가게는 캐시하지 않음 (추가 직후 조회에서 못 찾는 일이 없도록)
+ * - 크기 제한: max-size개를 넘으면 Caffeine 정책(최근 사용 + 사용 빈도)으로 제거
+ * - 무효화: 가게 쓰기 커밋 후 해당 항목 제거 (현재 쓰기 경로는 가게 추가뿐),
+ *   다른 인스턴스의 변경은 이벤트가 오지 않으므로 ttl이 지나면 다시 조회
+ * - 통계는 cache=storeDetail 지표로 노출
+ */
+@Slf4j
+@Component
+public class StoreDetailCache {
+
+    public static final String CACHE_NAME = "storeDetail";
+
+    private final StoreRepository storeRepository;
+    private final Cache<Long, StoreSnapshot> cache;
+
+    public StoreDetailCache(
+            StoreRepository storeRepository,
+            @Value("${store.detail-cache.max-size:10000}") long maxSize,
+            @Value("${store.detail-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.storeRepository = storeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("[StoreDetailCache] 가게 상세 캐시 초기화 - 최대: {}개, TTL: {}", maxSize, ttl);
+    }
+
+    /**
+     * 가게 스냅샷 조회 (캐시 미스면 DB 조회 후 적재)
+     *
+     * @param storeId 가게 ID
+     * @return 가게 스냅샷 (없는 가게면 empty)
+     */
+    public Optional<StoreSnapshot> find(Long storeId) {
+        if (storeId == null) {
+            return Optional.empty();
+        }
+        // loader가 null을 반환하면 Caffeine은 저장하지 않음
+        return Optional.ofNullable(cache.get(storeId, id ->
+                storeRepository.findByIdWithDetails(id).map(StoreSnapshot::from).orElse(null)));
+    }
+
+    /**
+     * 가게 스냅샷 조회 (없으면 STORE_NOT_FOUND)
+     */
+    public StoreSnapshot get(Long storeId) {
+        return find(storeId).orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+    }
+
+    /**
+     * 가게 존재 여부
+     */
+    public boolean exists(Long storeId) {
+        return find(storeId).isPresent();
+    }
+
+    /**
+     * 가게 항목 제거 (가게 정보를 바꾸는 쓰기 경로에서 커밋 후 호출)
+     */
+    public void evict(Long storeId) {
+        cache.invalidate(storeId);
+        log.debug("[StoreDetailCache.evict] 가게 상세 캐시 제거 - storeId: {}", storeId);
+    }
+
+    /**
+     * 가게 추가 커밋 후 같은 ID 항목 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreCreated(StoreCreatedEvent event) {
+        evict(event.storeId());
+    }
+}
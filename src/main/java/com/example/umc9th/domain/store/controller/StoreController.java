@@ -38,6 +38,7 @@ public class StoreController {
                 - detailAddress: 상세 주소 필수, 5자 이상 200자 이하
                 - locationId: 지역 ID 필수, DB에 존재해야 함
                 - foodId: 음식 카테고리 ID 필수, DB에 존재해야 함
+                - latitude, longitude: 선택, 함께 입력 (입력한 가게만 주변 가게 검색에 노출)
                 """
     )
     @PostMapping
@@ -49,7 +50,7 @@ public class StoreController {
     }
 
     @Operation(
-        summary = "가게 검색 (지역 필터링 + 이름 검색 + 정렬)",
+        summary = "가게 검색 (지역 필터링 + 이름 검색 + 정렬, 커서 기반)",
         description = """
             지역과 이름 기반으로 가게를 검색하고 정렬합니다.
 
@@ -68,6 +69,11 @@ public class StoreController {
             - latest (기본값): 최신순 (ID 내림차순)
             - name: 이름순 (오름차순) → 동일 이름은 최신순
 
+            **페이지네이션 (커서 기반):**
+            - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달 (sort는 같은 값 유지)
+            - size: 기본 20, 최대 100
+            - OFFSET을 사용하지 않아 뒤 페이지도 응답 시간이 일정
+
             **조합 예시:**
             - ?regions=강남구&name=카페&sort=name
             - ?name=민트 초코&sort=latest
@@ -75,7 +81,7 @@ public class StoreController {
             """
     )
     @GetMapping("/search")
-    public ApiResponse<List<StoreResponse.SearchResult>> searchStores(
+    public ApiResponse<StoreResponse.StoreCursorListDTO> searchStores(
             @Parameter(
                 description = "지역 이름 (다중 선택 가능)",
                 example = "강남구"
@@ -92,12 +98,99 @@ public class StoreController {
                 description = "정렬 기준 (latest: 최신순, name: 이름순)",
                 example = "latest"
             )
-            @RequestParam(defaultValue = "latest") String sort
+            @RequestParam(defaultValue = "latest") String sort,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size
     ) {
-        List<StoreResponse.SearchResult> results = storeQueryService.searchStores(regions, name, sort);
+        StoreResponse.StoreCursorListDTO results = storeQueryService.searchStores(regions, name, sort, cursor, size);
         return ApiResponse.onSuccess(SuccessCode.OK, results);
     }
 
+    @Operation(
+            summary = "가게 이름 자동완성",
+            description = """
+                입력 중인 검색어로 시작하는 가게 이름을 추천합니다. (검색창 키 입력마다 호출)
+
+                **특징:**
+                - DB 조회 없이 메모리 트라이에서 응답 (가게 수와 무관하게 접두사 길이만큼만 탐색)
+                - 대소문자 무시 접두사 일치
+                - 정렬: 리뷰 수 많은 순 → 최신 가게 순
+                - 새 가게는 추가 즉시 반영, 리뷰 수 순위는 주기적 재구성 때 갱신
+                """
+    )
+    @GetMapping("/autocomplete")
+    public ApiResponse<List<StoreResponse.AutocompleteItem>> autocomplete(
+            @Parameter(description = "입력 중인 검색어", required = true, example = "민트")
+            @RequestParam String prefix,
+
+            @Parameter(description = "최대 개수 (기본 10, 최대 10)", example = "10")
+            @RequestParam(required = false) Integer size
+    ) {
+        return ApiResponse.onSuccess(SuccessCode.OK, storeQueryService.autocomplete(prefix, size));
+    }
+
+    @Operation(
+            summary = "주변 가게 검색 (거리순 + 지역/음식 카테고리 필터)",
+            description = """
+                기준 좌표에서 반경 안에 있는 가게를 가까운 순으로 조회합니다.
+
+                **특징:**
+                - 메모리 격자 색인으로 반경을 덮는 칸만 읽어 가까운 가게를 찾음 (전체 가게 거리 계산 없음)
+                - 거리: 하버사인 대원 거리 (미터)
+                - 좌표가 등록된 가게만 검색됨
+
+                **필터 (선택):**
+                - regions: 지역 이름 (다중 선택 가능)
+                - foodId: 음식 카테고리 ID
+
+                **예시:**
+                - ?lat=37.5036&lng=127.0448&radius=500
+                - ?lat=37.5036&lng=127.0448&regions=강남구&foodId=1&size=10
+                """
+    )
+    @GetMapping("/nearby")
+    public ApiResponse<List<StoreResponse.NearbyResult>> getNearbyStores(
+            @Parameter(description = "기준 위도", required = true, example = "37.5036")
+            @RequestParam double lat,
+
+            @Parameter(description = "기준 경도", required = true, example = "127.0448")
+            @RequestParam double lng,
+
+            @Parameter(description = "반경 (미터, 기본 1000, 최대 5000)", example = "1000")
+            @RequestParam(required = false) Integer radius,
+
+            @Parameter(description = "지역 이름 (다중 선택 가능)", example = "강남구")
+            @RequestParam(required = false) List<String> regions,
+
+            @Parameter(description = "음식 카테고리 ID", example = "1")
+            @RequestParam(required = false) Long foodId,
+
+            @Parameter(description = "최대 개수 (기본 20, 최대 50)", example = "20")
+            @RequestParam(required = false) Integer size
+    ) {
+        return ApiResponse.onSuccess(SuccessCode.OK,
+                storeQueryService.getNearbyStores(lat, lng, radius, regions, foodId, size));
+    }
+
+    @Operation(
+            summary = "가게 상세 조회",
+            description = """
+                가게 정보와 별점 요약(평균 별점, 리뷰 수, 0.5점 단위 분포)을 조회합니다.
+                - 별점 요약은 리뷰 작성 시 미리 집계되어 있어 리뷰 수와 무관하게 PK 조회 한 번으로 응답
+                """
+    )
+    @GetMapping("/{storeId}")
+    public ApiResponse<StoreResponse.Detail> getStoreDetail(
+            @Parameter(description = "가게 ID", required = true, example = "1")
+            @PathVariable Long storeId
+    ) {
+        return ApiResponse.onSuccess(SuccessCode.OK, storeQueryService.getStoreDetail(storeId));
+    }
+
     @Operation(
         summary = "특정 가게의 리뷰 조회",
         description = """
@@ -126,4 +219,30 @@ public class StoreController {
         );
         return ApiResponse.onSuccess(SuccessCode.OK, reviews);
     }
+
+    @Operation(
+            summary = "가게의 리뷰 목록 조회 (커서 기반)",
+            description = """
+                특정 가게의 리뷰를 커서 기반으로 조회합니다.
+
+                **사용 방법:**
+                - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달
+                - OFFSET을 사용하지 않아 깊은 페이지에서도 응답 시간이 일정
+                - 정렬: 작성일 최신순 (같은 시각이면 ID 역순)
+                """
+    )
+    @GetMapping("/{storeId}/reviews/cursor")
+    public ApiResponse<ReviewResponse.ReviewCursorListDTO> getStoreReviewsWithCursor(
+            @Parameter(description = "가게 ID", required = true, example = "1")
+            @PathVariable Long storeId,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (기본 10, 최대 50)", example = "10")
+            @RequestParam(required = false) Integer size
+    ) {
+        return ApiResponse.onSuccess(SuccessCode.OK,
+                reviewQueryService.getReviewsWithCursor(null, storeId, cursor, size));
+    }
 }
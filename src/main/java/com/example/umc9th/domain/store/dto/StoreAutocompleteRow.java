@@ -0,0 +1,11 @@
+package com.example.umc9th.domain.store.dto;
+
+/**
+ * 가게 이름 자동완성 트라이 구성용 프로젝션 (ID + 이름 + 리뷰 수)
+ *
+ * @param id          가게 ID
+ * @param name        가게 이름
+ * @param reviewCount 리뷰 수 (store_rating_summary 기준, 없으면 0) - 자동완성 인기도 가중치
+ */
+public record StoreAutocompleteRow(Long id, String name, Long reviewCount) {
+}
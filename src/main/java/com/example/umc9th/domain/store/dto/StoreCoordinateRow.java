@@ -0,0 +1,7 @@
+package com.example.umc9th.domain.store.dto;
+
+/**
+ * 가게 좌표 색인용 프로젝션 (ID + 위도 + 경도만 조회)
+ */
+public record StoreCoordinateRow(Long id, Double latitude, Double longitude) {
+}
@@ -0,0 +1,52 @@
+package com.example.umc9th.domain.store.dto;
+
+import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.response.CursorCodec;
+import com.example.umc9th.global.response.code.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 가게 검색 커서 (마지막으로 받은 가게의 정렬 키)
+ * - latest: store_id DESC → 다음 페이지 조건: store_id < cursor.id (name은 null)
+ * - name: name ASC, store_id DESC → 다음 페이지 조건: name > cursor.name OR (name = cursor.name AND store_id < cursor.id)
+ * - 가게 이름에는 구분자("|")가 들어갈 수 있으므로 이름은 한 번 더 Base64로 감싸서 인코딩
+ * - 정렬 기준마다 키 개수가 달라 다른 정렬의 커서를 넘기면 INVALID_CURSOR
+ */
+public record StoreCursor(String name, Long id) {
+
+    public static StoreCursor of(Store store, boolean byName) {
+        return new StoreCursor(byName ? store.getName() : null, store.getId());
+    }
+
+    /**
+     * 커서 문자열 디코딩 (null이면 첫 페이지)
+     *
+     * @param byName 이름순 정렬 커서 여부
+     */
+    public static StoreCursor decode(String cursor, boolean byName) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = CursorCodec.decode(cursor, byName ? 2 : 1);
+        try {
+            String name = byName
+                    ? new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                    : null;
+            return new StoreCursor(name, Long.parseLong(parts[0]));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        if (name == null) {
+            return CursorCodec.encode(id);
+        }
+        return CursorCodec.encode(id, Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(name.getBytes(StandardCharsets.UTF_8)));
+    }
+}
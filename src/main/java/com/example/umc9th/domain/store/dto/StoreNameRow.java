@@ -0,0 +1,7 @@
+package com.example.umc9th.domain.store.dto;
+
+/**
+ * 가게 이름 색인용 프로젝션 (ID + 이름만 조회)
+ */
+public record StoreNameRow(Long id, String name) {
+}
@@ -3,6 +3,8 @@ package com.example.umc9th.domain.store.dto;
 import com.example.umc9th.global.validation.annotation.ExistFood;
 import com.example.umc9th.global.validation.annotation.ExistLocation;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -49,5 +51,15 @@ public class StoreRequest {
         @NotNull(message = "음식 카테고리 ID는 필수입니다")
         @ExistFood
         private Long foodId;
+
+        @Schema(description = "위도 (선택, 경도와 함께 입력)", example = "37.5036")
+        @DecimalMin(value = "-90.0", message = "위도는 -90 이상 90 이하여야 합니다")
+        @DecimalMax(value = "90.0", message = "위도는 -90 이상 90 이하여야 합니다")
+        private Double latitude;
+
+        @Schema(description = "경도 (선택, 위도와 함께 입력)", example = "127.0448")
+        @DecimalMin(value = "-180.0", message = "경도는 -180 이상 180 이하여야 합니다")
+        @DecimalMax(value = "180.0", message = "경도는 -180 이상 180 이하여야 합니다")
+        private Double longitude;
     }
 }
@@ -1,11 +1,16 @@
 package com.example.umc9th.domain.store.dto;
 
 import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.domain.store.entity.StoreRatingSummary;
+import com.example.umc9th.global.search.PrefixTrie;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Store 도메인 응답 DTO 모음
  */
@@ -50,18 +55,111 @@ public class StoreResponse {
         private String region;
         private String foodCategory;
         private String detailAddress;
+        private Double averageStar;
+        private long reviewCount;
 
         /**
          * Store 엔티티를 SearchResult DTO로 변환
          * Fetch Join으로 인해 location, food가 이미 로드된 상태여야 합니다.
          */
         public static SearchResult from(Store store) {
+            return from(store, null);
+        }
+
+        /**
+         * Store 엔티티 + 별점 요약을 SearchResult DTO로 변환
+         *
+         * @param summary 별점 요약 (리뷰가 없으면 null)
+         */
+        public static SearchResult from(Store store, StoreRatingSummary summary) {
             return SearchResult.builder()
                     .id(store.getId())
                     .name(store.getName())
                     .region(store.getLocation() != null ? store.getLocation().getName() : null)
                     .foodCategory(store.getFood() != null ? store.getFood().getName().name() : null)
                     .detailAddress(store.getDetailAddress())
+                    .averageStar(summary != null ? summary.getAverageStar() : null)
+                    .reviewCount(summary != null ? summary.getReviewCount() : 0L)
+                    .build();
+        }
+    }
+
+    /**
+     * 가게 검색 결과 커서 페이지 응답 DTO
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "가게 검색 결과 (커서 기반)")
+    public static class StoreCursorListDTO {
+        @Schema(description = "가게 목록")
+        private List<SearchResult> storeList;
+
+        @Schema(description = "현재 페이지 가게 개수", example = "20")
+        private Integer listSize;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private Boolean hasNext;
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MTIz")
+        private String nextCursor;
+
+        public static StoreCursorListDTO empty() {
+            return StoreCursorListDTO.builder()
+                    .storeList(List.of())
+                    .listSize(0)
+                    .hasNext(false)
+                    .build();
+        }
+    }
+
+    /**
+     * 주변 가게 검색 결과 응답 DTO
+     * SearchResult 항목 + 기준 좌표로부터의 거리
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "주변 가게 검색 결과")
+    public static class NearbyResult {
+        @Schema(description = "가게 ID", example = "1")
+        private Long id;
+
+        @Schema(description = "가게 이름", example = "반이학생")
+        private String name;
+
+        @Schema(description = "지역명", example = "강남구")
+        private String region;
+
+        @Schema(description = "음식 카테고리", example = "KOREAN")
+        private String foodCategory;
+
+        @Schema(description = "상세 주소")
+        private String detailAddress;
+
+        @Schema(description = "평균 별점 (리뷰가 없으면 null)", example = "4.3")
+        private Double averageStar;
+
+        @Schema(description = "리뷰 수", example = "12")
+        private long reviewCount;
+
+        @Schema(description = "기준 좌표로부터의 거리 (미터)", example = "350")
+        private long distanceMeters;
+
+        /**
+         * @param summary        별점 요약 (리뷰가 없으면 null)
+         * @param distanceMeters 기준 좌표로부터의 거리 (미터)
+         */
+        public static NearbyResult from(Store store, StoreRatingSummary summary, double distanceMeters) {
+            return NearbyResult.builder()
+                    .id(store.getId())
+                    .name(store.getName())
+                    .region(store.getLocation() != null ? store.getLocation().getName() : null)
+                    .foodCategory(store.getFood() != null ? store.getFood().getName().name() : null)
+                    .detailAddress(store.getDetailAddress())
+                    .averageStar(summary != null ? summary.getAverageStar() : null)
+                    .reviewCount(summary != null ? summary.getReviewCount() : 0L)
+                    .distanceMeters(Math.round(distanceMeters))
                     .build();
         }
     }
@@ -86,4 +184,98 @@ public class StoreResponse {
                     .build();
         }
     }
+
+    /**
+     * 가게 이름 자동완성 항목 DTO
+     * 메모리 트라이에서 바로 만들어짐 (DB 조회 없음)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "가게 이름 자동완성 항목")
+    public static class AutocompleteItem {
+        @Schema(description = "가게 ID", example = "1")
+        private Long id;
+
+        @Schema(description = "가게 이름", example = "민트초코 카페")
+        private String name;
+
+        public static AutocompleteItem from(PrefixTrie.Entry entry) {
+            return AutocompleteItem.builder()
+                    .id(entry.id())
+                    .name(entry.text())
+                    .build();
+        }
+    }
+
+    /**
+     * 가게 별점 정보 DTO
+     * store_rating_summary 한 행에서 만들어짐 (review 테이블 집계 없음)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "가게 별점 정보")
+    public static class RatingInfo {
+        @Schema(description = "평균 별점 (리뷰가 없으면 null)", example = "4.3")
+        private Double averageStar;
+
+        @Schema(description = "리뷰 수", example = "12")
+        private long reviewCount;
+
+        @Schema(description = "0.5점 단위 별점 분포 (index i = i * 0.5점, 11칸)")
+        private List<Long> histogram;
+
+        public static RatingInfo from(StoreRatingSummary summary) {
+            if (summary == null) {
+                return RatingInfo.builder()
+                        .reviewCount(0L)
+                        .histogram(Collections.nCopies(StoreRatingSummary.BUCKET_COUNT, 0L))
+                        .build();
+            }
+            return RatingInfo.builder()
+                    .averageStar(summary.getAverageStar())
+                    .reviewCount(summary.getReviewCount())
+                    .histogram(summary.getHistogram())
+                    .build();
+        }
+    }
+
+    /**
+     * 가게 상세 응답 DTO
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(description = "가게 상세 응답")
+    public static class Detail {
+        @Schema(description = "가게 ID", example = "1")
+        private Long id;
+
+        @Schema(description = "가게 이름", example = "반이학생")
+        private String name;
+
+        @Schema(description = "지역명", example = "강남구")
+        private String region;
+
+        @Schema(description = "음식 카테고리", example = "KOREAN")
+        private String foodCategory;
+
+        @Schema(description = "상세 주소")
+        private String detailAddress;
+
+        @Schema(description = "별점 정보")
+        private RatingInfo rating;
+
+        public static Detail from(StoreSnapshot store, StoreRatingSummary summary) {
+            return Detail.builder()
+                    .id(store.id())
+                    .name(store.name())
+                    .region(store.region())
+                    .foodCategory(store.foodCategory())
+                    .detailAddress(store.detailAddress())
+                    .rating(RatingInfo.from(summary))
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.umc9th.domain.store.dto;
+
+import com.example.umc9th.domain.store.entity.Store;
+
+/**
+ * 가게 메타데이터 스냅샷 (StoreDetailCache 값)
+ * - 불변 record라 캐시에서 꺼낸 값을 여러 요청이 그대로 공유해도 안전
+ * - 엔티티/프록시를 담지 않으므로 영속성 컨텍스트 밖에서도 LazyInitializationException 없음
+ * - 리뷰마다 바뀌는 별점 요약은 담지 않음 (store_rating_summary PK 조회로 따로 가져옴)
+ */
+public record StoreSnapshot(
+        Long id,
+        String name,
+        String detailAddress,
+        String region,
+        String foodCategory
+) {
+
+    /**
+     * Location, Food가 fetch join된 Store → 스냅샷
+     */
+    public static StoreSnapshot from(Store store) {
+        return new StoreSnapshot(
+                store.getId(),
+                store.getName(),
+                store.getDetailAddress(),
+                store.getLocation() != null ? store.getLocation().getName() : null,
+                store.getFood() != null ? store.getFood().getName().name() : null
+        );
+    }
+}
@@ -27,6 +27,13 @@ public class Store {
     @Column(name = "detail_address", nullable = false)
     private String detailAddress;
 
+    // 좌표 (없으면 주변 가게 검색 대상에서 제외)
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "location_id", nullable = false)
     private Location location;
@@ -0,0 +1,98 @@
+package com.example.umc9th.domain.store.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가게 별점 요약 (사전 집계)
+ * - 리뷰 작성 시 StoreRatingSummaryRepository.addReview()로 원자적으로 갱신
+ * - 가게 평점 조회는 PK 조회 한 번 (review 테이블 집계 없음)
+ * - 히스토그램: 0.5점 단위 11칸 (bucket_00 = 0.0점, bucket_01 = 0.5점, ..., bucket_10 = 5.0점)
+ *   별점은 가장 가까운 0.5점 칸에 집계 (칸 계산식: StoreRatingSummaryRepository.STAR_BUCKET, 작성/재계산 공통)
+ * - 전체 재계산은 StoreRatingRebuildScheduler
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "store_rating_summary")
+public class StoreRatingSummary {
+
+    public static final int BUCKET_COUNT = 11;
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "star_sum", nullable = false)
+    private double starSum;
+
+    @Column(name = "bucket_00", nullable = false)
+    private long bucket00;
+
+    @Column(name = "bucket_01", nullable = false)
+    private long bucket01;
+
+    @Column(name = "bucket_02", nullable = false)
+    private long bucket02;
+
+    @Column(name = "bucket_03", nullable = false)
+    private long bucket03;
+
+    @Column(name = "bucket_04", nullable = false)
+    private long bucket04;
+
+    @Column(name = "bucket_05", nullable = false)
+    private long bucket05;
+
+    @Column(name = "bucket_06", nullable = false)
+    private long bucket06;
+
+    @Column(name = "bucket_07", nullable = false)
+    private long bucket07;
+
+    @Column(name = "bucket_08", nullable = false)
+    private long bucket08;
+
+    @Column(name = "bucket_09", nullable = false)
+    private long bucket09;
+
+    @Column(name = "bucket_10", nullable = false)
+    private long bucket10;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 평균 별점 (리뷰가 없으면 null)
+     */
+    public Double getAverageStar() {
+        return reviewCount > 0 ? starSum / reviewCount : null;
+    }
+
+    /**
+     * 0.5점 단위 히스토그램 (index i = i * 0.5점)
+     */
+    public List<Long> getHistogram() {
+        return List.of(
+                bucket00,
+                bucket01,
+                bucket02,
+                bucket03,
+                bucket04,
+                bucket05,
+                bucket06,
+                bucket07,
+                bucket08,
+                bucket09,
+                bucket10
+        );
+    }
+}
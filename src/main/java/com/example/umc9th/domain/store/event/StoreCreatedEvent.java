@@ -0,0 +1,19 @@
+package com.example.umc9th.domain.store.event;
+
+/**
+ * 가게 추가 이벤트
+ * - StoreCommandService.createStore()에서 발행
+ * - 리스너는 @TransactionalEventListener(AFTER_COMMIT)로 받아 커밋된 가게만 반영
+ *
+ * @param storeId   가게 ID
+ * @param name      가게 이름
+ * @param latitude  위도 (없으면 null)
+ * @param longitude 경도 (없으면 null)
+ */
+public record StoreCreatedEvent(
+        Long storeId,
+        String name,
+        Double latitude,
+        Double longitude
+) {
+}
@@ -1,14 +1,14 @@
 package com.example.umc9th.domain.store.repository;
 
+import com.example.umc9th.domain.store.dto.StoreCursor;
 import com.example.umc9th.domain.store.entity.Store;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 import static com.example.umc9th.domain.store.entity.QStore.store;
@@ -26,25 +26,54 @@ public class StoreQueryRepository {
     private final JPAQueryFactory queryFactory;
 
     /**
-     * 가게 검색 - 지역 필터링 + 이름 검색 + 정렬 (다중 선택 지원)
+     * 가게 검색 - 지역 필터링 + ID 후보 필터링 + 정렬 + 커서(keyset) 페이지네이션 (다중 선택 지원)
+     * - 이름 검색은 StoreNameIndex가 후보 ID로 바꿔서 전달 (LIKE '%검색어%' 전체 스캔 없음)
+     * - OFFSET 대신 마지막 행의 정렬 키보다 뒤에 있는 행부터 읽으므로 몇 번째 페이지든 응답 시간이 같음
+     * - location, food는 ManyToOne이라 fetch join해도 행이 늘지 않음 → DISTINCT 없이 DB에서 LIMIT 적용
      *
      * @param regions 지역 이름 리스트 (null이면 조건 무시, 다중 선택 가능)
-     * @param searchName 검색할 가게 이름 (공백 처리 로직 적용)
+     * @param storeIds 후보 가게 ID (null이면 조건 무시, PK IN 조회)
      * @param sortBy 정렬 기준 ("latest" 또는 "name", null이면 기본값 "latest")
-     * @return 검색 조건에 맞는 가게 리스트 (Location, Food 정보 포함)
+     * @param cursor 이전 페이지 마지막 가게 (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return size + 1개까지의 가게 (초과분으로 다음 페이지 존재 여부 판단, Location, Food 정보 포함)
      */
-    public List<Store> searchStores(List<String> regions, String searchName, String sortBy) {
+    public List<Store> searchStores(List<String> regions, Collection<Long> storeIds, String sortBy,
+            StoreCursor cursor, int size) {
         return queryFactory
                 .selectFrom(store)
-                .distinct()
                 // N+1 문제 방지: Fetch Join으로 한 번에 조회
                 .leftJoin(store.location, location).fetchJoin()
                 .leftJoin(store.food, food).fetchJoin()
                 .where(
                         regionIn(regions),
-                        nameSearch(searchName)
+                        idIn(storeIds),
+                        cursorAfter(sortBy, cursor)
                 )
                 .orderBy(getSortOrder(sortBy))
+                .limit(size + 1)
+                .fetch();
+    }
+
+    /**
+     * 후보 가게 ID 중 지역/음식 카테고리 조건에 맞는 가게 조회 (주변 가게 검색용)
+     * - 거리 순서는 호출자가 좌표 색인 결과로 정렬하므로 여기서는 정렬하지 않음
+     *
+     * @param storeIds 후보 가게 ID (비어 있지 않아야 함)
+     * @param regions 지역 이름 리스트 (null이면 조건 무시)
+     * @param foodId 음식 카테고리 ID (null이면 조건 무시)
+     * @return 조건에 맞는 가게 리스트 (Location, Food 정보 포함)
+     */
+    public List<Store> findStoresByIds(Collection<Long> storeIds, List<String> regions, Long foodId) {
+        return queryFactory
+                .selectFrom(store)
+                .leftJoin(store.location, location).fetchJoin()
+                .leftJoin(store.food, food).fetchJoin()
+                .where(
+                        idIn(storeIds),
+                        regionIn(regions),
+                        foodEq(foodId)
+                )
                 .fetch();
     }
 
@@ -96,6 +125,44 @@ public class StoreQueryRepository {
         return location.name.in(regions);
     }
 
+    /**
+     * 후보 ID 조건
+     * - storeIds가 null이면 조건 무시 (빈 컬렉션은 호출자가 미리 처리)
+     */
+    private BooleanExpression idIn(Collection<Long> storeIds) {
+        if (storeIds == null) {
+            return null;
+        }
+        return store.id.in(storeIds);
+    }
+
+    /**
+     * 커서 조건 (seek predicate) - getSortOrder와 같은 정렬 키를 사용
+     * - name: name > :name OR (name = :name AND store_id < :id)
+     * - latest: store_id < :id
+     */
+    private BooleanExpression cursorAfter(String sortBy, StoreCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (isNameSort(sortBy)) {
+            return store.name.gt(cursor.name())
+                    .or(store.name.eq(cursor.name()).and(store.id.lt(cursor.id())));
+        }
+        return store.id.lt(cursor.id());
+    }
+
+    /**
+     * 음식 카테고리 조건
+     * - foodId가 null이면 조건 무시
+     */
+    private BooleanExpression foodEq(Long foodId) {
+        if (foodId == null) {
+            return null;
+        }
+        return store.food.id.eq(foodId);
+    }
+
     // ========== 동적 정렬 메서드 (OrderSpecifier) ==========
 
     /**
@@ -112,7 +179,7 @@ public class StoreQueryRepository {
      */
     private OrderSpecifier<?>[] getSortOrder(String sortBy) {
         // name으로 정렬: 이름 오름차순 → 동일 시 최신순
-        if ("name".equalsIgnoreCase(sortBy)) {
+        if (isNameSort(sortBy)) {
             return new OrderSpecifier<?>[]{
                     store.name.asc(),     // 1순위: 이름 오름차순
                     store.id.desc()       // 2순위: 최신순 (동일 이름 처리)
@@ -126,40 +193,9 @@ public class StoreQueryRepository {
     }
 
     /**
-     * 이름 검색 조건 (공백 처리 로직)
-     * - searchName이 null이거나 비어있으면 조건 무시
-     * - 공백 있음: 각 단어를 OR 조건으로 검색 (합집합)
-     * - 공백 없음: 전체 문자열로 검색
-     *
-     * 예시:
-     * 1) searchName = "민트 초코"
-     *    → name LIKE '%민트%' OR name LIKE '%초코%'
-     *    → "민트카페", "초코케이크", "민트초코" 모두 검색됨
-     *
-     * 2) searchName = "민트초코"
-     *    → name LIKE '%민트초코%'
-     *    → "민트초코" 포함된 가게만 검색됨
+     * 이름순 정렬 여부 (정렬 조건과 커서 조건이 같은 기준으로 판단해야 함)
      */
-    private BooleanExpression nameSearch(String searchName) {
-        // null이거나 빈 문자열이면 조건 무시
-        if (searchName == null || searchName.trim().isEmpty()) {
-            return null;
-        }
-
-        // 앞뒤 공백 제거 후 공백으로 분리
-        String[] keywords = searchName.trim().split("\\s+");
-
-        // 공백이 없는 경우 (키워드가 1개): 단일 검색
-        if (keywords.length == 1) {
-            return store.name.contains(keywords[0]);
-        }
-
-        // 공백이 있는 경우 (키워드가 여러 개): OR 검색 (합집합)
-        BooleanExpression[] expressions = Arrays.stream(keywords)
-                .map(keyword -> store.name.contains(keyword))
-                .toArray(BooleanExpression[]::new);
-
-        // anyOf: OR 조건으로 연결
-        return Expressions.anyOf(expressions);
+    public static boolean isNameSort(String sortBy) {
+        return "name".equalsIgnoreCase(sortBy);
     }
 }
@@ -0,0 +1,110 @@
+package com.example.umc9th.domain.store.repository;
+
+import com.example.umc9th.domain.store.entity.StoreRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 가게 별점 요약 Repository
+ * - 갱신은 모두 한 문장짜리 네이티브 upsert (읽고-수정-쓰기 경합 없음)
+ * - 리뷰 작성(addReview)과 재계산(rebuildRange)은 같은 SELECT(SUMMARY_SELECT)로 review 행을 집계
+ *   → 히스토그램 칸 계산식이 한 곳(STAR_BUCKET)에만 있어 두 경로의 결과가 항상 같음
+ */
+@Repository
+public interface StoreRatingSummaryRepository extends JpaRepository<StoreRatingSummary, Long> {
+
+    /**
+     * 별점 → 히스토그램 칸 번호 (0 ~ 10, 가장 가까운 0.5점 칸, x.25/x.75점은 위 칸)
+     * - ROUND()는 근사값(FLOAT)과 정확값(DECIMAL)의 동점 처리가 달라 FLOOR(x + 0.5)로 고정
+     */
+    String STAR_BUCKET = "LEAST(GREATEST(FLOOR(r.star * 2 + 0.5), 0), 10)";
+
+    String SUMMARY_INSERT = "INSERT INTO store_rating_summary (store_id, review_count, star_sum, "
+            + "bucket_00, bucket_01, bucket_02, bucket_03, bucket_04, bucket_05, "
+            + "bucket_06, bucket_07, bucket_08, bucket_09, bucket_10, updated_at) ";
+
+    String SUMMARY_SELECT = "SELECT r.store_id, COUNT(*), SUM(r.star), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 0 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 1 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 2 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 3 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 4 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 5 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 6 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 7 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 8 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 9 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + STAR_BUCKET + " = 10 THEN 1 ELSE 0 END), "
+            + "CURRENT_TIMESTAMP(6) "
+            + "FROM review r ";
+
+    /**
+     * 리뷰 1건 반영 (원자적 upsert)
+     * - 방금 저장한 review 행을 재계산과 같은 식으로 집계해 요약 행이 없으면 생성, 있으면 개수/합계/히스토그램 칸을 증가
+     *
+     * @param reviewId 저장된 리뷰 ID (같은 트랜잭션에서 INSERT된 행)
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = SUMMARY_INSERT + SUMMARY_SELECT + """
+            WHERE r.review_id = :reviewId
+            GROUP BY r.store_id
+            ON DUPLICATE KEY UPDATE
+                review_count = review_count + VALUES(review_count),
+                star_sum = star_sum + VALUES(star_sum),
+                bucket_00 = bucket_00 + VALUES(bucket_00),
+                bucket_01 = bucket_01 + VALUES(bucket_01),
+                bucket_02 = bucket_02 + VALUES(bucket_02),
+                bucket_03 = bucket_03 + VALUES(bucket_03),
+                bucket_04 = bucket_04 + VALUES(bucket_04),
+                bucket_05 = bucket_05 + VALUES(bucket_05),
+                bucket_06 = bucket_06 + VALUES(bucket_06),
+                bucket_07 = bucket_07 + VALUES(bucket_07),
+                bucket_08 = bucket_08 + VALUES(bucket_08),
+                bucket_09 = bucket_09 + VALUES(bucket_09),
+                bucket_10 = bucket_10 + VALUES(bucket_10),
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    int addReview(@Param("reviewId") Long reviewId);
+
+    /**
+     * 가게 ID 범위의 요약을 review 테이블에서 다시 계산 (재계산 배치)
+     *
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = SUMMARY_INSERT + SUMMARY_SELECT + """
+            WHERE r.store_id BETWEEN :fromId AND :toId
+            GROUP BY r.store_id
+            ON DUPLICATE KEY UPDATE
+                review_count = VALUES(review_count),
+                star_sum = VALUES(star_sum),
+                bucket_00 = VALUES(bucket_00),
+                bucket_01 = VALUES(bucket_01),
+                bucket_02 = VALUES(bucket_02),
+                bucket_03 = VALUES(bucket_03),
+                bucket_04 = VALUES(bucket_04),
+                bucket_05 = VALUES(bucket_05),
+                bucket_06 = VALUES(bucket_06),
+                bucket_07 = VALUES(bucket_07),
+                bucket_08 = VALUES(bucket_08),
+                bucket_09 = VALUES(bucket_09),
+                bucket_10 = VALUES(bucket_10),
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    int rebuildRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 가게 ID 범위에서 리뷰가 하나도 없는 요약 행 삭제 (재계산 배치)
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM store_rating_summary
+            WHERE store_id BETWEEN :fromId AND :toId
+              AND NOT EXISTS (SELECT 1 FROM review r WHERE r.store_id = store_rating_summary.store_id)
+            """, nativeQuery = true)
+    int deleteEmptyInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -1,8 +1,13 @@
 package com.example.umc9th.domain.store.repository;
 
+import com.example.umc9th.domain.store.dto.StoreAutocompleteRow;
+import com.example.umc9th.domain.store.dto.StoreCoordinateRow;
+import com.example.umc9th.domain.store.dto.StoreNameRow;
 import com.example.umc9th.domain.store.entity.Store;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -30,5 +35,44 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
            "LEFT JOIN FETCH s.location " +
            "LEFT JOIN FETCH s.food " +
            "WHERE s.id = :id")
-    Optional<Store> findByIdWithDetails(Long id);
+    Optional<Store> findByIdWithDetails(@Param("id") Long id);
+
+    /**
+     * 가장 큰 가게 ID (별점 요약 재계산 범위 계산용)
+     */
+    @Query("SELECT MAX(s.id) FROM Store s")
+    Optional<Long> findMaxId();
+
+    /**
+     * 가게 이름 색인용 배치 조회 (keyset: lastId 이후 ID 오름차순)
+     * - 엔티티 대신 ID, 이름만 조회하여 영속성 컨텍스트에 쌓이지 않음
+     */
+    @Query("SELECT new com.example.umc9th.domain.store.dto.StoreNameRow(s.id, s.name) " +
+           "FROM Store s " +
+           "WHERE s.id > :lastId " +
+           "ORDER BY s.id ASC")
+    List<StoreNameRow> findNameBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 가게 이름 자동완성 트라이 구성용 배치 조회 (keyset: lastId 이후 ID 오름차순)
+     * - 인기도 가중치로 별점 요약의 리뷰 수를 함께 조회 (요약 행이 없으면 0)
+     */
+    @Query("SELECT new com.example.umc9th.domain.store.dto.StoreAutocompleteRow(" +
+           "s.id, s.name, COALESCE(r.reviewCount, 0L)) " +
+           "FROM Store s " +
+           "LEFT JOIN StoreRatingSummary r ON r.storeId = s.id " +
+           "WHERE s.id > :lastId " +
+           "ORDER BY s.id ASC")
+    List<StoreAutocompleteRow> findAutocompleteBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 가게 좌표 색인용 배치 조회 (keyset: lastId 이후 ID 오름차순)
+     * - 좌표가 없는 가게는 제외
+     */
+    @Query("SELECT new com.example.umc9th.domain.store.dto.StoreCoordinateRow(s.id, s.latitude, s.longitude) " +
+           "FROM Store s " +
+           "WHERE s.id > :lastId " +
+           "AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL " +
+           "ORDER BY s.id ASC")
+    List<StoreCoordinateRow> findCoordinateBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,101 @@
+package com.example.umc9th.domain.store.scheduler;
+
+import com.example.umc9th.domain.store.repository.StoreRatingSummaryRepository;
+import com.example.umc9th.domain.store.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가게 별점 요약 재계산 스케줄러
+ * - 리뷰 작성 시 증분 갱신되는 store_rating_summary를 review 테이블 기준으로 다시 맞춤
+ *   (리뷰 직접 수정/삭제, 수동 데이터 보정 등으로 생긴 차이 교정)
+ *
+ * 배치 단위 재계산:
+ * - 가게 ID를 batch-size개 범위로 나눠 범위마다 별도의 짧은 트랜잭션으로 재계산
+ * - INSERT ... SELECT가 범위 안 리뷰 행을 읽는 동안 잠그므로 같은 범위의 리뷰 작성은 잠시 대기
+ * - 배치 사이에 pause만큼 쉬어 DB 부하 분산
+ */
+@Slf4j
+@Component
+public class StoreRatingRebuildScheduler {
+
+    private final StoreRepository storeRepository;
+    private final StoreRatingSummaryRepository storeRatingSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration pause;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public StoreRatingRebuildScheduler(
+            StoreRepository storeRepository,
+            StoreRatingSummaryRepository storeRatingSummaryRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${store.rating-summary.rebuild.batch-size:500}") int batchSize,
+            @Value("${store.rating-summary.rebuild.pause:100ms}") Duration pause
+    ) {
+        this.storeRepository = storeRepository;
+        this.storeRatingSummaryRepository = storeRatingSummaryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    /**
+     * 가게 별점 요약 전체 재계산
+     * - 기본: 매일 새벽 4시 (토큰 정리 작업과 겹치지 않게)
+     * - 이전 실행이 아직 진행 중이면 건너뜀
+     */
+    @Scheduled(cron = "${store.rating-summary.rebuild.cron:0 0 4 * * *}")
+    public void rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[StoreRatingRebuildScheduler.rebuild] 이전 재계산 작업 진행 중 - 건너뜀");
+            return;
+        }
+
+        try {
+            long maxId = storeRepository.findMaxId().orElse(0L);
+            log.info("[StoreRatingRebuildScheduler.rebuild] 별점 요약 재계산 시작 - maxStoreId: {}, batch: {}",
+                    maxId, batchSize);
+
+            long updated = 0L;
+            for (long fromId = 1L; fromId <= maxId; fromId += batchSize) {
+                long from = fromId;
+                long to = Math.min(fromId + batchSize - 1, maxId);
+                Integer count = transactionTemplate.execute(status -> {
+                    storeRatingSummaryRepository.deleteEmptyInRange(from, to);
+                    return storeRatingSummaryRepository.rebuildRange(from, to);
+                });
+                updated += count != null ? count : 0;
+                log.debug("[StoreRatingRebuildScheduler.rebuild] 배치 재계산 - storeId: {}~{}", from, to);
+
+                if (to < maxId && !sleepBetweenBatches()) {
+                    log.warn("[StoreRatingRebuildScheduler.rebuild] 인터럽트로 중단 - storeId {}까지 반영", to);
+                    return;
+                }
+            }
+
+            log.info("[StoreRatingRebuildScheduler.rebuild] 별점 요약 재계산 완료 - 영향 행: {}", updated);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean sleepBetweenBatches() {
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.umc9th.domain.store.search;
+
+import com.example.umc9th.domain.store.dto.StoreAutocompleteRow;
+import com.example.umc9th.domain.store.event.StoreCreatedEvent;
+import com.example.umc9th.domain.store.repository.StoreRepository;
+import com.example.umc9th.global.search.PrefixTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가게 이름 자동완성 색인 (PrefixTrie 기반)
+ * - 검색창 입력마다 호출되므로 DB 없이 메모리 트라이에서 바로 응답
+ * - 순위: 리뷰 수(인기도) 내림차순, 같으면 최신 가게 순
+ *
+ * 트라이 구성:
+ * - 시작 시, 그리고 rebuild.cron 주기로 store 테이블을 ID 순 batch-size개씩 읽어 새 트라이를 만든 뒤 통째로 교체
+ *   (리뷰 수 변화 반영, 만드는 동안 기존 트라이로 계속 응답)
+ * - 새 가게는 StoreCreatedEvent(커밋 후)로 가중치 0으로 바로 추가
+ * - 다시 만드는 도중 추가된 가게는 따로 모아 두었다가 교체 직전에 새 트라이에도 추가 (누락 없음)
+ * - 인스턴스마다 자체 트라이를 가짐 (다른 인스턴스에서 추가된 가게는 다음 재구성 때 반영)
+ */
+@Slf4j
+@Component
+public class StoreAutocompleteIndex {
+
+    private final StoreRepository storeRepository;
+    private final int topK;
+    private final int batchSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private PrefixTrie trie;
+    private List<PrefixTrie.Entry> addedDuringRebuild;
+
+    public StoreAutocompleteIndex(
+            StoreRepository storeRepository,
+            @Value("${store.autocomplete.top-k:10}") int topK,
+            @Value("${store.autocomplete.rebuild.batch-size:1000}") int batchSize
+    ) {
+        this.storeRepository = storeRepository;
+        this.topK = topK;
+        this.batchSize = batchSize;
+        this.trie = new PrefixTrie(topK);
+    }
+
+    /**
+     * 조회 가능한 최대 개수
+     */
+    public int topK() {
+        return topK;
+    }
+
+    /**
+     * 트라이 전체 재구성 (시작 시 + 주기적)
+     * - 이전 재구성이 아직 진행 중이면 건너뜀
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${store.autocomplete.rebuild.cron:0 30 4 * * *}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.warn("[StoreAutocompleteIndex.rebuild] 이전 재구성 진행 중 - 건너뜀");
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                addedDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            PrefixTrie rebuilt = new PrefixTrie(topK);
+            long lastId = 0L;
+            while (true) {
+                List<StoreAutocompleteRow> batch = storeRepository.findAutocompleteBatchAfter(
+                        lastId, PageRequest.of(0, batchSize));
+                for (StoreAutocompleteRow row : batch) {
+                    rebuilt.put(new PrefixTrie.Entry(row.id(), row.name(), row.reviewCount()));
+                }
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).id();
+            }
+
+            lock.writeLock().lock();
+            try {
+                addedDuringRebuild.forEach(rebuilt::put);
+                trie = rebuilt;
+            } finally {
+                addedDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+
+            log.info("[StoreAutocompleteIndex.rebuild] 자동완성 트라이 재구성 완료 - 가게: {}건, 노드: {}개, {}ms",
+                    rebuilt.size(), rebuilt.nodeCount(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                addedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("[StoreAutocompleteIndex.rebuild] 재구성 실패 - 기존 트라이 유지, error: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 새 가게 추가 (커밋된 가게만, 리뷰가 없으므로 가중치 0)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreCreated(StoreCreatedEvent event) {
+        PrefixTrie.Entry entry = new PrefixTrie.Entry(event.storeId(), event.name(), 0L);
+        lock.writeLock().lock();
+        try {
+            trie.put(entry);
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("[StoreAutocompleteIndex.onStoreCreated] 자동완성 추가 - storeId: {}", event.storeId());
+    }
+
+    /**
+     * 접두사 자동완성
+     *
+     * @param prefix 입력 중인 검색어 (대소문자 무시)
+     * @param limit  최대 개수 (topK 이하)
+     * @return 리뷰 수 내림차순 가게 ID/이름
+     */
+    public List<PrefixTrie.Entry> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return trie.topK(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.umc9th.domain.store.search;
+
+import com.example.umc9th.domain.store.dto.StoreCoordinateRow;
+import com.example.umc9th.domain.store.event.StoreCreatedEvent;
+import com.example.umc9th.domain.store.repository.StoreRepository;
+import com.example.umc9th.global.search.GeoGridIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 가게 좌표 색인 (GeoGridIndex 기반)
+ * - 주변 가게 검색에서 DB의 전체 거리 계산 대신 반경을 덮는 격자 칸만 읽어 가까운 가게 ID를 찾음
+ *
+ * 색인 구성:
+ * - 애플리케이션 시작 후 좌표가 있는 가게를 ID 순 batch-size개씩 읽어 색인
+ * - 이후 새 가게는 StoreCreatedEvent(커밋 후)로 하나씩 추가 (좌표가 없으면 무시)
+ * - 인스턴스마다 자체 색인을 가짐 (다른 인스턴스에서 추가된 가게는 재시작 시 반영)
+ */
+@Slf4j
+@Component
+public class StoreGeoIndex {
+
+    private final StoreRepository storeRepository;
+    private final int batchSize;
+    private final GeoGridIndex index;
+
+    public StoreGeoIndex(
+            StoreRepository storeRepository,
+            @Value("${store.nearby.index.cell-size:0.01}") double cellSize,
+            @Value("${store.nearby.index.batch-size:1000}") int batchSize
+    ) {
+        this.storeRepository = storeRepository;
+        this.batchSize = batchSize;
+        this.index = new GeoGridIndex(cellSize);
+    }
+
+    /**
+     * 시작 시 좌표가 있는 전체 가게 색인 (ID keyset 배치)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+
+        while (true) {
+            List<StoreCoordinateRow> batch =
+                    storeRepository.findCoordinateBatchAfter(lastId, PageRequest.of(0, batchSize));
+            for (StoreCoordinateRow row : batch) {
+                index.add(row.id(), row.latitude(), row.longitude());
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).id();
+        }
+
+        log.info("[StoreGeoIndex.build] 가게 좌표 색인 완료 - 가게: {}건, {}ms",
+                index.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 새 가게 색인 (커밋된 가게 중 좌표가 있는 가게만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreCreated(StoreCreatedEvent event) {
+        if (event.latitude() == null || event.longitude() == null) {
+            return;
+        }
+        index.add(event.storeId(), event.latitude(), event.longitude());
+        log.debug("[StoreGeoIndex.onStoreCreated] 가게 좌표 색인 - storeId: {}", event.storeId());
+    }
+
+    /**
+     * 반경 안의 가까운 가게 최대 k개 (거리 오름차순)
+     *
+     * @param latitude     기준 위도
+     * @param longitude    기준 경도
+     * @param radiusMeters 반경 (미터)
+     * @param k            최대 개수
+     * @return 가게 ID와 거리
+     */
+    public List<GeoGridIndex.Hit> nearest(double latitude, double longitude, double radiusMeters, int k) {
+        return index.nearest(latitude, longitude, radiusMeters, k);
+    }
+}
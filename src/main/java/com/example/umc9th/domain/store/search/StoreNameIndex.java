@@ -0,0 +1,131 @@
+package com.example.umc9th.domain.store.search;
+
+import com.example.umc9th.domain.store.dto.StoreNameRow;
+import com.example.umc9th.domain.store.event.StoreCreatedEvent;
+import com.example.umc9th.domain.store.repository.StoreRepository;
+import com.example.umc9th.global.search.BigramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게 이름 검색 색인 (BigramIndex 기반)
+ * - name LIKE '%검색어%'의 전체 테이블 스캔 대신 메모리 역색인으로 후보 가게 ID를 찾음
+ * - 검색 의미는 기존과 같음: 공백으로 나눈 단어 중 하나라도 이름에 포함되면 일치 (대소문자 무시)
+ *
+ * 검색 방식:
+ * - 단어의 bigram을 모두 가진 가게만 후보 (BigramIndex.containingAll)
+ * - 후보의 원래 이름에 단어가 실제로 포함되는지 확인 (bigram만으로는 순서/인접 여부를 알 수 없음)
+ * - bigram이 없는 한 글자 단어는 색인으로 좁힐 수 없어 메모리의 이름 전체를 확인
+ *
+ * 색인 구성:
+ * - 애플리케이션 시작 후 store 테이블을 ID 순 batch-size개씩 읽어 색인
+ * - 이후 새 가게는 StoreCreatedEvent(커밋 후)로 하나씩 추가
+ * - 인스턴스마다 자체 색인을 가짐 (다른 인스턴스에서 추가된 가게는 재시작 시 반영)
+ */
+@Slf4j
+@Component
+public class StoreNameIndex {
+
+    private final StoreRepository storeRepository;
+    private final int batchSize;
+    private final BigramIndex index = new BigramIndex();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    public StoreNameIndex(
+            StoreRepository storeRepository,
+            @Value("${store.search.index.batch-size:1000}") int batchSize
+    ) {
+        this.storeRepository = storeRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 시작 시 전체 가게 색인 (ID keyset 배치)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+
+        while (true) {
+            List<StoreNameRow> batch = storeRepository.findNameBatchAfter(lastId, PageRequest.of(0, batchSize));
+            for (StoreNameRow row : batch) {
+                add(row.id(), row.name());
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).id();
+        }
+
+        log.info("[StoreNameIndex.build] 가게 이름 색인 완료 - 가게: {}건, bigram: {}개, 포스팅: {}KB, {}ms",
+                names.size(), index.termCount(), index.postingBytes() / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 새 가게 색인 (커밋된 가게만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreCreated(StoreCreatedEvent event) {
+        add(event.storeId(), event.name());
+        log.debug("[StoreNameIndex.onStoreCreated] 가게 색인 - storeId: {}", event.storeId());
+    }
+
+    /**
+     * 이름에 검색어의 단어 중 하나라도 포함된 가게 ID
+     *
+     * @param searchName 검색어 (공백으로 단어 구분)
+     * @return 일치하는 가게 ID (없으면 빈 집합)
+     */
+    public Set<Long> findIds(String searchName) {
+        Set<Long> ids = new HashSet<>();
+        if (searchName == null || searchName.isBlank()) {
+            return ids;
+        }
+
+        for (String keyword : searchName.trim().split("\\s+")) {
+            String needle = keyword.toLowerCase(Locale.ROOT);
+            long[] candidates = index.containingAll(keyword);
+            if (candidates.length == 0 && BigramIndex.bigrams(keyword).length == 0) {
+                // 한 글자 단어: 색인으로 좁힐 수 없으므로 이름 전체 확인
+                names.forEach((id, name) -> {
+                    if (contains(name, needle)) {
+                        ids.add(id);
+                    }
+                });
+                continue;
+            }
+            for (long id : candidates) {
+                if (contains(names.get(id), needle)) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    void add(long id, String name) {
+        if (name == null) {
+            return;
+        }
+        names.put(id, name);
+        index.add(id, name);
+    }
+
+    private static boolean contains(String name, String needle) {
+        return name != null && name.toLowerCase(Locale.ROOT).contains(needle);
+    }
+}
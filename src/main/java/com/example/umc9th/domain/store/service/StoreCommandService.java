@@ -7,11 +7,13 @@ import com.example.umc9th.domain.member.repository.FoodRepository;
 import com.example.umc9th.domain.store.dto.StoreRequest;
 import com.example.umc9th.domain.store.dto.StoreResponse;
 import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.domain.store.event.StoreCreatedEvent;
 import com.example.umc9th.domain.store.repository.StoreRepository;
 import com.example.umc9th.global.exception.CustomException;
 import com.example.umc9th.global.response.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class StoreCommandService {
     private final StoreRepository storeRepository;
     private final LocationRepository locationRepository;
     private final FoodRepository foodRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 지역에 가게 추가하기
@@ -37,6 +40,12 @@ public class StoreCommandService {
         log.info("[StoreCommandService.createStore] name: {}, locationId: {}, foodId: {}",
                 request.getName(), request.getLocationId(), request.getFoodId());
 
+        // 좌표는 위도/경도를 함께 보내거나 둘 다 생략
+        if ((request.getLatitude() == null) != (request.getLongitude() == null)) {
+            log.warn("[StoreCommandService.createStore] 위도/경도 중 하나만 전달됨");
+            throw new IllegalArgumentException("위도와 경도는 함께 입력해야 합니다");
+        }
+
         // 지역 조회 (Validation에서 이미 검증했지만, 엔티티가 필요하므로 조회)
         Location location = locationRepository.findById(request.getLocationId())
                 .orElseThrow(() -> new CustomException(ErrorCode.LOCATION_NOT_FOUND));
@@ -50,12 +59,18 @@ public class StoreCommandService {
                 .name(request.getName())
                 .managerNumber(request.getManagerNumber())
                 .detailAddress(request.getDetailAddress())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .location(location)
                 .food(food)
                 .build();
 
         Store savedStore = storeRepository.save(store);
 
+        // 커밋 후 가게 이름 검색 색인, 좌표 색인 등 후속 처리
+        eventPublisher.publishEvent(new StoreCreatedEvent(
+                savedStore.getId(), savedStore.getName(), savedStore.getLatitude(), savedStore.getLongitude()));
+
         log.info("[StoreCommandService.createStore] 가게 추가 완료 - storeId: {}", savedStore.getId());
 
         return StoreResponse.CreateStore.from(savedStore);
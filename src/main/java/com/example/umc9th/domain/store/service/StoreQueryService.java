@@ -1,14 +1,30 @@
 package com.example.umc9th.domain.store.service;
 
+import com.example.umc9th.domain.store.cache.StoreDetailCache;
+import com.example.umc9th.domain.store.dto.StoreCursor;
 import com.example.umc9th.domain.store.dto.StoreResponse;
+import com.example.umc9th.domain.store.dto.StoreSnapshot;
 import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.domain.store.entity.StoreRatingSummary;
 import com.example.umc9th.domain.store.repository.StoreQueryRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.umc9th.domain.store.repository.StoreRatingSummaryRepository;
+import com.example.umc9th.domain.store.search.StoreAutocompleteIndex;
+import com.example.umc9th.domain.store.search.StoreGeoIndex;
+import com.example.umc9th.domain.store.search.StoreNameIndex;
+import com.example.umc9th.global.search.GeoGridIndex;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Store 조회 전용 Service
@@ -17,31 +33,175 @@ import java.util.List;
 @Slf4j
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class StoreQueryService {
 
     private final StoreQueryRepository storeQueryRepository;
+    private final StoreDetailCache storeDetailCache;
+    private final StoreRatingSummaryRepository storeRatingSummaryRepository;
+    private final StoreNameIndex storeNameIndex;
+    private final StoreAutocompleteIndex storeAutocompleteIndex;
+    private final StoreGeoIndex storeGeoIndex;
+
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int DEFAULT_NEARBY_RADIUS = 1000;
+    private static final int DEFAULT_NEARBY_SIZE = 20;
+
+    private final int maxNearbyRadius;
+    private final int maxNearbySize;
+    private final int maxNearbyCandidates;
+
+    public StoreQueryService(
+            StoreQueryRepository storeQueryRepository,
+            StoreDetailCache storeDetailCache,
+            StoreRatingSummaryRepository storeRatingSummaryRepository,
+            StoreNameIndex storeNameIndex,
+            StoreAutocompleteIndex storeAutocompleteIndex,
+            StoreGeoIndex storeGeoIndex,
+            @Value("${store.nearby.max-radius:5000}") int maxNearbyRadius,
+            @Value("${store.nearby.max-size:50}") int maxNearbySize,
+            @Value("${store.nearby.max-candidates:1000}") int maxNearbyCandidates
+    ) {
+        this.storeQueryRepository = storeQueryRepository;
+        this.storeDetailCache = storeDetailCache;
+        this.storeRatingSummaryRepository = storeRatingSummaryRepository;
+        this.storeNameIndex = storeNameIndex;
+        this.storeAutocompleteIndex = storeAutocompleteIndex;
+        this.storeGeoIndex = storeGeoIndex;
+        this.maxNearbyRadius = maxNearbyRadius;
+        this.maxNearbySize = maxNearbySize;
+        this.maxNearbyCandidates = maxNearbyCandidates;
+    }
 
     /**
-     * 가게 검색 - 지역 필터링 + 이름 검색 + 정렬 (다중 선택 지원)
+     * 가게 검색 - 지역 필터링 + 이름 검색 + 정렬 + 커서 페이지네이션 (다중 선택 지원)
+     * - 이름 검색: StoreNameIndex(메모리 bigram 색인)로 후보 ID를 구한 뒤 DB는 ID + 지역으로만 조회
+     * - 공백으로 나눈 단어 중 하나라도 이름에 포함되면 일치 (기존 LIKE OR 검색과 같은 결과)
+     * - 한 번에 최대 100개까지만 응답, 나머지는 nextCursor로 이어서 조회
      *
      * @param regions 지역 이름 리스트 (null이면 전체 조회)
      * @param searchName 검색할 가게 이름 (공백 처리 로직 적용)
      * @param sortBy 정렬 기준 ("latest" 또는 "name", null이면 기본값 "latest")
-     * @return 검색 결과 DTO 리스트
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지, 정렬 기준이 같아야 함)
+     * @param size 페이지 크기 (null이면 20)
+     * @return 검색 결과 커서 페이지 DTO
      */
-    public List<StoreResponse.SearchResult> searchStores(List<String> regions, String searchName, String sortBy) {
-        log.info("[StoreQueryService.searchStores] regions={}, searchName={}, sortBy={}",
-                regions, searchName, sortBy);
+    public StoreResponse.StoreCursorListDTO searchStores(List<String> regions, String searchName, String sortBy,
+            String cursor, Integer size) {
+        log.info("[StoreQueryService.searchStores] regions={}, searchName={}, sortBy={}, cursor={}, size={}",
+                regions, searchName, sortBy, cursor, size);
 
-        List<Store> stores = storeQueryRepository.searchStores(regions, searchName, sortBy);
-        log.info("[StoreQueryService.searchStores] result count: {}", stores.size());
+        int pageSize = resolveSearchPageSize(size);
+        boolean byName = StoreQueryRepository.isNameSort(sortBy);
+        StoreCursor storeCursor = StoreCursor.decode(cursor, byName);
 
-        return stores.stream()
-                .map(StoreResponse.SearchResult::from)
+        Set<Long> storeIds = null;
+        if (searchName != null && !searchName.isBlank()) {
+            storeIds = storeNameIndex.findIds(searchName);
+            if (storeIds.isEmpty()) {
+                log.info("[StoreQueryService.searchStores] 이름 일치 가게 없음");
+                return StoreResponse.StoreCursorListDTO.empty();
+            }
+        }
+
+        // size + 1개 조회로 다음 페이지 존재 여부 판단
+        List<Store> stores = storeQueryRepository.searchStores(regions, storeIds, sortBy, storeCursor, pageSize);
+        boolean hasNext = stores.size() > pageSize;
+        List<Store> content = hasNext ? stores.subList(0, pageSize) : stores;
+        log.info("[StoreQueryService.searchStores] result count: {}, hasNext: {}", content.size(), hasNext);
+
+        List<StoreResponse.SearchResult> storeList = toSearchResults(content);
+        String nextCursor = hasNext ? StoreCursor.of(content.get(content.size() - 1), byName).encode() : null;
+
+        return StoreResponse.StoreCursorListDTO.builder()
+                .storeList(storeList)
+                .listSize(storeList.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 가게 이름 자동완성 (접두사 일치, 리뷰 수 순)
+     * - 메모리 트라이에서만 응답하므로 트랜잭션(커넥션)을 잡지 않음
+     *
+     * @param prefix 입력 중인 검색어
+     * @param size   최대 개수 (null이면 트라이 top-K 전체)
+     * @return 자동완성 항목 리스트
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StoreResponse.AutocompleteItem> autocomplete(String prefix, Integer size) {
+        int limit = size != null ? size : storeAutocompleteIndex.topK();
+        if (limit < 1 || limit > storeAutocompleteIndex.topK()) {
+            log.warn("[StoreQueryService.autocomplete] 잘못된 개수: {}", size);
+            throw new IllegalArgumentException("개수는 1 이상 " + storeAutocompleteIndex.topK() + " 이하여야 합니다");
+        }
+
+        return storeAutocompleteIndex.complete(prefix, limit).stream()
+                .map(StoreResponse.AutocompleteItem::from)
                 .toList();
     }
 
+    /**
+     * 주변 가게 검색 (가까운 순, 지역/음식 카테고리 필터 선택)
+     * - StoreGeoIndex(메모리 격자 색인)로 반경 안의 가까운 가게 ID를 구한 뒤 DB는 ID + 필터로만 조회
+     * - 필터가 없으면 가까운 size개만 조회
+     * - 필터가 있으면 가까운 후보를 넉넉히(size × 4) 가져와 거르고, 부족하면 후보 수를 늘려 다시 조회
+     *   (후보 수는 max-candidates까지, IN 절 크기 제한)
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param radius    반경 (미터, null이면 1000)
+     * @param regions   지역 이름 리스트 (null이면 조건 무시)
+     * @param foodId    음식 카테고리 ID (null이면 조건 무시)
+     * @param size      최대 개수 (null이면 20)
+     * @return 가까운 순 검색 결과 DTO 리스트
+     */
+    public List<StoreResponse.NearbyResult> getNearbyStores(double latitude, double longitude, Integer radius,
+            List<String> regions, Long foodId, Integer size) {
+        log.info("[StoreQueryService.getNearbyStores] lat={}, lng={}, radius={}, regions={}, foodId={}, size={}",
+                latitude, longitude, radius, regions, foodId, size);
+
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            log.warn("[StoreQueryService.getNearbyStores] 잘못된 좌표: {}, {}", latitude, longitude);
+            throw new IllegalArgumentException("위도는 -90 ~ 90, 경도는 -180 ~ 180 범위여야 합니다");
+        }
+        int radiusMeters = radius != null ? radius : DEFAULT_NEARBY_RADIUS;
+        if (radiusMeters < 1 || radiusMeters > maxNearbyRadius) {
+            log.warn("[StoreQueryService.getNearbyStores] 잘못된 반경: {}", radius);
+            throw new IllegalArgumentException("반경은 1 이상 " + maxNearbyRadius + " 이하여야 합니다");
+        }
+        int limit = size != null ? size : DEFAULT_NEARBY_SIZE;
+        if (limit < 1 || limit > maxNearbySize) {
+            log.warn("[StoreQueryService.getNearbyStores] 잘못된 개수: {}", size);
+            throw new IllegalArgumentException("개수는 1 이상 " + maxNearbySize + " 이하여야 합니다");
+        }
+
+        boolean filtered = (regions != null && !regions.isEmpty()) || foodId != null;
+        int candidates = filtered ? Math.max(limit, Math.min(limit * 4, maxNearbyCandidates)) : limit;
+
+        while (true) {
+            List<GeoGridIndex.Hit> hits = storeGeoIndex.nearest(latitude, longitude, radiusMeters, candidates);
+            if (hits.isEmpty()) {
+                return List.of();
+            }
+
+            Map<Long, Double> distances = new LinkedHashMap<>();
+            for (GeoGridIndex.Hit hit : hits) {
+                distances.put(hit.id(), hit.distanceMeters());
+            }
+            List<Store> stores = storeQueryRepository.findStoresByIds(distances.keySet(), regions, foodId);
+
+            // 반경 안의 가게를 모두 받았거나(hits < candidates) 더 늘릴 수 없으면 있는 만큼 응답
+            boolean exhausted = hits.size() < candidates || candidates >= maxNearbyCandidates;
+            if (stores.size() >= limit || exhausted) {
+                log.info("[StoreQueryService.getNearbyStores] 후보: {}건, 필터 통과: {}건", hits.size(), stores.size());
+                return toNearbyResults(stores, distances, limit);
+            }
+            candidates = Math.min(candidates * 4, maxNearbyCandidates);
+        }
+    }
+
     /**
      * 특정 지역의 가게 개수 조회
      *
@@ -68,8 +228,78 @@ public class StoreQueryService {
 
         List<Store> stores = storeQueryRepository.findStoresByFoodId(foodId);
 
+        return toSearchResults(stores);
+    }
+
+    /**
+     * 가게 상세 조회 (별점 요약 포함)
+     * - 가게 정보는 StoreDetailCache (캐시 미스일 때만 fetch join 조회 1회) + 별점 요약 PK 조회 1회
+     *
+     * @param storeId 가게 ID
+     * @return 가게 상세 DTO
+     */
+    public StoreResponse.Detail getStoreDetail(Long storeId) {
+        log.info("[StoreQueryService.getStoreDetail] storeId={}", storeId);
+
+        StoreSnapshot store = storeDetailCache.get(storeId);
+        StoreRatingSummary summary = storeRatingSummaryRepository.findById(storeId).orElse(null);
+
+        return StoreResponse.Detail.from(store, summary);
+    }
+
+    /**
+     * 가게 목록 → SearchResult 변환
+     * - 별점 요약은 IN 쿼리 한 번으로 일괄 조회 (가게별 조회 없음)
+     */
+    private List<StoreResponse.SearchResult> toSearchResults(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, StoreRatingSummary> summaries = findSummaries(stores);
+
         return stores.stream()
-                .map(StoreResponse.SearchResult::from)
+                .map(store -> StoreResponse.SearchResult.from(store, summaries.get(store.getId())))
                 .toList();
     }
+
+    /**
+     * 가게 목록 → 가까운 순 NearbyResult 변환 (최대 limit개)
+     * - 별점 요약은 잘라낸 limit개에 대해서만 IN 쿼리 한 번으로 조회
+     */
+    private List<StoreResponse.NearbyResult> toNearbyResults(List<Store> stores, Map<Long, Double> distances,
+            int limit) {
+        if (stores.isEmpty()) {
+            return List.of();
+        }
+
+        List<Store> nearest = stores.stream()
+                .sorted(Comparator.comparingDouble((Store store) -> distances.get(store.getId()))
+                        .thenComparing(Store::getId))
+                .limit(limit)
+                .toList();
+        Map<Long, StoreRatingSummary> summaries = findSummaries(nearest);
+
+        return nearest.stream()
+                .map(store -> StoreResponse.NearbyResult.from(
+                        store, summaries.get(store.getId()), distances.get(store.getId())))
+                .toList();
+    }
+
+    private int resolveSearchPageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SEARCH_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            log.warn("[StoreQueryService.resolveSearchPageSize] 잘못된 페이지 크기: {}", size);
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_SEARCH_PAGE_SIZE + " 이하여야 합니다");
+        }
+        return size;
+    }
+
+    private Map<Long, StoreRatingSummary> findSummaries(List<Store> stores) {
+        List<Long> storeIds = stores.stream().map(Store::getId).toList();
+        return storeRatingSummaryRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(StoreRatingSummary::getStoreId, Function.identity()));
+    }
 }
@@ -2,6 +2,7 @@ package com.example.umc9th.global.auth;
 
 import com.example.umc9th.domain.member.entity.Member;
 import com.example.umc9th.domain.member.repository.MemberRepository;
+import com.example.umc9th.global.auth.cache.UserDetailsCache;
 import com.example.umc9th.global.exception.CustomException;
 import com.example.umc9th.global.response.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 /**
  * Spring Security에서 사용자 정보를 조회하는 서비스
  * - 로그인 시 AuthenticationManager가 이 서비스를 호출하여 사용자 정보를 가져옴
+ * - 조회 결과는 불변 스냅샷(MemberSnapshot)으로 UserDetailsCache에 캐시 (회원 수정/삭제/전체 로그아웃 시 무효화)
  */
 @Slf4j
 @Service
@@ -21,17 +23,26 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * 사용자 이름(이메일)으로 사용자 정보 조회
      * - Spring Security가 로그인 시 자동으로 호출
+     * - 캐시에 있으면 DB 조회 없이 반환
      *
      * @param username 사용자 이메일
-     * @return UserDetails 객체
+     * @return UserDetails 객체 (MemberSnapshot)
      * @throws UsernameNotFoundException 사용자를 찾을 수 없을 때
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, this::loadFromDatabase);
+    }
+
+    /**
+     * DB에서 이메일로 회원 조회 (캐시 미스 시)
+     */
+    private MemberSnapshot loadFromDatabase(String username) {
         log.info("[CustomUserDetailsService.loadUserByUsername] 사용자 조회 - email: {}", username);
 
         // 이메일로 회원 조회
@@ -44,7 +55,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         log.info("[CustomUserDetailsService.loadUserByUsername] 사용자 조회 성공 - ID: {}, email: {}",
                 member.getId(), member.getEmail());
 
-        // CustomUserDetails로 변환하여 반환
-        return new CustomUserDetails(member);
+        // 인증에 필요한 값만 복사한 스냅샷으로 반환 (엔티티는 캐시에 두지 않음)
+        return MemberSnapshot.from(member);
     }
 }
@@ -0,0 +1,55 @@
+package com.example.umc9th.global.auth;
+
+import com.example.umc9th.global.auth.enums.Role;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT Claims 기반 경량 인증 정보
+ * - 서명이 검증된 토큰의 memberId, email, role 클레임만으로 생성 (DB 조회 없음)
+ * - Member 엔티티가 필요한 서비스는 memberId로 직접 조회 (필터 단계에서는 조회하지 않음)
+ */
+@Getter
+public class JwtPrincipal implements UserDetails {
+
+    private final Long memberId;
+    private final String email;
+    private final Role role;
+
+    public JwtPrincipal(Long memberId, String email, Role role) {
+        this.memberId = memberId;
+        this.email = email;
+        this.role = role;
+    }
+
+    /**
+     * 사용자의 권한 목록 반환
+     * - 토큰의 role 클레임 (ROLE_USER 또는 ROLE_ADMIN)
+     */
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    /**
+     * 비밀번호 반환
+     * - 토큰 인증에서는 사용하지 않음
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    /**
+     * 사용자 식별자 반환 (이메일을 아이디로 사용)
+     */
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
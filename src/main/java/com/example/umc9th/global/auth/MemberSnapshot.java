@@ -0,0 +1,65 @@
+package com.example.umc9th.global.auth;
+
+import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.global.auth.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증용 회원 스냅샷 (UserDetailsCache 값)
+ * - 인증에 필요한 값(ID, 이메일, 권한, 비밀번호 해시)만 복사한 불변 record
+ * - 분리된(detached) Member 엔티티를 캐시에 두지 않으므로 여러 요청이 공유해도 안전하고
+ *   지연 로딩 연관관계 접근으로 인한 LazyInitializationException도 없음
+ * - 회원 탈퇴는 행 삭제로 처리되므로 별도 상태 값 없이 캐시 무효화로 반영
+ */
+public record MemberSnapshot(
+        Long memberId,
+        String email,
+        Role role,
+        String passwordHash
+) implements UserDetails {
+
+    /**
+     * Member 엔티티 → 스냅샷
+     */
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(member.getId(), member.getEmail(), member.getRole(), member.getPassword());
+    }
+
+    /**
+     * 사용자의 권한 목록 반환
+     * - ROLE_USER 또는 ROLE_ADMIN
+     */
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    /**
+     * 비밀번호 반환 (암호화된 상태)
+     */
+    @Override
+    public String getPassword() {
+        return passwordHash;
+    }
+
+    /**
+     * 사용자 식별자 반환 (이메일을 아이디로 사용)
+     */
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    /**
+     * 로그에 비밀번호 해시가 남지 않도록 제외
+     */
+    @Override
+    public String toString() {
+        return "MemberSnapshot[memberId=" + memberId + ", email=" + email + ", role=" + role + "]";
+    }
+}
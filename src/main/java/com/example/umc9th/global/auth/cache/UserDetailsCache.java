@@ -0,0 +1,112 @@
+package com.example.umc9th.global.auth.cache;
+
+import com.example.umc9th.global.auth.MemberSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 인증 사용자 정보(MemberSnapshot) 로컬 캐시
+ * - 키: 이메일 (loadUserByUsername 조회 키와 동일)
+ * - 값: 불변 스냅샷 (Member 엔티티를 담지 않음)
+ * - 최대 개수 + TTL 제한 (auth.user-details-cache.*)
+ * - hit/miss/eviction 통계는 actuator metrics의 cache.* 지표로 노출 (cache=userDetails)
+ *
+ * 무효화:
+ * - 회원 정보 수정/삭제, 모든 기기 로그아웃 시 evictMember() 호출
+ * - 회원 ID → 이메일 역색인으로 해당 회원 항목만 제거 (전체 순회 없음, 이메일 변경 전/후 키 모두 포함)
+ * - 트랜잭션 중이면 커밋 후 한 번 더 제거 → 커밋 전 다른 요청이 옛 데이터로 다시 채운 항목까지 정리
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    public static final String CACHE_NAME = "userDetails";
+
+    private final Cache<String, MemberSnapshot> cache;
+    private final Map<Long, Set<String>> emailsByMemberId = new ConcurrentHashMap<>();
+
+    public UserDetailsCache(
+            @Value("${auth.user-details-cache.max-size:10000}") long maximumSize,
+            @Value("${auth.user-details-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)  // 제거 리스너를 호출 스레드에서 실행 → 역색인이 항목과 함께 정리됨
+                .removalListener((String email, MemberSnapshot snapshot, RemovalCause cause) -> {
+                    // 크기/TTL로 밀려난 항목만 역색인에서 정리 (명시적 무효화는 removeByMemberId가 먼저 정리)
+                    if (cause.wasEvicted() && email != null && snapshot != null) {
+                        unindex(snapshot.memberId(), email);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("[UserDetailsCache] 사용자 정보 캐시 초기화 - 최대: {}개, TTL: {}", maximumSize, ttl);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 저장
+     * - loader가 예외를 던지면 캐시에 저장하지 않음
+     *
+     * @param email  사용자 이메일
+     * @param loader 캐시 미스 시 DB 조회 함수
+     * @return MemberSnapshot
+     */
+    public MemberSnapshot get(String email, Function<String, MemberSnapshot> loader) {
+        return cache.get(email, key -> {
+            MemberSnapshot snapshot = loader.apply(key);
+            emailsByMemberId.computeIfAbsent(snapshot.memberId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+            return snapshot;
+        });
+    }
+
+    /**
+     * 회원 ID로 캐시 항목 제거
+     * - 이메일 변경 전/후 키가 모두 정리되도록 memberId 기준으로 제거
+     *
+     * @param memberId 회원 ID
+     */
+    public void evictMember(Long memberId) {
+        removeByMemberId(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeByMemberId(memberId);
+                }
+            });
+        }
+    }
+
+    private void removeByMemberId(Long memberId) {
+        Set<String> emails = emailsByMemberId.remove(memberId);
+        if (emails != null) {
+            cache.invalidateAll(emails);
+        }
+        log.debug("[UserDetailsCache.evictMember] 캐시 제거 - memberId: {}, 키: {}", memberId, emails);
+    }
+
+    private void unindex(Long memberId, String email) {
+        emailsByMemberId.computeIfPresent(memberId, (id, emails) -> {
+            emails.remove(email);
+            return emails.isEmpty() ? null : emails;
+        });
+    }
+}
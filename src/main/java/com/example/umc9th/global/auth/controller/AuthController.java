@@ -2,6 +2,7 @@ package com.example.umc9th.global.auth.controller;
 
 import com.example.umc9th.domain.member.entity.Member;
 import com.example.umc9th.domain.member.repository.MemberRepository;
+import com.example.umc9th.global.auth.JwtPrincipal;
 import com.example.umc9th.global.auth.dto.TokenDto;
 import com.example.umc9th.global.auth.jwt.JwtUtil;
 import com.example.umc9th.global.auth.service.AuthService;
@@ -9,6 +10,7 @@ import com.example.umc9th.global.exception.CustomException;
 import com.example.umc9th.global.response.ApiResponse;
 import com.example.umc9th.global.response.code.ErrorCode;
 import com.example.umc9th.global.response.code.SuccessCode;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -66,22 +68,28 @@ public class AuthController {
 
                     **처리 과정:**
                     1. DB에서 Refresh Token 삭제
-                    2. 클라이언트는 Access Token + Refresh Token 모두 삭제
-                    3. 현재 Access Token은 만료될 때까지 유효 (최대 15분)
+                    2. Authorization 헤더의 Access Token을 폐기 목록에 등록 (즉시 무효화)
+                    3. 클라이언트는 Access Token + Refresh Token 모두 삭제
 
-                    **주의:**
-                    - Access Token은 Stateless이므로 서버에서 즉시 무효화 불가
-                    - 하지만 Refresh Token이 없으면 재발급 불가능
-                    - 따라서 최대 15분 후 완전히 로그아웃됨
+                    **Authorization 헤더 (선택):**
+                    - Bearer {Access Token}
+                    - 헤더가 없으면 Access Token은 만료될 때까지 유효
                     """
     )
     @PostMapping("/logout")
     public ApiResponse<Void> logout(
-            @Valid @RequestBody TokenDto.LogoutRequest request
+            @Valid @RequestBody TokenDto.LogoutRequest request,
+            @RequestHeader(value = "Authorization", required = false) String authHeader
     ) {
         log.info("[AuthController.logout] 로그아웃 요청");
 
-        authService.logout(request.refreshToken());
+        // Access Token이 함께 오면 검증 후 폐기 (유효하지 않은 토큰은 무시)
+        Claims accessTokenClaims = null;
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            accessTokenClaims = jwtUtil.verify(authHeader.substring(7));
+        }
+
+        authService.logout(request.refreshToken(), accessTokenClaims);
 
         return ApiResponse.onSuccess(SuccessCode.OK);
     }
@@ -90,6 +98,7 @@ public class AuthController {
             summary = "모든 기기에서 로그아웃",
             description = """
                     해당 회원의 모든 Refresh Token을 삭제하여 모든 기기에서 로그아웃합니다.
+                    지금까지 발급된 Access Token도 즉시 무효화됩니다.
 
                     **사용 시나리오:**
                     - 계정 해킹 의심 시
@@ -109,27 +118,41 @@ public class AuthController {
         // Authorization 헤더에서 토큰 추출
         String token = authHeader.replace("Bearer ", "");
 
-        // Access Token 유효성 검증
-        if (!jwtUtil.isValid(token)) {
+        // Access Token 유효성 검증 (파싱 1회)
+        Claims claims = jwtUtil.verify(token);
+        if (claims == null) {
             log.warn("[AuthController.logoutAllDevices] 유효하지 않은 Access Token");
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
 
-        // 토큰에서 이메일 추출
-        String email = jwtUtil.getEmail(token);
+        // 토큰 Claims에서 회원 ID 추출 (회원 조회 없음)
+        Long memberId = resolveMemberId(claims);
+
+        // 모든 기기에서 로그아웃 (모든 Refresh Token 삭제)
+        authService.logoutAllDevices(memberId);
+
+        log.info("[AuthController.logoutAllDevices] 모든 기기 로그아웃 완료 - memberId: {}", memberId);
+
+        return ApiResponse.onSuccess(SuccessCode.OK);
+    }
+
+    /**
+     * 토큰에서 회원 ID 추출
+     * - memberId 클레임이 있으면 그대로 사용
+     * - 이메일만 담긴 이전 형식 토큰이면 이메일로 회원 조회
+     */
+    private Long resolveMemberId(Claims claims) {
+        JwtPrincipal principal = jwtUtil.getPrincipal(claims);
+        if (principal != null) {
+            return principal.getMemberId();
+        }
 
-        // 회원 조회
+        String email = claims.getSubject();
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("[AuthController.logoutAllDevices] 회원을 찾을 수 없음 - email: {}", email);
                     return new CustomException(ErrorCode.MEMBER_NOT_FOUND);
                 });
-
-        // 모든 기기에서 로그아웃 (모든 Refresh Token 삭제)
-        authService.logoutAllDevices(member.getId());
-
-        log.info("[AuthController.logoutAllDevices] 모든 기기 로그아웃 완료 - memberId: {}", member.getId());
-
-        return ApiResponse.onSuccess(SuccessCode.OK);
+        return member.getId();
     }
 }
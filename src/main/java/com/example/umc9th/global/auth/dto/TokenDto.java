@@ -29,6 +29,18 @@ public class TokenDto {
         }
     }
 
+    /**
+     * 소셜 로그인 결과
+     * - OAuth2 성공 핸들러가 프론트엔드로 리다이렉트할 때 사용
+     */
+    public record SocialLoginResult(
+            Long memberId,
+            String email,
+            String accessToken,
+            String refreshToken
+    ) {
+    }
+
     /**
      * Token Refresh 요청 DTO
      */
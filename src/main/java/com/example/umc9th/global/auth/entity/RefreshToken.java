@@ -11,10 +11,11 @@ import java.time.LocalDateTime;
  * Refresh Token 엔티티
  * - MySQL에 저장하여 토큰 무효화 및 관리
  * - 로그아웃, 강제 로그아웃, 재사용 공격 탐지에 사용
+ * - 원문 토큰은 저장하지 않고 SHA-256 다이제스트(고정 64자)로 저장·조회
  */
 @Entity
 @Table(name = "refresh_token", indexes = {
-        @Index(name = "idx_token", columnList = "token"),
+        @Index(name = "idx_token_hash", columnList = "token_hash", unique = true),
         @Index(name = "idx_member_id", columnList = "member_id"),
         @Index(name = "idx_expires_at", columnList = "expires_at")
 })
@@ -29,13 +30,13 @@ public class RefreshToken {
     private Long id;
 
     /**
-     * Refresh Token 문자열
-     * - JWT 형식
-     * - 고유값으로 인덱스 설정
+     * Refresh Token SHA-256 다이제스트
+     * - TokenDigests.sha256Hex(원문 토큰), 소문자 hex 64자
+     * - 고정 길이 CHAR(64) 고유 인덱스 → 긴 varchar 인덱스보다 작고 비교가 빠름
      */
     @NonNull
-    @Column(name = "token", nullable = false, length = 512, unique = true)
-    private String token;
+    @Column(name = "token_hash", nullable = false, length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
     /**
      * 토큰 소유자
@@ -88,10 +89,10 @@ public class RefreshToken {
 
     /**
      * 토큰 정보 업데이트 (Refresh Token Rotation)
-     * - 기존 토큰을 새 토큰으로 교체
+     * - 기존 토큰 다이제스트를 새 토큰 다이제스트로 교체
      */
-    public void updateToken(String newToken, LocalDateTime newExpiresAt) {
-        this.token = newToken;
+    public void updateToken(String newTokenHash, LocalDateTime newExpiresAt) {
+        this.tokenHash = newTokenHash;
         this.expiresAt = newExpiresAt;
         this.issuedAt = LocalDateTime.now();
     }
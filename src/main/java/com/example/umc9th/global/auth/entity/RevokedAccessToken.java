@@ -0,0 +1,52 @@
+package com.example.umc9th.global.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 Access Token 엔티티
+ * - 로그아웃 시 Access Token의 jti(토큰 ID)를 기록
+ * - 토큰 만료 시각이 지나면 더 이상 필요 없으므로 정리 대상
+ */
+@Entity
+@Table(name = "revoked_access_token", indexes = {
+        @Index(name = "idx_revoked_jti", columnList = "jti", unique = true),
+        @Index(name = "idx_revoked_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class RevokedAccessToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 토큰 ID (jti 클레임, UUID)
+     */
+    @NonNull
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    /**
+     * 원래 토큰의 만료 시각
+     */
+    @NonNull
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -1,6 +1,9 @@
 package com.example.umc9th.global.auth.jwt;
 
 import com.example.umc9th.global.auth.CustomUserDetailsService;
+import com.example.umc9th.global.auth.JwtPrincipal;
+import com.example.umc9th.global.auth.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +24,15 @@ import java.io.IOException;
  * - 모든 HTTP 요청을 가로채서 JWT 토큰 검증
  * - 유효한 토큰이면 SecurityContext에 인증 정보 저장
  * - OncePerRequestFilter: 요청당 한 번만 실행되도록 보장
+ *
+ * 인증 모드 (jwt.claims-only-auth):
+ * - true: 토큰 Claims(memberId, email, role)로 JwtPrincipal 생성 → 요청당 회원 조회 없음
+ * - false: 매 요청마다 CustomUserDetailsService로 회원 조회 (기존 방식)
+ * - true여도 role 클레임이 없거나 알 수 없는 토큰은 DB 조회로 대체
+ *
+ * 폐기(로그아웃) 확인:
+ * - TokenRevocationService의 메모리 Bloom Filter로 확인 → 폐기되지 않은 토큰은 DB 조회 없음
+ * - memberId 클레임이 없는 토큰은 일괄 폐기 여부를 확인할 수 없어 거부됨
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -28,6 +40,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean claimsOnlyAuth;
 
     /**
      * JWT 토큰 검증 및 인증 처리
@@ -54,15 +68,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         try {
-            // 3. 토큰 유효성 검증
-            if (jwtUtil.isValid(token)) {
-                // 4. 토큰에서 이메일 추출
-                String email = jwtUtil.getEmail(token);
+            // 3. 토큰 유효성 검증 (파싱·서명 검증 1회, 검증된 토큰은 캐시 사용)
+            Claims claims = jwtUtil.verify(token);
+            if (claims != null && tokenRevocationService.isRevoked(claims)) {
+                log.warn("[JwtAuthFilter] 폐기된 JWT 토큰 - URI: {}", request.getRequestURI());
+            } else if (claims != null) {
+                // 4~5. 사용자 정보 생성 (Claims 기반 또는 DB 조회)
+                UserDetails userDetails = resolveUserDetails(claims);
+                String email = userDetails.getUsername();
                 log.info("[JwtAuthFilter] JWT 인증 시작 - email: {}, URI: {}", email, request.getRequestURI());
 
-                // 5. 사용자 정보 조회
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-
                 // 6. 인증 객체 생성
                 Authentication authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -85,6 +100,26 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰으로 인증 사용자 정보 생성
+     * - Claims 기반 모드: JwtPrincipal 생성 (DB 조회 없음)
+     * - 클레임이 부족하거나 DB 조회 모드이면 이메일로 회원 조회
+     *
+     * @param claims 검증된 토큰 Claims
+     * @return UserDetails (JwtPrincipal 또는 MemberSnapshot)
+     */
+    private UserDetails resolveUserDetails(Claims claims) {
+        if (claimsOnlyAuth) {
+            JwtPrincipal principal = jwtUtil.getPrincipal(claims);
+            if (principal != null) {
+                return principal;
+            }
+            log.debug("[JwtAuthFilter] Claims 부족 - DB 조회로 대체");
+        }
+
+        return customUserDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
     /**
      * Authorization 헤더에서 JWT 토큰 추출
      *
@@ -1,9 +1,11 @@
 package com.example.umc9th.global.auth.jwt;
 
 import com.example.umc9th.global.auth.CustomUserDetails;
+import com.example.umc9th.global.auth.JwtPrincipal;
+import com.example.umc9th.global.auth.enums.Role;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +18,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -23,23 +26,45 @@ import java.util.stream.Collectors;
  * - Access Token 생성
  * - 토큰에서 사용자 정보 추출
  * - 토큰 유효성 검증
+ *
+ * 검증 경로:
+ * - JwtParser는 불변·스레드 안전하므로 생성자에서 한 번만 만들어 재사용
+ * - verify()가 파싱 + 서명 검증을 한 번에 수행하고 Claims를 반환
+ * - 검증된 토큰은 SHA-256 다이제스트를 키로 만료 시각까지 캐시 (같은 토큰 재검증 생략)
+ *   Refresh Token은 재발급 때 한 번 쓰고 교체되므로 verifyRefreshToken()으로 캐시 없이 검증
+ *   (만료가 긴 Refresh Token이 Access Token 캐시 자리를 차지하지 않도록)
+ * - jwt.verified-token-cache.max-size가 0 이하면 캐시 없이 매번 서명 검증 (다이제스트 계산도 생략)
  */
 @Slf4j
 @Component
 public class JwtUtil {
 
+    /**
+     * 발급 시각(밀리초) 클레임
+     * - iat는 초 단위라 "모든 기기 로그아웃" 직후 같은 초에 재발급한 토큰을 구분할 수 없어 따로 기록
+     */
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
+
     private final SecretKey secretKey;
     private final Duration accessExpiration;
     private final Duration refreshExpiration;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;  // null이면 캐시 비활성화
 
     public JwtUtil(
             @Value("${jwt.secret-key}") String secret,
             @Value("${jwt.access-token-expiration}") Long accessExpiration,
-            @Value("${jwt.refresh-token-expiration}") Long refreshExpiration
+            @Value("${jwt.refresh-token-expiration}") Long refreshExpiration,
+            @Value("${jwt.verified-token-cache.max-size:10000}") long verifiedTokenCacheSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessExpiration = Duration.ofMillis(accessExpiration);
         this.refreshExpiration = Duration.ofMillis(refreshExpiration);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .clockSkewSeconds(60)  // 시간 오차 허용 (60초)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCacheSize > 0 ? new VerifiedTokenCache(verifiedTokenCacheSize) : null;
         log.info("[JwtUtil] JWT 설정 초기화 - Access 만료: {}시간, Refresh 만료: {}일",
                 accessExpiration / 3600000, refreshExpiration / 86400000);
     }
@@ -67,45 +92,72 @@ public class JwtUtil {
     }
 
     /**
-     * Access Token 생성 (이메일만으로)
-     * - Token Refresh 시 사용
-     * - OAuth2 로그인 성공 핸들러에서 사용
+     * 토큰에서 이메일 추출
      *
-     * @param email 사용자 이메일
-     * @return JWT Access Token
+     * @param token JWT 토큰
+     * @return 사용자 이메일
      */
-    public String generateAccessToken(String email) {
-        log.info("[JwtUtil.generateAccessToken] Access Token 생성 (이메일만) - email: {}", email);
-        return createSimpleToken(email, accessExpiration);
+    public String getEmail(String token) {
+        Claims claims = verify(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     /**
-     * Refresh Token 생성 (이메일만으로)
-     * - Token Refresh 시 사용
+     * 토큰 검증 후 Claims 반환 (파싱·서명 검증 1회)
+     * - 이미 검증된 토큰이면 캐시된 Claims 반환 (서명 검증 생략)
+     * - 검증에 성공한 토큰만 만료 시각까지 캐시
      *
-     * @param email 사용자 이메일
-     * @return JWT Refresh Token
+     * @param token JWT 토큰
+     * @return 검증된 Claims (유효하지 않으면 null)
      */
-    public String generateRefreshToken(String email) {
-        log.info("[JwtUtil.generateRefreshToken] Refresh Token 생성 (이메일만) - email: {}", email);
-        return createSimpleToken(email, refreshExpiration);
+    public Claims verify(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        if (verifiedTokenCache == null) {
+            return parse(token);
+        }
+
+        String digest = TokenDigests.sha256Hex(token);
+        Claims cached = verifiedTokenCache.get(digest);
+        if (cached != null) {
+            log.debug("[JwtUtil.verify] 캐시된 토큰 검증 결과 사용");
+            return cached;
+        }
+
+        Claims claims = parse(token);
+        if (claims != null) {
+            verifiedTokenCache.put(digest, claims);
+        }
+        return claims;
     }
 
     /**
-     * 토큰에서 이메일 추출
+     * Refresh Token 검증 후 Claims 반환 (검증 캐시 미사용)
+     * - Refresh Token은 재발급 시 한 번 검증하고 교체되므로 캐시해도 다시 적중하지 않음
      *
-     * @param token JWT 토큰
-     * @return 사용자 이메일
+     * @param token Refresh Token
+     * @return 검증된 Claims (유효하지 않으면 null)
      */
-    public String getEmail(String token) {
-        try {
-            String email = getClaims(token).getPayload().getSubject();
-            log.debug("[JwtUtil.getEmail] 토큰에서 이메일 추출 성공 - email: {}", email);
-            return email;
-        } catch (JwtException e) {
-            log.warn("[JwtUtil.getEmail] 토큰에서 이메일 추출 실패 - error: {}", e.getMessage());
+    public Claims verifyRefreshToken(String token) {
+        if (token == null || token.isBlank()) {
             return null;
         }
+        return parse(token);
+    }
+
+    /**
+     * 토큰 Claims로 경량 인증 정보 생성 (DB 조회 없음)
+     * - memberId, email, role 클레임이 모두 있어야 생성 가능
+     * - 이메일만 담긴 이전 형식 토큰이면 null 반환 (호출 측에서 DB 조회로 대체)
+     *
+     * @param token JWT 토큰
+     * @return JwtPrincipal (클레임 부족 또는 검증 실패 시 null)
+     */
+    public JwtPrincipal getPrincipal(String token) {
+        Claims claims = verify(token);
+        return claims != null ? getPrincipal(claims) : null;
     }
 
     /**
@@ -115,13 +167,23 @@ public class JwtUtil {
      * @return 유효 여부
      */
     public boolean isValid(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * 파싱 + 서명 검증 (캐시 미사용)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 Claims (유효하지 않으면 null)
+     */
+    private Claims parse(String token) {
         try {
-            getClaims(token);
-            log.debug("[JwtUtil.isValid] 토큰 검증 성공");
-            return true;
-        } catch (JwtException e) {
-            log.warn("[JwtUtil.isValid] 토큰 검증 실패 - error: {}", e.getMessage());
-            return false;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            log.debug("[JwtUtil.verify] 토큰 검증 성공");
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("[JwtUtil.verify] 토큰 검증 실패 - error: {}", e.getMessage());
+            return null;
         }
     }
 
@@ -141,11 +203,13 @@ public class JwtUtil {
                 .collect(Collectors.joining(","));
 
         String token = Jwts.builder()
+                .id(UUID.randomUUID().toString())  // 토큰 ID (jti, 로그아웃 시 폐기 대상 식별)
                 .subject(user.getUsername())  // 이메일을 Subject로 설정
                 .claim("role", authorities)   // 권한 정보
                 .claim("email", user.getUsername())  // 이메일
                 .claim("memberId", user.getMember().getId())  // 회원 ID
                 .issuedAt(Date.from(now))  // 발급 시간
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.toEpochMilli())  // 발급 시간 (밀리초, 일괄 폐기 판정용)
                 .expiration(Date.from(now.plus(expiration)))  // 만료 시간
                 .signWith(secretKey)  // 서명
                 .compact();
@@ -156,32 +220,6 @@ public class JwtUtil {
         return token;
     }
 
-    /**
-     * JWT 토큰 생성 (이메일만으로)
-     * - Refresh Token으로 새 Access Token 발급 시 사용
-     * - CustomUserDetails 없이 간단하게 토큰 생성
-     *
-     * @param email      사용자 이메일
-     * @param expiration 만료 시간
-     * @return JWT 토큰
-     */
-    private String createSimpleToken(String email, Duration expiration) {
-        Instant now = Instant.now();
-
-        String token = Jwts.builder()
-                .subject(email)  // 이메일을 Subject로 설정
-                .claim("email", email)  // 이메일
-                .issuedAt(Date.from(now))  // 발급 시간
-                .expiration(Date.from(now.plus(expiration)))  // 만료 시간
-                .signWith(secretKey)  // 서명
-                .compact();
-
-        log.info("[JwtUtil.createSimpleToken] 간단한 토큰 생성 완료 - email: {}, 만료: {}초 후",
-                email, expiration.getSeconds());
-
-        return token;
-    }
-
     /**
      * Refresh Token 만료 시간 조회 (LocalDateTime)
      * - RefreshToken 엔티티 저장 시 사용
@@ -191,17 +229,27 @@ public class JwtUtil {
     }
 
     /**
-     * 토큰 파싱 및 Claims 추출
+     * 검증된 Claims → JwtPrincipal 변환
+     * - role 클레임은 "ROLE_USER" 형식 (여러 개면 첫 번째 사용)
      *
-     * @param token JWT 토큰
-     * @return Claims 객체
-     * @throws JwtException 토큰이 유효하지 않을 때
+     * @param claims verify()로 검증된 Claims
+     * @return JwtPrincipal (필수 클레임이 없으면 null)
      */
-    private Jws<Claims> getClaims(String token) throws JwtException {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .clockSkewSeconds(60)  // 시간 오차 허용 (60초)
-                .build()
-                .parseSignedClaims(token);
+    public JwtPrincipal getPrincipal(Claims claims) {
+        Object memberId = claims.get("memberId");
+        String email = claims.get("email", String.class);
+        String role = claims.get("role", String.class);
+
+        if (!(memberId instanceof Number) || email == null || role == null || role.isBlank()) {
+            log.debug("[JwtUtil.getPrincipal] 필수 클레임 누락 - memberId: {}, email: {}", memberId, email);
+            return null;
+        }
+
+        try {
+            return new JwtPrincipal(((Number) memberId).longValue(), email, Role.valueOf(role.split(",")[0]));
+        } catch (IllegalArgumentException e) {
+            log.warn("[JwtUtil.getPrincipal] 알 수 없는 role 클레임 - role: {}", role);
+            return null;
+        }
     }
 }
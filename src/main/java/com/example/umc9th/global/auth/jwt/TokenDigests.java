@@ -0,0 +1,33 @@
+package com.example.umc9th.global.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 다이제스트 유틸리티
+ * - 원문 토큰 대신 SHA-256 해시(소문자 hex 64자)를 캐시·저장 키로 사용
+ */
+public final class TokenDigests {
+
+    private TokenDigests() {
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (소문자 hex)
+     *
+     * @param token 원문 토큰
+     * @return 64자 hex 문자열
+     */
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 필수 지원 알고리즘
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.umc9th.global.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims 캐시
+ * - 키: 토큰 SHA-256 다이제스트 (원문 토큰은 메모리에 보관하지 않음)
+ * - 항목별 만료: 토큰의 exp 시각까지만 유지 → 만료된 토큰이 캐시로 통과하는 일 없음
+ * - 최대 개수 제한 (초과 시 Caffeine이 오래/덜 쓰인 항목부터 제거)
+ */
+class VerifiedTokenCache {
+
+    private final Cache<String, Claims> cache;
+
+    VerifiedTokenCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return nanosUntilExpiration(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return nanosUntilExpiration(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    Claims get(String digest) {
+        return cache.getIfPresent(digest);
+    }
+
+    /**
+     * 검증된 Claims 저장
+     * - exp 클레임이 없거나 이미 지난 토큰은 저장하지 않음
+     */
+    void put(String digest, Claims claims) {
+        if (nanosUntilExpiration(claims) > 0) {
+            cache.put(digest, claims);
+        }
+    }
+
+    private static long nanosUntilExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return 0;
+        }
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        return remainingMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(remainingMillis) : 0;
+    }
+}
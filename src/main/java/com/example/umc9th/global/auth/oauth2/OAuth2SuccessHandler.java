@@ -1,7 +1,7 @@
 package com.example.umc9th.global.auth.oauth2;
 
-import com.example.umc9th.global.auth.CustomUserDetails;
-import com.example.umc9th.global.auth.jwt.JwtUtil;
+import com.example.umc9th.global.auth.dto.TokenDto;
+import com.example.umc9th.global.auth.enums.SocialType;
 import com.example.umc9th.global.auth.service.AuthService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
@@ -17,7 +18,7 @@ import java.io.IOException;
 
 /**
  * OAuth2 로그인 성공 시 처리하는 핸들러
- * - JWT Access Token + Refresh Token 생성
+ * - 회원 upsert + JWT Access Token/Refresh Token 발급 + 저장 (AuthService.socialLogin, 한 트랜잭션)
  * - 프론트엔드로 리다이렉트 (토큰 전달)
  */
 @Slf4j
@@ -25,7 +26,6 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-    private final JwtUtil jwtUtil;
     private final AuthService authService;
 
     @Value("${oauth2.redirect.success-url:http://localhost:3000/oauth/callback}")
@@ -45,21 +45,22 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
                                         Authentication authentication) throws IOException, ServletException {
         log.info("[OAuth2SuccessHandler.onAuthenticationSuccess] OAuth2 로그인 성공");
 
-        // 인증된 사용자 정보 추출
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        String email = userDetails.getUsername();  // 이메일
-        Long memberId = userDetails.getMemberId();
+        // Google 사용자 정보 추출
+        OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
+        String email = oAuth2User.getAttribute("email");
+        String name = oAuth2User.getAttribute("name");
+        if (name == null || name.isBlank()) {
+            name = email;  // member.name은 NOT NULL
+        }
 
-        log.info("[OAuth2SuccessHandler.onAuthenticationSuccess] 사용자 - ID: {}, email: {}", memberId, email);
+        // 회원 upsert + JWT 발급 + Refresh Token 저장 (한 트랜잭션)
+        // Google 이메일을 소셜 UID로 사용 (기존 가입 회원과 동일한 규칙)
+        TokenDto.SocialLoginResult result = authService.socialLogin(SocialType.GOOGLE, email, email, name);
+        String accessToken = result.accessToken();
+        String refreshToken = result.refreshToken();
+        Long memberId = result.memberId();
 
-        // JWT Access Token + Refresh Token 생성
-        String accessToken = jwtUtil.generateAccessToken(email);
-        String refreshToken = jwtUtil.generateRefreshToken(email);
-
-        // Refresh Token DB에 저장
-        authService.saveRefreshToken(userDetails.getMember(), refreshToken);
-
-        log.info("[OAuth2SuccessHandler.onAuthenticationSuccess] JWT 토큰 발급 완료 - email: {}", email);
+        log.info("[OAuth2SuccessHandler.onAuthenticationSuccess] JWT 토큰 발급 완료 - ID: {}, email: {}", memberId, email);
 
         // 프론트엔드로 리다이렉트 (쿼리 파라미터로 토큰 전달)
         // 예: http://localhost:3000/oauth/callback?accessToken=...&refreshToken=...
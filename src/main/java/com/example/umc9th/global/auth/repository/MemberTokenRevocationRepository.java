@@ -0,0 +1,31 @@
+package com.example.umc9th.global.auth.repository;
+
+import com.example.umc9th.global.auth.entity.MemberTokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원별 토큰 일괄 폐기 시각 Repository
+ */
+@Repository
+public interface MemberTokenRevocationRepository extends JpaRepository<MemberTokenRevocation, Long> {
+
+    /**
+     * 아직 의미 있는 폐기 기록 조회
+     * - after 이전의 기록은 그 시각 전에 발급된 토큰이 모두 만료되었으므로 제외
+     */
+    List<MemberTokenRevocation> findAllByRevokedBeforeAfter(LocalDateTime after);
+
+    /**
+     * 오래된 폐기 기록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM MemberTokenRevocation mtr WHERE mtr.revokedBefore < :before")
+    int deleteAllOlderThan(@Param("before") LocalDateTime before);
+}
@@ -1,6 +1,7 @@
 package com.example.umc9th.global.auth.repository;
 
 import com.example.umc9th.global.auth.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,15 +15,16 @@ import java.util.Optional;
 /**
  * Refresh Token Repository
  * - MySQL에 저장된 Refresh Token 관리
+ * - 토큰은 SHA-256 다이제스트(token_hash)로 조회 (TokenDigests.sha256Hex)
  */
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     /**
-     * 토큰 문자열로 조회
-     * - Token Refresh API에서 사용
+     * 토큰 다이제스트로 조회
+     * - Token Refresh API에서 사용 (token_hash 고유 인덱스)
      */
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     /**
      * 회원 ID로 모든 토큰 조회
@@ -49,25 +51,59 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     /**
      * 특정 토큰 삭제
      * - 단일 기기 로그아웃에 사용
+     * - 파생 삭제 메서드(조회 후 엔티티별 삭제) 대신 DELETE 한 문장
+     *
+     * @return 삭제된 행 수
      */
-    void deleteByToken(String token);
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
 
     /**
-     * 만료된 토큰 삭제
-     * - 배치 작업으로 주기적으로 실행
+     * lastId 이후 만료된 토큰 ID 조회 (ID 오름차순)
+     * - 만료 토큰 정리 배치에서 청크 범위를 정할 때 사용
+     * - Pageable로 청크 크기 제한 (PageRequest.of(0, chunkSize))
+     */
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.expiresAt < :now AND rt.id > :lastId ORDER BY rt.id")
+    List<Long> findExpiredIdsAfter(@Param("now") LocalDateTime now,
+                                   @Param("lastId") Long lastId,
+                                   Pageable pageable);
+
+    /**
+     * ID 범위 안의 만료된 토큰 삭제
+     * - PK 범위 스캔이라 청크 단위로 짧게 잠금
+     *
+     * @return 삭제된 행 수
      */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
-    void deleteAllExpiredTokens(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id BETWEEN :fromId AND :toId AND rt.expiresAt < :now")
+    int deleteExpiredInRange(@Param("fromId") Long fromId,
+                             @Param("toId") Long toId,
+                             @Param("now") LocalDateTime now);
 
     /**
-     * 회원의 토큰 개수 조회
-     * - 동시 로그인 기기 수 제한에 사용
+     * 회원의 유효한(만료 전) 토큰 중 최신 keep개만 남기고 삭제
+     * - 동시 로그인 기기 수 초과 시 한 문장으로 정리 (COUNT 후 DELETE 하지 않음)
+     * - 만료된 토큰은 세지 않음 (만료 토큰 정리 배치가 처리)
+     * - MySQL은 DELETE 대상 테이블을 서브쿼리에서 직접 읽을 수 없으므로 LIMIT 파생 테이블과 JOIN
+     *
+     * @param keep 남길 토큰 수 (새로 저장할 토큰 자리를 뺀 값)
+     * @return 삭제된 행 수
      */
-    long countByMemberId(Long memberId);
+    @Modifying
+    @Query(value = """
+            DELETE rt FROM refresh_token rt
+            JOIN (SELECT id FROM refresh_token
+                  WHERE member_id = :memberId AND expires_at > :now
+                  ORDER BY issued_at DESC, id DESC
+                  LIMIT :keep, 18446744073709551615) stale ON stale.id = rt.id
+            """, nativeQuery = true)
+    int deleteActiveBeyondNewest(@Param("memberId") Long memberId,
+                                 @Param("keep") int keep,
+                                 @Param("now") LocalDateTime now);
 
     /**
      * 토큰 존재 여부 확인
      */
-    boolean existsByToken(String token);
+    boolean existsByTokenHash(String tokenHash);
 }
@@ -0,0 +1,39 @@
+package com.example.umc9th.global.auth.repository;
+
+import com.example.umc9th.global.auth.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기된 Access Token Repository
+ */
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    /**
+     * 토큰 ID 폐기 여부 확인
+     * - Bloom Filter가 "있을 수도 있음"이라고 답한 경우에만 호출
+     */
+    boolean existsByJti(String jti);
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 ID 목록
+     * - Bloom Filter 재구성에 사용
+     */
+    @Query("SELECT rat.jti FROM RevokedAccessToken rat WHERE rat.expiresAt >= :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 폐기 기록 삭제
+     * - 만료된 토큰은 서명 검증에서 이미 거부되므로 기록 불필요
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken rat WHERE rat.expiresAt < :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -1,51 +1,143 @@
 package com.example.umc9th.global.auth.scheduler;
 
 import com.example.umc9th.global.auth.repository.RefreshTokenRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 만료된 Refresh Token 자동 정리 스케줄러
  * - 매일 새벽 3시에 실행
  * - 만료된 토큰을 DB에서 삭제하여 용량 절약
+ *
+ * 청크 단위 삭제:
+ * - ID 오름차순으로 만료 토큰 ID를 chunk-size개씩 찾아 그 ID 범위만 삭제
+ * - 청크마다 별도의 짧은 트랜잭션 → 긴 잠금/undo 로그 누적 방지
+ * - 청크 사이에 pause만큼 쉬어 DB 부하 분산
+ * - 커밋된 청크는 이미 지워졌으므로 중단 후 다시 실행하면 남은 행부터 이어서 정리
+ *
+ * 지표 (actuator metrics):
+ * - auth.refresh-token.purge.deleted: 삭제된 행 수
+ * - auth.refresh-token.purge.duration: 정리 작업 소요 시간
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TokenCleanupScheduler {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Counter deletedCounter;
+    private final Timer purgeTimer;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public TokenCleanupScheduler(
+            RefreshTokenRepository refreshTokenRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auth.token-cleanup.chunk-size:1000}") int chunkSize,
+            @Value("${auth.token-cleanup.pause:100ms}") Duration pause
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.deletedCounter = Counter.builder("auth.refresh-token.purge.deleted")
+                .description("만료되어 삭제된 Refresh Token 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("auth.refresh-token.purge.duration")
+                .description("만료 Refresh Token 정리 작업 소요 시간")
+                .register(meterRegistry);
+    }
 
     /**
      * 만료된 Refresh Token 자동 삭제
      * - 매일 새벽 3시 실행
      * - Cron 표현식: 초 분 시 일 월 요일
+     * - 이전 실행이 아직 진행 중이면 건너뜀
      */
-    @Scheduled(cron = "0 0 3 * * *")  // 매일 새벽 3시
-    @Transactional
+    @Scheduled(cron = "${auth.token-cleanup.cron:0 0 3 * * *}")  // 기본: 매일 새벽 3시
     public void cleanupExpiredTokens() {
-        log.info("[TokenCleanupScheduler.cleanupExpiredTokens] 만료된 토큰 정리 시작");
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[TokenCleanupScheduler.cleanupExpiredTokens] 이전 정리 작업 진행 중 - 건너뜀");
+            return;
+        }
 
-        LocalDateTime now = LocalDateTime.now();
-        refreshTokenRepository.deleteAllExpiredTokens(now);
+        try {
+            log.info("[TokenCleanupScheduler.cleanupExpiredTokens] 만료된 토큰 정리 시작 - chunk: {}, pause: {}",
+                    chunkSize, pause);
+
+            Timer.Sample sample = Timer.start();
+            long totalDeleted = purgeInChunks();
+            sample.stop(purgeTimer);
 
-        log.info("[TokenCleanupScheduler.cleanupExpiredTokens] 만료된 토큰 정리 완료");
+            log.info("[TokenCleanupScheduler.cleanupExpiredTokens] 만료된 토큰 정리 완료 - 삭제: {}건", totalDeleted);
+        } finally {
+            running.set(false);
+        }
     }
 
     /**
-     * 테스트용: 1시간마다 실행 (선택 사항)
-     * - 개발 환경에서 빠른 테스트를 위해 사용
-     * - Production에서는 주석 처리 권장
+     * 청크 단위 삭제 루프
+     *
+     * @return 삭제된 전체 행 수
      */
-    // @Scheduled(cron = "0 0 * * * *")  // 매시간 정각
-    // @Transactional
-    // public void cleanupExpiredTokensHourly() {
-    //     log.info("[TokenCleanupScheduler.cleanupExpiredTokensHourly] 만료된 토큰 정리 (시간별)");
-    //     refreshTokenRepository.deleteAllExpiredTokens(LocalDateTime.now());
-    // }
+    private long purgeInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        long lastId = 0L;
+        long totalDeleted = 0L;
+
+        while (true) {
+            List<Long> ids = refreshTokenRepository.findExpiredIdsAfter(now, lastId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                return totalDeleted;
+            }
+
+            Long fromId = ids.get(0);
+            Long toId = ids.get(ids.size() - 1);
+            Integer deleted = transactionTemplate.execute(
+                    status -> refreshTokenRepository.deleteExpiredInRange(fromId, toId, now));
+            int deletedCount = deleted != null ? deleted : 0;
+
+            deletedCounter.increment(deletedCount);
+            totalDeleted += deletedCount;
+            lastId = toId;
+            log.debug("[TokenCleanupScheduler.purgeInChunks] 청크 삭제 - id: {}~{}, 삭제: {}건",
+                    fromId, toId, deletedCount);
+
+            if (ids.size() < chunkSize) {
+                return totalDeleted;
+            }
+
+            if (!sleepBetweenChunks()) {
+                log.warn("[TokenCleanupScheduler.purgeInChunks] 인터럽트로 중단 - 다음 실행에서 이어서 정리");
+                return totalDeleted;
+            }
+        }
+    }
+
+    private boolean sleepBetweenChunks() {
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
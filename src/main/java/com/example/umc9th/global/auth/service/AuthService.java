@@ -1,14 +1,20 @@
 package com.example.umc9th.global.auth.service;
 
 import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.domain.member.repository.MemberRepository;
+import com.example.umc9th.global.auth.CustomUserDetails;
+import com.example.umc9th.global.auth.cache.UserDetailsCache;
 import com.example.umc9th.global.auth.dto.TokenDto;
 import com.example.umc9th.global.auth.entity.RefreshToken;
+import com.example.umc9th.global.auth.enums.SocialType;
 import com.example.umc9th.global.auth.jwt.JwtUtil;
+import com.example.umc9th.global.auth.jwt.TokenDigests;
 import com.example.umc9th.global.auth.repository.RefreshTokenRepository;
 import com.example.umc9th.global.exception.CustomException;
 import com.example.umc9th.global.response.code.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,12 +28,31 @@ import java.time.LocalDateTime;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final JwtUtil jwtUtil;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final MemberRepository memberRepository;
+    private final int maxSessionsPerMember;
+
+    public AuthService(
+            JwtUtil jwtUtil,
+            RefreshTokenRepository refreshTokenRepository,
+            UserDetailsCache userDetailsCache,
+            TokenRevocationService tokenRevocationService,
+            MemberRepository memberRepository,
+            @Value("${auth.max-sessions-per-member:5}") int maxSessionsPerMember
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.memberRepository = memberRepository;
+        this.maxSessionsPerMember = maxSessionsPerMember;
+    }
 
     /**
      * Access Token 재발급
@@ -41,14 +66,16 @@ public class AuthService {
     public TokenDto.TokenResponse refreshAccessToken(String refreshTokenString) {
         log.info("[AuthService.refreshAccessToken] Token Refresh 시작");
 
-        // 1. Refresh Token 유효성 검증 (JWT 서명 + 만료 시간)
-        if (!jwtUtil.isValid(refreshTokenString)) {
+        // 1. Refresh Token 유효성 검증 (JWT 서명 + 만료 시간, 파싱 1회, 한 번 쓰고 교체되므로 검증 캐시 미사용)
+        Claims claims = jwtUtil.verifyRefreshToken(refreshTokenString);
+        if (claims == null) {
             log.warn("[AuthService.refreshAccessToken] 유효하지 않은 Refresh Token");
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
 
-        // 2. DB에서 Refresh Token 조회
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenString)
+        // 2. DB에서 Refresh Token 조회 (token_hash 고유 인덱스)
+        String tokenHash = TokenDigests.sha256Hex(refreshTokenString);
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
                 .orElseThrow(() -> {
                     log.warn("[AuthService.refreshAccessToken] DB에 없는 Refresh Token (로그아웃됨)");
                     return new CustomException(ErrorCode.INVALID_TOKEN);
@@ -62,20 +89,22 @@ public class AuthService {
         }
 
         // 4. 사용자 이메일 추출
-        String email = jwtUtil.getEmail(refreshTokenString);
+        String email = claims.getSubject();
         Member member = refreshToken.getMember();
 
         log.info("[AuthService.refreshAccessToken] Token Refresh 성공 - email: {}, memberId: {}",
                 email, member.getId());
 
-        // 5. 새 Access Token 발급
-        String newAccessToken = jwtUtil.generateAccessToken(email);
+        // 5. 새 Access Token 발급 (memberId, role 클레임 포함)
+        CustomUserDetails userDetails = new CustomUserDetails(member);
+        String newAccessToken = jwtUtil.createAccessToken(userDetails);
 
         // 6. Refresh Token Rotation (선택): 새 Refresh Token도 발급
-        String newRefreshToken = jwtUtil.generateRefreshToken(email);
+        String newRefreshToken = jwtUtil.createRefreshToken(userDetails);
 
         // 기존 Refresh Token 업데이트
-        refreshToken.updateToken(newRefreshToken, jwtUtil.getRefreshTokenExpiryDate());
+        String newTokenHash = TokenDigests.sha256Hex(newRefreshToken);
+        refreshToken.updateToken(newTokenHash, jwtUtil.getRefreshTokenExpiryDate());
         refreshTokenRepository.save(refreshToken);
 
         log.info("[AuthService.refreshAccessToken] 새 토큰 발급 완료 - email: {}", email);
@@ -83,9 +112,49 @@ public class AuthService {
         return TokenDto.TokenResponse.of(newAccessToken, newRefreshToken);
     }
 
+    /**
+     * 소셜 로그인 (회원 upsert + 토큰 발급 + 세션 저장을 한 트랜잭션에서 처리)
+     * - social_uid 고유 인덱스 기준 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 가입 경합 제거
+     * - 이후 social_uid로 회원을 다시 조회 (upsert 1문장 + 조회 1문장)
+     * - 같은 이메일로 일반 가입한 계정이 있으면 upsert가 삽입을 건너뛰므로, 그때만 이메일로 조회해 그 계정으로 로그인
+     *
+     * @param socialType 소셜 로그인 제공자
+     * @param socialUid  제공자 기준 사용자 식별자 (Google: 이메일)
+     * @param email      이메일
+     * @param name       이름
+     * @return 회원 ID + Access Token + Refresh Token
+     */
+    @Transactional
+    public TokenDto.SocialLoginResult socialLogin(SocialType socialType, String socialUid, String email, String name) {
+        log.info("[AuthService.socialLogin] 소셜 로그인 - type: {}, email: {}", socialType, email);
+
+        // 1. 회원 upsert (신규면 가입, 기존이면 변경 없음)
+        //    영향받은 행 수는 중복 키로 변경이 없어도 1일 수 있어 신규 가입 판단에 쓰지 않음
+        memberRepository.upsertSocialMember(socialUid, socialType.name(), email, name, LocalDateTime.now());
+        log.info("[AuthService.socialLogin] 회원 upsert 완료 - socialUid: {}", socialUid);
+
+        // 2. 회원 조회 (social_uid 기준 → 이메일이 바뀐 기존 소셜 회원도 찾음)
+        //    없으면 같은 이메일의 일반 가입 계정 때문에 삽입되지 않은 경우 → 이메일로 조회 (가장 먼저 가입한 계정)
+        Member member = memberRepository.findBySocialUid(socialUid)
+                .or(() -> memberRepository.findFirstByEmailOrderByIdAsc(email))
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+
+        // 3. 토큰 발급 + Refresh Token 저장 (같은 트랜잭션)
+        CustomUserDetails userDetails = new CustomUserDetails(member);
+        String accessToken = jwtUtil.createAccessToken(userDetails);
+        String refreshToken = jwtUtil.createRefreshToken(userDetails);
+        saveRefreshToken(member, refreshToken);
+
+        log.info("[AuthService.socialLogin] 소셜 로그인 완료 - memberId: {}", member.getId());
+
+        return new TokenDto.SocialLoginResult(member.getId(), member.getEmail(), accessToken, refreshToken);
+    }
+
     /**
      * Refresh Token 저장
      * - 로그인 시 호출
+     * - 원문 대신 다이제스트만 저장
+     * - 회원당 세션 수가 auth.max-sessions-per-member에 도달했으면 가장 오래된 세션부터 제거
      *
      * @param member       회원
      * @param refreshToken Refresh Token
@@ -94,8 +163,11 @@ public class AuthService {
     public void saveRefreshToken(Member member, String refreshToken) {
         log.info("[AuthService.saveRefreshToken] Refresh Token 저장 - memberId: {}", member.getId());
 
+        evictOldestSessions(member.getId());
+
+        String tokenHash = TokenDigests.sha256Hex(refreshToken);
         RefreshToken token = RefreshToken.builder()
-                .token(refreshToken)
+                .tokenHash(tokenHash)
                 .member(member)
                 .issuedAt(LocalDateTime.now())
                 .expiresAt(jwtUtil.getRefreshTokenExpiryDate())
@@ -104,19 +176,44 @@ public class AuthService {
         refreshTokenRepository.save(token);
     }
 
+    /**
+     * 새 세션 자리 확보
+     * - 회원 행을 잠가(FOR UPDATE) 같은 회원의 동시 로그인을 직렬화 → 둘 다 한도를 통과하는 경합 제거
+     * - 만료 전 토큰 중 최신 (최대치 - 1)개만 남기고 한 문장으로 삭제 (같은 트랜잭션)
+     * - 최대치가 0 이하이면 제한 없음
+     */
+    private void evictOldestSessions(Long memberId) {
+        if (maxSessionsPerMember <= 0) {
+            return;
+        }
+
+        memberRepository.lockById(memberId);
+        int deleted = refreshTokenRepository.deleteActiveBeyondNewest(
+                memberId, maxSessionsPerMember - 1, LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("[AuthService.saveRefreshToken] 최대 세션 수 초과 - memberId: {}, 오래된 세션 {}개 삭제",
+                    memberId, deleted);
+        }
+    }
+
     /**
      * 로그아웃
      * - DB에서 Refresh Token 삭제
-     * - Access Token은 클라이언트에서 삭제 (Stateless)
+     * - Access Token이 함께 전달되면 jti를 폐기 목록에 등록 (즉시 무효화)
      *
      * @param refreshTokenString Refresh Token
+     * @param accessTokenClaims  검증된 Access Token Claims (없으면 null)
      */
     @Transactional
-    public void logout(String refreshTokenString) {
+    public void logout(String refreshTokenString, Claims accessTokenClaims) {
         log.info("[AuthService.logout] 로그아웃 시작");
 
-        // Refresh Token 삭제
-        refreshTokenRepository.deleteByToken(refreshTokenString);
+        // Refresh Token 삭제 (다이제스트 기준 DELETE 한 문장)
+        refreshTokenRepository.deleteByTokenHash(TokenDigests.sha256Hex(refreshTokenString));
+
+        if (accessTokenClaims != null) {
+            tokenRevocationService.revoke(accessTokenClaims);
+        }
 
         log.info("[AuthService.logout] 로그아웃 완료 - Refresh Token 삭제됨");
     }
@@ -124,6 +221,7 @@ public class AuthService {
     /**
      * 모든 기기에서 로그아웃
      * - 해당 회원의 모든 Refresh Token 삭제
+     * - 지금까지 발급된 Access Token도 일괄 폐기
      *
      * @param memberId 회원 ID
      */
@@ -132,6 +230,8 @@ public class AuthService {
         log.info("[AuthService.logoutAllDevices] 모든 기기 로그아웃 - memberId: {}", memberId);
 
         refreshTokenRepository.deleteAllByMemberId(memberId);
+        userDetailsCache.evictMember(memberId);
+        tokenRevocationService.revokeAllForMember(memberId);
 
         log.info("[AuthService.logoutAllDevices] 모든 Refresh Token 삭제 완료");
     }
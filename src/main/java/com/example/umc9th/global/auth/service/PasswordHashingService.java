@@ -0,0 +1,149 @@
+package com.example.umc9th.global.auth.service;
+
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.response.code.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱 전용 서비스
+ * - BCrypt 해싱/검증을 전용 스레드 풀에서 실행 (Tomcat 요청 스레드가 CPU 작업에 묶이지 않도록)
+ * - 스레드 수와 대기열 크기를 제한 → 대기열이 가득 차면 즉시 503 (AUTH_BUSY)
+ * - 대기 시간이 timeout을 넘어도 503
+ *
+ * 지표 (actuator metrics):
+ * - auth.password.hashing: 해싱/검증 소요 시간 (operation=encode|matches)
+ * - executor.queued / executor.active 등: name=passwordHashing 전용 스레드 풀 상태
+ *
+ * 일반 @Async 작업과 섞이지 않도록 스프링 빈으로 등록하지 않고 이 서비스가 직접 소유함
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password.hashing.pool-size:4}") int poolSize,
+            @Value("${auth.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.hashing.timeout:5s}") Duration timeout
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.threadPool = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "passwordHashing");
+        this.encodeTimer = Timer.builder("auth.password.hashing")
+                .description("비밀번호 해싱 소요 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hashing")
+                .description("비밀번호 검증 소요 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+
+        log.info("[PasswordHashingService] 해싱 스레드 풀 초기화 - 스레드: {}, 대기열: {}, 대기 제한: {}",
+                poolSize, queueCapacity, timeout);
+    }
+
+    /**
+     * 비밀번호 해싱
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시 문자열
+     * @throws CustomException 스레드 풀 포화 시 AUTH_BUSY (503)
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     *
+     * @param rawPassword     평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     * @throws CustomException 스레드 풀 포화 시 AUTH_BUSY (503)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 저장된 해시를 현재 설정(cost)으로 다시 해싱해야 하는지 확인
+     * - 해시 문자열의 cost만 비교하므로 스레드 풀을 거치지 않음
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("[PasswordHashingService] 해싱 대기열 포화 - 요청 거절 (대기: {})", threadPool.getQueue().size());
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("[PasswordHashingService] 해싱 대기 시간 초과 - timeout: {}", timeout);
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Runnable> pending = threadPool.shutdownNow();
+        log.info("[PasswordHashingService] 해싱 스레드 풀 종료 - 미처리 작업: {}개", pending.size());
+    }
+}
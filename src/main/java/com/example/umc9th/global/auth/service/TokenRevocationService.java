@@ -0,0 +1,257 @@
+package com.example.umc9th.global.auth.service;
+
+import com.example.umc9th.global.auth.entity.MemberTokenRevocation;
+import com.example.umc9th.global.auth.entity.RevokedAccessToken;
+import com.example.umc9th.global.auth.jwt.BloomFilter;
+import com.example.umc9th.global.auth.jwt.JwtUtil;
+import com.example.umc9th.global.auth.repository.MemberTokenRevocationRepository;
+import com.example.umc9th.global.auth.repository.RevokedAccessTokenRepository;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 폐기(Revocation) 서비스
+ * - 로그아웃: Access Token의 jti를 revoked_access_token에 기록
+ * - 모든 기기 로그아웃: member_token_revocation에 "이 시각 이전 발급 토큰 무효" 기록
+ *
+ * 조회 경로 (JwtAuthFilter에서 요청마다 호출):
+ * - jti는 메모리 Bloom Filter로 먼저 확인 → "없음"이면 DB 조회 없이 통과 (대부분의 요청)
+ * - Bloom Filter가 "있을 수도 있음"이라고 답한 경우만 DB로 확정
+ * - 회원별 폐기 시각은 건수가 적으므로 메모리 Map으로 보관
+ *
+ * 일괄 폐기 판정:
+ * - 발급 시각은 밀리초 클레임(JwtUtil.ISSUED_AT_MILLIS_CLAIM)으로 비교 → 폐기 직후 같은 초에 재로그인한 토큰은 유효
+ * - 밀리초 클레임이 없는 토큰은 iat(초 단위)로 비교하므로 폐기와 같은 초에 발급된 토큰도 폐기로 봄 (보수적)
+ * - memberId 클레임이 없는 토큰은 일괄 폐기 여부를 확인할 수 없으므로 폐기로 봄 (현재 발급하는 토큰은 모두 포함)
+ *
+ * isRevoked()는 트랜잭션을 열지 않음 (폐기되지 않은 토큰은 DB 커넥션도 사용하지 않도록)
+ * 폐기는 이 인스턴스에 즉시 반영되고, 다른 인스턴스에는 주기적 재구성(auth.revocation.rebuild-interval)으로 반영됨
+ * → 다른 인스턴스에서 로그아웃한 토큰은 최대 rebuild-interval 동안 이 인스턴스에서 계속 통과할 수 있음
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final MemberTokenRevocationRepository memberTokenRevocationRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration accessExpiration;
+
+    private final Object lock = new Object();
+    private volatile BloomFilter revokedJtis;
+    private volatile Map<Long, LocalDateTime> revokedBeforeByMember = new ConcurrentHashMap<>();
+
+    // 재구성 중(DB 조회 ~ 교체 사이)에 이 인스턴스에서 커밋된 폐기 → 교체 직전에 새 필터/Map에 다시 반영 (lock으로 보호)
+    private final List<String> jtisSinceRebuild = new ArrayList<>();
+    private final Map<Long, LocalDateTime> memberCutoffsSinceRebuild = new HashMap<>();
+
+    public TokenRevocationService(
+            RevokedAccessTokenRepository revokedAccessTokenRepository,
+            MemberTokenRevocationRepository memberTokenRevocationRepository,
+            @Value("${auth.revocation.bloom.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.revocation.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${jwt.access-token-expiration}") Long accessExpiration
+    ) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.memberTokenRevocationRepository = memberTokenRevocationRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.accessExpiration = Duration.ofMillis(accessExpiration);
+        this.revokedJtis = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 검증된 Access Token의 폐기 여부 확인
+     *
+     * @param claims JwtUtil.verify()로 검증된 Claims
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(Claims claims) {
+        Long memberId = getMemberId(claims);
+        if (memberId == null) {
+            log.debug("[TokenRevocationService.isRevoked] memberId 클레임 없는 토큰 - 폐기로 처리");
+            return true;
+        }
+
+        LocalDateTime revokedBefore = revokedBeforeByMember.get(memberId);
+        if (revokedBefore != null && issuedNotAfter(claims, revokedBefore)) {
+            log.debug("[TokenRevocationService.isRevoked] 일괄 폐기된 토큰 - memberId: {}", memberId);
+            return true;
+        }
+
+        String jti = claims.getId();
+        if (jti == null || !revokedJtis.mightContain(jti)) {
+            return false;
+        }
+
+        // Bloom Filter 양성 → DB로 확정 (오탐일 수 있음)
+        boolean revoked = revokedAccessTokenRepository.existsByJti(jti);
+        log.debug("[TokenRevocationService.isRevoked] Bloom Filter 양성 - jti: {}, 폐기: {}", jti, revoked);
+        return revoked;
+    }
+
+    /**
+     * 단일 Access Token 폐기 (로그아웃)
+     *
+     * @param claims 검증된 Access Token Claims
+     */
+    @Transactional
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            log.debug("[TokenRevocationService.revoke] jti 없는 토큰 - 폐기 기록 생략");
+            return;
+        }
+        if (revokedAccessTokenRepository.existsByJti(jti)) {
+            log.debug("[TokenRevocationService.revoke] 이미 폐기된 토큰 - jti: {}", jti);
+            return;
+        }
+
+        revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .jti(jti)
+                .expiresAt(toLocalDateTime(claims.getExpiration()))
+                .build());
+
+        revokedJtis.put(jti);
+        afterCommit(() -> {
+            synchronized (lock) {
+                revokedJtis.put(jti);
+                jtisSinceRebuild.add(jti);
+            }
+        });
+        log.info("[TokenRevocationService.revoke] Access Token 폐기 - jti: {}", jti);
+    }
+
+    /**
+     * 회원의 현재까지 발급된 모든 Access Token 폐기 (모든 기기 로그아웃)
+     *
+     * @param memberId 회원 ID
+     */
+    @Transactional
+    public void revokeAllForMember(Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        memberTokenRevocationRepository.findById(memberId)
+                .ifPresentOrElse(
+                        revocation -> revocation.updateRevokedBefore(now),
+                        () -> memberTokenRevocationRepository.save(new MemberTokenRevocation(memberId, now))
+                );
+
+        revokedBeforeByMember.merge(memberId, now, this::later);
+        afterCommit(() -> {
+            synchronized (lock) {
+                revokedBeforeByMember.merge(memberId, now, this::later);
+                memberCutoffsSinceRebuild.merge(memberId, now, this::later);
+            }
+        });
+        log.info("[TokenRevocationService.revokeAllForMember] 회원 토큰 일괄 폐기 - memberId: {}", memberId);
+    }
+
+    /**
+     * DB 기준으로 Bloom Filter / 회원별 폐기 시각 재구성
+     * - 만료된 폐기 기록은 먼저 정리
+     * - 다른 인스턴스에서 발생한 폐기를 반영
+     * - 애플리케이션 시작 시에도 한 번 실행
+     *
+     * DB 조회는 락 밖에서 수행하고 교체만 락 안에서 수행 (조회 중에도 폐기 반영이 막히지 않도록)
+     * 조회 시작 이후 이 인스턴스에서 커밋된 폐기는 교체 직전에 새 필터/Map에 다시 반영 → 유실 없음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.revocation.rebuild-interval:PT1M}",
+            initialDelayString = "${auth.revocation.rebuild-interval:PT1M}")
+    @Transactional
+    public void rebuild() {
+        synchronized (lock) {
+            jtisSinceRebuild.clear();
+            memberCutoffsSinceRebuild.clear();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int purgedJtis = revokedAccessTokenRepository.deleteAllExpired(now);
+        int purgedMembers = memberTokenRevocationRepository.deleteAllOlderThan(now.minus(accessExpiration));
+
+        List<String> jtis = revokedAccessTokenRepository.findActiveJtis(now);
+        BloomFilter filter = new BloomFilter(Math.max(expectedInsertions, jtis.size() * 2L), falsePositiveRate);
+        jtis.forEach(filter::put);
+
+        Map<Long, LocalDateTime> byMember = new ConcurrentHashMap<>();
+        memberTokenRevocationRepository.findAllByRevokedBeforeAfter(now.minus(accessExpiration))
+                .forEach(revocation -> byMember.put(revocation.getMemberId(), revocation.getRevokedBefore()));
+
+        synchronized (lock) {
+            jtisSinceRebuild.forEach(filter::put);
+            memberCutoffsSinceRebuild.forEach((memberId, revokedBefore) -> byMember.merge(memberId, revokedBefore, this::later));
+
+            this.revokedJtis = filter;
+            this.revokedBeforeByMember = byMember;
+        }
+
+        log.debug("[TokenRevocationService.rebuild] 재구성 완료 - jti: {}개, 회원: {}명 (정리: jti {}개, 회원 {}명)",
+                jtis.size(), byMember.size(), purgedJtis, purgedMembers);
+    }
+
+    /**
+     * 커밋 후 실행 (트랜잭션 밖에서 호출되면 바로 실행)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * 토큰이 revokedBefore 이전(같은 시각 포함)에 발급되었는지 확인
+     * - 밀리초 클레임이 있으면 밀리초 단위, 없으면 iat(초 단위)와 초 단위로 비교
+     * - 발급 시각을 알 수 없으면 폐기로 봄
+     */
+    private static boolean issuedNotAfter(Claims claims, LocalDateTime revokedBefore) {
+        Object issuedAtMillis = claims.get(JwtUtil.ISSUED_AT_MILLIS_CLAIM);
+        if (issuedAtMillis instanceof Number number) {
+            return !toLocalDateTime(new Date(number.longValue())).isAfter(revokedBefore);
+        }
+
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null
+                || !toLocalDateTime(issuedAt).isAfter(revokedBefore.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static Long getMemberId(Claims claims) {
+        Object memberId = claims.get("memberId");
+        return memberId instanceof Number number ? number.longValue() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
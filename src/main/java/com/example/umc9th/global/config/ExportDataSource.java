@@ -0,0 +1,70 @@
+package com.example.umc9th.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대용량 내보내기 전용 커넥션 풀
+ *
+ * 내보내기(리뷰 NDJSON)는 MySQL 서버 커서(useCursorFetch=true)로 fetch size개씩 읽습니다.
+ * useCursorFetch는 커넥션 단위 설정이고 서버 측 prepared statement까지 켜므로,
+ * 기본 풀에 넣지 않고 이 풀의 커넥션에만 적용합니다.
+ * - 접속 정보는 spring.datasource.*와 동일, 풀 크기만 별도 (review.export.pool-size = 동시 내보내기 수)
+ * - 읽기 전용, 최소 유휴 커넥션 0 (첫 내보내기 때 연결)
+ * - JDBC fetch size는 review.export.fetch-size
+ * - MySQL이 아닌 URL(H2 등)에는 useCursorFetch를 넣지 않음
+ *
+ * Spring DataSource 빈으로 등록하지 않음 → 기본 DataSource 자동 설정/JPA에 영향 없음
+ */
+@Slf4j
+@Component
+public class ExportDataSource implements DisposableBean {
+
+    static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    static final String USE_CURSOR_FETCH = "useCursorFetch";
+
+    private final HikariDataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ExportDataSource(
+            DataSourceProperties dataSourceProperties,
+            @Value("${review.export.pool-size:2}") int poolSize,
+            @Value("${review.export.fetch-size:500}") int fetchSize
+    ) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("export");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+        enableCursorFetch(dataSource);
+
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().setFetchSize(fetchSize);
+        log.info("[ExportDataSource] 내보내기 커넥션 풀 설정 - 최대: {}개, fetchSize: {}", poolSize, fetchSize);
+    }
+
+    public NamedParameterJdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    static void enableCursorFetch(HikariDataSource dataSource) {
+        String jdbcUrl = dataSource.getJdbcUrl();
+        if (jdbcUrl != null && jdbcUrl.startsWith(MYSQL_URL_PREFIX)) {
+            dataSource.addDataSourceProperty(USE_CURSOR_FETCH, "true");
+        }
+    }
+
+    HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
@@ -5,7 +5,9 @@ import com.example.umc9th.global.auth.jwt.JwtAuthFilter;
 import com.example.umc9th.global.auth.jwt.JwtUtil;
 import com.example.umc9th.global.auth.oauth2.CustomOAuth2UserService;
 import com.example.umc9th.global.auth.oauth2.OAuth2SuccessHandler;
+import com.example.umc9th.global.auth.service.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -32,10 +34,19 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenRevocationService tokenRevocationService;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    /**
+     * Claims 기반 인증 사용 여부
+     * - true: 토큰 Claims만으로 인증 (요청당 회원 조회 없음)
+     * - false: 매 요청마다 회원 조회
+     */
+    @Value("${jwt.claims-only-auth:true}")
+    private boolean claimsOnlyAuth;
+
     /**
      * 인증 없이 접근 가능한 URI 목록
      */
@@ -85,7 +96,7 @@ public class SecurityConfig {
                 )
                 // JWT 인증 필터 추가 (UsernamePasswordAuthenticationFilter 앞에 위치)
                 // Bean으로 등록하지 않고 직접 인스턴스 생성 (Bean 중복 방지)
-                .addFilterBefore(new JwtAuthFilter(jwtUtil, customUserDetailsService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthFilter(jwtUtil, customUserDetailsService, tokenRevocationService, claimsOnlyAuth), UsernamePasswordAuthenticationFilter.class)
                 // 로그아웃 설정
                 .logout(logout -> logout
                         .logoutUrl("/api/members/logout")
@@ -99,9 +110,11 @@ public class SecurityConfig {
     /**
      * 비밀번호 암호화를 위한 PasswordEncoder Bean
      * BCrypt 해시 알고리즘을 사용하여 비밀번호를 단방향 암호화
+     * - cost(strength)는 auth.password.bcrypt-strength로 설정
+     * - cost를 올리면 기존 해시는 다음 로그인 때 새 cost로 다시 해싱됨 (MemberService.login)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,58 @@
+package com.example.umc9th.global.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * FK 제약 위반 예외 판별 유틸
+ * - 존재 여부를 미리 SELECT하지 않고 INSERT의 FK 위반으로 "없는 ID"를 감지할 때 사용
+ * - 메시지 문장을 해석하지 않고 벤더 오류 코드(부모 행 없음) + 엔티티에 고정한 FK 이름으로 판별
+ *   MySQL: 1452 (ER_NO_REFERENCED_ROW_2), 1216 (ER_NO_REFERENCED_ROW)
+ *   H2:    23506 (REFERENTIAL_INTEGRITY_VIOLATED_PARENT_MISSING)
+ * - 제약 이름은 Hibernate가 추출한 값(ConstraintViolationException.getConstraintName)을 우선 사용
+ */
+public final class ForeignKeyViolations {
+
+    private static final Set<Integer> PARENT_MISSING_ERROR_CODES = Set.of(1452, 1216, 23506);
+
+    private ForeignKeyViolations() {
+    }
+
+    /**
+     * 지정한 FK 제약의 "참조 대상 없음" 위반인지 확인
+     *
+     * @param e              데이터 무결성 위반 예외
+     * @param constraintName FK 제약 이름 (예: fk_review_store)
+     * @return 해당 FK의 부모 행 없음 위반이면 true
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        SQLException sqlException = findCause(e, SQLException.class);
+        if (sqlException == null || !PARENT_MISSING_ERROR_CODES.contains(sqlException.getErrorCode())) {
+            return false;
+        }
+
+        // Hibernate가 추출한 이름이 없으면(방언별 추출 실패) 드라이버 메시지에서 고정한 제약 이름을 찾음
+        ConstraintViolationException violation = findCause(e, ConstraintViolationException.class);
+        String reported = violation != null && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : sqlException.getMessage();
+        return reported != null
+                && reported.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+
+    private static <T extends Throwable> T findCause(Throwable throwable, Class<T> type) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.umc9th.global.response;
+
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.response.code.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션용 불투명(opaque) 커서 인코더/디코더
+ * - 마지막 행의 정렬 키 값들을 "|"로 이어 Base64 URL-safe로 인코딩
+ * - 클라이언트는 커서 내용을 해석하지 않고 그대로 다음 요청에 전달
+ * - 형식이 맞지 않는 커서는 INVALID_CURSOR (400)
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩
+     *
+     * @param values 정렬 키 값 (toString()으로 직렬화, "|" 포함 불가)
+     * @return 커서 문자열
+     */
+    public static String encode(Object... values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(DELIMITER);
+            }
+            builder.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값들로 디코딩
+     *
+     * @param cursor        커서 문자열
+     * @param expectedParts 정렬 키 개수
+     * @return 정렬 키 문자열 배열
+     * @throws CustomException 형식이 맞지 않으면 INVALID_CURSOR
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
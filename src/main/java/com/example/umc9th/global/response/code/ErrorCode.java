@@ -19,6 +19,7 @@ public enum ErrorCode implements BaseCode {
     NOT_FOUND(404, "COMMON_404", "요청한 리소스를 찾을 수 없습니다"),
     METHOD_NOT_ALLOWED(405, "COMMON_405", "지원하지 않는 HTTP 메서드입니다"),
     CONFLICT(409, "COMMON_409", "이미 존재하는 리소스입니다"),
+    INVALID_CURSOR(400, "COMMON_400", "유효하지 않은 커서입니다"),
 
     // 공통 에러 (5xx)
     INTERNAL_SERVER_ERROR(500, "COMMON_500", "서버 내부 오류가 발생했습니다"),
@@ -54,7 +55,8 @@ public enum ErrorCode implements BaseCode {
     INVALID_TOKEN(401, "AUTH_401", "유효하지 않은 토큰입니다"),
     EXPIRED_TOKEN(401, "AUTH_401", "만료된 토큰입니다"),
     TOKEN_NOT_FOUND(404, "AUTH_404", "토큰을 찾을 수 없습니다 (이미 로그아웃됨)"),
-    REFRESH_TOKEN_REQUIRED(400, "AUTH_400", "Refresh Token이 필요합니다");
+    REFRESH_TOKEN_REQUIRED(400, "AUTH_400", "Refresh Token이 필요합니다"),
+    AUTH_BUSY(503, "AUTH_503", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요");
 
     private final int status;
     private final String code;
@@ -0,0 +1,258 @@
+package com.example.umc9th.global.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문자 bigram 역색인 (스레드 안전, 프로세스 내 메모리)
+ * - 텍스트를 소문자로 바꾸고 글자/숫자가 아닌 문자로 단어를 나눈 뒤, 단어 안의 연속된 두 글자를 색인
+ *   예: "민트 초코칩" → [민트], [초코, 코칩]
+ * - 형태소 분석 없이 한글 부분 일치 검색 가능 (MySQL 기본 full-text 파서는 공백 단위라 한글에 부적합)
+ * - bigram 키: 두 char를 int 하나로 묶음 (문자열 키 생성 없음)
+ *
+ * 포스팅 리스트:
+ * - 문서 ID를 오름차순 델타 + varint로 압축한 byte[] (ID당 보통 1~3바이트)
+ * - ID가 증가하는 순서로 추가되면 뒤에 덧붙이기만 함, 역순 추가는 드물므로 풀었다가 다시 압축
+ *
+ * 검색:
+ * - search: 검색어의 서로 다른 bigram마다 포스팅을 읽어 문서별 일치 bigram 수를 셈
+ *   일치 수 내림차순, 같으면 ID 내림차순(최신순)으로 정렬
+ * - containingAll: 검색어의 bigram을 모두 가진 문서만 (짧은 포스팅부터 교집합)
+ */
+public final class BigramIndex {
+
+    private final ConcurrentHashMap<Integer, PostingList> postings = new ConcurrentHashMap<>();
+
+    /**
+     * 문서 색인 (같은 ID를 다시 넣어도 중복 저장하지 않음)
+     *
+     * @param id   문서 ID (양수)
+     * @param text 문서 내용
+     */
+    public void add(long id, String text) {
+        for (int bigram : bigrams(text)) {
+            postings.computeIfAbsent(bigram, key -> new PostingList()).add(id);
+        }
+    }
+
+    /**
+     * 검색어와 bigram이 하나 이상 일치하는 문서를 일치 수 순으로 반환
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 검색 결과 (검색어에 bigram이 없으면 빈 리스트)
+     */
+    public List<Hit> search(String query, int limit) {
+        int[] queryBigrams = bigrams(query);
+        if (queryBigrams.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Integer> matches = new HashMap<>();
+        for (int bigram : queryBigrams) {
+            PostingList postingList = postings.get(bigram);
+            if (postingList == null) {
+                continue;
+            }
+            for (long id : postingList.toArray()) {
+                matches.merge(id, 1, Integer::sum);
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(matches.size());
+        matches.forEach((id, count) -> hits.add(new Hit(id, count)));
+        hits.sort(Comparator.comparingInt(Hit::matches).reversed()
+                .thenComparing(Comparator.comparingLong(Hit::id).reversed()));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * 검색어의 bigram을 모두 포함하는 문서 ID (부분 문자열 일치 후보)
+     * - 가장 짧은 포스팅 리스트부터 교집합을 구하므로 흔한 bigram이 섞여도 후보가 빨리 줄어듦
+     * - bigram이 모두 있어도 순서/인접 여부는 보장하지 않으므로 정확한 일치는 호출자가 원문으로 확인
+     *
+     * @param query 검색어
+     * @return 오름차순 문서 ID (검색어에 bigram이 없으면 빈 배열)
+     */
+    public long[] containingAll(String query) {
+        int[] queryBigrams = bigrams(query);
+        if (queryBigrams.length == 0) {
+            return new long[0];
+        }
+
+        long[][] lists = new long[queryBigrams.length][];
+        for (int i = 0; i < queryBigrams.length; i++) {
+            PostingList postingList = postings.get(queryBigrams[i]);
+            if (postingList == null) {
+                return new long[0];
+            }
+            lists[i] = postingList.toArray();
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+        long[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 색인된 서로 다른 bigram 수
+     */
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * 포스팅 리스트가 차지하는 압축 바이트 합계 (모니터링용 근사값)
+     */
+    public long postingBytes() {
+        return postings.values().stream().mapToLong(PostingList::byteSize).sum();
+    }
+
+    /**
+     * 텍스트 → 서로 다른 bigram 키 목록
+     * - 한 글자 단어는 bigram이 없으므로 검색/색인 대상에서 빠짐
+     */
+    public static int[] bigrams(String text) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+
+        int[] buffer = new int[text.length()];
+        int size = 0;
+        char previous = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char current = Character.toLowerCase(text.charAt(i));
+            if (!Character.isLetterOrDigit(current)) {
+                previous = 0;
+                continue;
+            }
+            if (previous != 0) {
+                buffer[size++] = (previous << 16) | current;
+            }
+            previous = current;
+        }
+        return Arrays.stream(buffer, 0, size).distinct().toArray();
+    }
+
+    /**
+     * 정렬된 두 ID 배열의 교집합
+     */
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param id      문서 ID
+     * @param matches 검색어와 일치한 bigram 수
+     */
+    public record Hit(long id, int matches) {
+    }
+
+    /**
+     * 델타 + varint 압축 ID 목록 (오름차순, 중복 없음)
+     */
+    private static final class PostingList {
+
+        private byte[] data = new byte[4];
+        private int length;
+        private int count;
+        private long lastId;
+
+        synchronized void add(long id) {
+            if (count > 0 && id <= lastId) {
+                if (id < lastId) {
+                    insertOutOfOrder(id);
+                }
+                return;
+            }
+            writeVarint(id - lastId);
+            lastId = id;
+            count++;
+        }
+
+        synchronized long[] toArray() {
+            long[] ids = new long[count];
+            int position = 0;
+            long current = 0;
+            for (int i = 0; i < count; i++) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                current += delta;
+                ids[i] = current;
+            }
+            return ids;
+        }
+
+        synchronized int byteSize() {
+            return data.length;
+        }
+
+        private void insertOutOfOrder(long id) {
+            long[] ids = toArray();
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) {
+                return;
+            }
+
+            int insertAt = -index - 1;
+            data = new byte[Math.max(4, length + 10)];
+            length = 0;
+            count = 0;
+            lastId = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == insertAt) {
+                    appendSorted(id);
+                }
+                appendSorted(ids[i]);
+            }
+        }
+
+        private void appendSorted(long id) {
+            writeVarint(id - lastId);
+            lastId = id;
+            count++;
+        }
+
+        private void writeVarint(long value) {
+            if (length + 10 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+            }
+            while ((value & ~0x7FL) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.umc9th.global.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위경도 격자 색인 (스레드 안전, 프로세스 내 메모리)
+ * - 지구를 cellSize도 간격의 위도/경도 격자로 나누고, 칸마다 그 안의 지점 ID·좌표를 배열로 보관
+ * - 반경 검색: 반경을 덮는 칸들만 읽어 하버사인 거리로 거르고, 크기 k의 최대 힙으로 가까운 k개만 유지
+ *   → 정렬 비용은 O(후보 수 · log k), 읽는 칸 수는 반경/칸 크기에만 비례 (전체 지점 수와 무관)
+ * - 경도 ±180도 경계는 칸 번호를 감아서 처리, 반경이 극점을 포함하면 해당 위도 칸의 경도 전체를 읽음
+ */
+public final class GeoGridIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private final double cellSize;
+    private final int latCells;
+    private final int lngCells;
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+
+    /**
+     * @param cellSize 격자 한 칸 크기 (도 단위, 예: 0.01 ≈ 위도 방향 1.1km)
+     */
+    public GeoGridIndex(double cellSize) {
+        if (cellSize <= 0 || cellSize > 90) {
+            throw new IllegalArgumentException("격자 크기는 0 초과 90 이하여야 합니다");
+        }
+        this.cellSize = cellSize;
+        this.latCells = (int) Math.ceil(180.0 / cellSize);
+        this.lngCells = (int) Math.ceil(360.0 / cellSize);
+    }
+
+    /**
+     * 지점 추가 (같은 칸에 같은 ID가 있으면 좌표만 갱신)
+     *
+     * @param id  지점 ID
+     * @param lat 위도 (-90 ~ 90)
+     * @param lng 경도 (-180 ~ 180)
+     */
+    public void add(long id, double lat, double lng) {
+        cells.computeIfAbsent(key(latCell(lat), lngCell(lng)), k -> new Cell()).add(id, lat, lng);
+    }
+
+    /**
+     * 반경 안의 가까운 지점 최대 k개 (거리 오름차순)
+     *
+     * @param lat          기준 위도
+     * @param lng          기준 경도
+     * @param radiusMeters 반경 (미터)
+     * @param k            최대 개수
+     * @return 가까운 순 지점 ID와 거리
+     */
+    public List<Hit> nearest(double lat, double lng, double radiusMeters, int k) {
+        if (k <= 0 || radiusMeters <= 0) {
+            return List.of();
+        }
+
+        // 가장 먼 후보가 맨 앞인 최대 힙
+        PriorityQueue<Hit> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Hit::distanceMeters).reversed());
+
+        double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+        int latFrom = Math.max(0, latCell(lat - latDelta));
+        int latTo = Math.min(latCells - 1, latCell(lat + latDelta));
+        // 반경이 극점을 포함하면 모든 경도를 봐야 함
+        double maxAbsLat = Math.abs(lat) + latDelta;
+        double lngDelta = maxAbsLat >= 90.0
+                ? 180.0
+                : radiusMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(maxAbsLat)));
+        int lngSpan = (int) Math.min(lngCells - 1L, (long) Math.ceil(lngDelta / cellSize) * 2 + 1);
+        int lngFrom = lngCell(lng - Math.min(lngDelta, 180.0));
+
+        for (int latIndex = latFrom; latIndex <= latTo; latIndex++) {
+            for (int offset = 0; offset <= lngSpan; offset++) {
+                Cell cell = cells.get(key(latIndex, Math.floorMod(lngFrom + offset, lngCells)));
+                if (cell != null) {
+                    cell.collect(lat, lng, radiusMeters, k, heap);
+                }
+            }
+        }
+
+        Hit[] hits = heap.toArray(new Hit[0]);
+        Arrays.sort(hits, Comparator.comparingDouble(Hit::distanceMeters).thenComparingLong(Hit::id));
+        return List.of(hits);
+    }
+
+    /**
+     * 색인된 지점 수
+     */
+    public int size() {
+        return cells.values().stream().mapToInt(Cell::size).sum();
+    }
+
+    /**
+     * 두 지점 사이의 대원 거리 (하버사인, 미터)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private int latCell(double lat) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, lat)) + 90.0) / cellSize);
+    }
+
+    private int lngCell(double lng) {
+        return Math.floorMod((int) Math.floor((lng + 180.0) / cellSize), lngCells);
+    }
+
+    private static long key(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | (lngIndex & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param id             지점 ID
+     * @param distanceMeters 기준점과의 거리 (미터)
+     */
+    public record Hit(long id, double distanceMeters) {
+    }
+
+    /**
+     * 격자 한 칸의 지점 목록 (ID·위도·경도 병렬 배열)
+     */
+    private static final class Cell {
+
+        private long[] ids = new long[4];
+        private double[] lats = new double[4];
+        private double[] lngs = new double[4];
+        private int count;
+
+        synchronized void add(long id, double lat, double lng) {
+            for (int i = 0; i < count; i++) {
+                if (ids[i] == id) {
+                    lats[i] = lat;
+                    lngs[i] = lng;
+                    return;
+                }
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                lats = Arrays.copyOf(lats, count * 2);
+                lngs = Arrays.copyOf(lngs, count * 2);
+            }
+            ids[count] = id;
+            lats[count] = lat;
+            lngs[count] = lng;
+            count++;
+        }
+
+        synchronized void collect(double lat, double lng, double radiusMeters, int k, PriorityQueue<Hit> heap) {
+            for (int i = 0; i < count; i++) {
+                double distance = distanceMeters(lat, lng, lats[i], lngs[i]);
+                if (distance > radiusMeters) {
+                    continue;
+                }
+                if (heap.size() < k) {
+                    heap.add(new Hit(ids[i], distance));
+                } else if (distance < heap.peek().distanceMeters()) {
+                    heap.poll();
+                    heap.add(new Hit(ids[i], distance));
+                }
+            }
+        }
+
+        synchronized int size() {
+            return count;
+        }
+    }
+}
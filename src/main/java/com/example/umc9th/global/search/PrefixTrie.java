@@ -0,0 +1,227 @@
+package com.example.umc9th.global.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 가중치 top-K 접두사 트라이 (radix 트리, 프로세스 내 메모리)
+ * - 자식이 하나뿐인 경로는 간선 하나(label)로 합쳐 노드 수를 줄임
+ * - 자식은 첫 글자 정렬 배열 + 이진 탐색 (Map 객체 없음)
+ * - 노드마다 그 아래 항목 중 가중치 상위 K개를 미리 정렬해 둠
+ *   → 조회는 접두사 길이만큼 내려가서 배열 앞부분을 복사하면 끝 (항목 수와 무관)
+ *
+ * 키는 trim + 소문자로 정규화 (대소문자 무시 접두사 일치)
+ * 동시성: 스레드 안전하지 않음 (호출자가 읽기/쓰기 잠금으로 보호)
+ */
+public final class PrefixTrie {
+
+    /**
+     * 가중치 내림차순, 같으면 ID 내림차순(최신순)
+     */
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::weight).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::id).reversed());
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final int topK;
+    private final Node root = new Node("");
+    private int size;
+    private int nodeCount = 1;
+
+    /**
+     * @param topK 노드마다 보관할 상위 항목 수 (조회 가능한 최대 개수)
+     */
+    public PrefixTrie(int topK) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("topK는 1 이상이어야 합니다");
+        }
+        this.topK = topK;
+    }
+
+    /**
+     * 항목 추가
+     * - 같은 ID가 이미 있으면 새 값으로 교체 (가중치가 줄어든 경우 밀려났던 항목은 다시 올라오지 않으므로
+     *   정확한 순위가 필요하면 새 트라이로 다시 구성)
+     *
+     * @param entry 항목 (text가 비어 있으면 무시)
+     */
+    public void put(Entry entry) {
+        String key = normalize(entry.text());
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        offer(node, entry);
+        int position = 0;
+        while (position < key.length()) {
+            char first = key.charAt(position);
+            int index = node.indexOf(first);
+            if (index < 0) {
+                Node leaf = new Node(key.substring(position));
+                offer(leaf, entry);
+                node.insertChild(-index - 1, first, leaf);
+                nodeCount++;
+                break;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라짐 → 공통 부분을 새 노드로 분리 (아래 항목은 같으므로 상위 K개 복사)
+                Node middle = new Node(child.label.substring(0, common));
+                middle.top = child.top.clone();
+                child.label = child.label.substring(common);
+                middle.insertChild(0, child.label.charAt(0), child);
+                node.children[index] = middle;
+                nodeCount++;
+                child = middle;
+            }
+
+            offer(child, entry);
+            node = child;
+            position += common;
+        }
+        size++;
+    }
+
+    /**
+     * 접두사로 시작하는 항목 중 가중치 상위 limit개
+     *
+     * @param prefix 접두사 (trim + 소문자 정규화)
+     * @param limit  최대 개수 (topK를 넘으면 topK개)
+     * @return 가중치 내림차순 항목 (접두사가 비어 있거나 일치 항목이 없으면 빈 리스트)
+     */
+    public List<Entry> topK(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            int index = node.indexOf(key.charAt(position));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int length = Math.min(child.label.length(), key.length() - position);
+            if (!key.regionMatches(position, child.label, 0, length)) {
+                return List.of();
+            }
+            position += length;
+            node = child;
+        }
+
+        Entry[] top = node.top;
+        return List.of(Arrays.copyOf(top, Math.min(limit, top.length)));
+    }
+
+    /**
+     * put 호출 횟수 (같은 ID 재추가 포함, 모니터링용)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 노드 수 (모니터링용)
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 노드의 상위 K개에 항목 반영 (정렬 유지, 같은 ID는 교체)
+     */
+    private void offer(Node node, Entry entry) {
+        Entry[] top = node.top;
+        for (int i = 0; i < top.length; i++) {
+            if (top[i].id() == entry.id()) {
+                top = removeAt(top, i);
+                break;
+            }
+        }
+
+        int insertAt = Arrays.binarySearch(top, entry, ORDER);
+        insertAt = insertAt < 0 ? -insertAt - 1 : insertAt;
+        if (insertAt >= topK) {
+            node.top = top;
+            return;
+        }
+
+        int newLength = Math.min(top.length + 1, topK);
+        Entry[] updated = new Entry[newLength];
+        System.arraycopy(top, 0, updated, 0, insertAt);
+        updated[insertAt] = entry;
+        System.arraycopy(top, insertAt, updated, insertAt + 1, newLength - insertAt - 1);
+        node.top = updated;
+    }
+
+    private static Entry[] removeAt(Entry[] entries, int index) {
+        Entry[] result = new Entry[entries.length - 1];
+        System.arraycopy(entries, 0, result, 0, index);
+        System.arraycopy(entries, index + 1, result, index, entries.length - index - 1);
+        return result;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 트라이 항목
+     *
+     * @param id     ID
+     * @param text   원래 문자열 (응답에 그대로 사용, 키는 정규화해서 사용)
+     * @param weight 가중치 (클수록 앞)
+     */
+    public record Entry(long id, String text, long weight) {
+    }
+
+    private static final class Node {
+
+        private String label;
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * @return 자식 위치, 없으면 (-(삽입 위치) - 1)
+         */
+        private int indexOf(char first) {
+            return Arrays.binarySearch(keys, first);
+        }
+
+        private void insertChild(int index, char first, Node child) {
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = first;
+            newChildren[index] = child;
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.umc9th.global.validation.validator;
 
-import com.example.umc9th.domain.store.repository.StoreRepository;
+import com.example.umc9th.domain.store.cache.StoreDetailCache;
 import com.example.umc9th.global.response.code.ErrorCode;
 import com.example.umc9th.global.validation.annotation.ExistStore;
 import jakarta.validation.ConstraintValidator;
@@ -10,13 +10,13 @@ import org.springframework.stereotype.Component;
 
 /**
  * @ExistStore 어노테이션에 대한 검증 로직
- * Store ID가 DB에 실제로 존재하는지 확인
+ * Store ID가 DB에 실제로 존재하는지 확인 (StoreDetailCache 경유, 캐시 히트면 DB 조회 없음)
  */
 @Component
 @RequiredArgsConstructor
 public class StoreExistValidator implements ConstraintValidator<ExistStore, Long> {
 
-    private final StoreRepository storeRepository;
+    private final StoreDetailCache storeDetailCache;
 
     @Override
     public boolean isValid(Long value, ConstraintValidatorContext context) {
@@ -25,7 +25,7 @@ public class StoreExistValidator implements ConstraintValidator<ExistStore, Long
             return true;
         }
 
-        boolean isValid = storeRepository.existsById(value);
+        boolean isValid = storeDetailCache.exists(value);
 
         if (!isValid) {
             // 기본 메시지를 비활성화하고 커스텀 메시지로 대체
@@ -0,0 +1,13 @@
+-- Refresh Token 원문(varchar 512) 대신 SHA-256 다이제스트(CHAR 64)로 저장·조회
+-- 기존 행은 MySQL SHA2()로 변환 (TokenDigests.sha256Hex와 같은 소문자 hex)
+
+ALTER TABLE refresh_token ADD COLUMN token_hash CHAR(64) NULL;
+
+UPDATE refresh_token SET token_hash = SHA2(token, 256);
+
+ALTER TABLE refresh_token MODIFY COLUMN token_hash CHAR(64) NOT NULL;
+
+CREATE UNIQUE INDEX idx_token_hash ON refresh_token (token_hash);
+
+-- token 컬럼과 그 인덱스(idx_token, 고유 인덱스) 제거
+ALTER TABLE refresh_token DROP COLUMN token;
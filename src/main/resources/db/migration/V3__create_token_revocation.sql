@@ -0,0 +1,18 @@
+-- Access Token 폐기 목록
+-- revoked_access_token: 로그아웃한 Access Token의 jti (만료 후 정리)
+-- member_token_revocation: 모든 기기 로그아웃 시각 (이 시각 이전 발급 토큰 무효)
+
+CREATE TABLE revoked_access_token (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    jti        VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE INDEX idx_revoked_jti (jti),
+    INDEX idx_revoked_expires_at (expires_at)
+);
+
+CREATE TABLE member_token_revocation (
+    member_id      BIGINT      NOT NULL,
+    revoked_before DATETIME(6) NOT NULL,
+    PRIMARY KEY (member_id)
+);
@@ -0,0 +1,4 @@
+-- 소셜 로그인 upsert(INSERT ... ON DUPLICATE KEY UPDATE)의 기준 키
+-- 동시에 처음 로그인해도 같은 소셜 계정으로 회원이 두 번 생기지 않도록 고유 인덱스 추가
+
+CREATE UNIQUE INDEX uk_member_social_uid ON member (social_uid);
@@ -0,0 +1,5 @@
+-- 리뷰 커서 페이지네이션용 복합 인덱스
+-- WHERE user_id|store_id = ? AND (created_at, review_id) < (?, ?) ORDER BY created_at DESC, review_id DESC
+
+CREATE INDEX idx_review_user_created ON review (user_id, created_at, review_id);
+CREATE INDEX idx_review_store_created ON review (store_id, created_at, review_id);
@@ -0,0 +1,40 @@
+-- 가게 별점 요약 (사전 집계)
+-- 리뷰 작성 시 INSERT ... ON DUPLICATE KEY UPDATE로 갱신, 가게 평점 조회는 PK 조회 한 번
+-- bucket_00 ~ bucket_10: 0.5점 단위 히스토그램 (bucket_NN = NN * 0.5점)
+
+CREATE TABLE store_rating_summary (
+    store_id     BIGINT      NOT NULL,
+    review_count BIGINT      NOT NULL DEFAULT 0,
+    star_sum     DOUBLE      NOT NULL DEFAULT 0,
+    bucket_00 BIGINT NOT NULL DEFAULT 0,
+    bucket_01 BIGINT NOT NULL DEFAULT 0,
+    bucket_02 BIGINT NOT NULL DEFAULT 0,
+    bucket_03 BIGINT NOT NULL DEFAULT 0,
+    bucket_04 BIGINT NOT NULL DEFAULT 0,
+    bucket_05 BIGINT NOT NULL DEFAULT 0,
+    bucket_06 BIGINT NOT NULL DEFAULT 0,
+    bucket_07 BIGINT NOT NULL DEFAULT 0,
+    bucket_08 BIGINT NOT NULL DEFAULT 0,
+    bucket_09 BIGINT NOT NULL DEFAULT 0,
+    bucket_10 BIGINT NOT NULL DEFAULT 0,
+    updated_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (store_id)
+);
+
+-- 기존 리뷰로 초기값 채우기
+INSERT INTO store_rating_summary (store_id, review_count, star_sum, bucket_00, bucket_01, bucket_02, bucket_03, bucket_04, bucket_05, bucket_06, bucket_07, bucket_08, bucket_09, bucket_10, updated_at)
+SELECT r.store_id, COUNT(*), SUM(r.star),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 0),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 1),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 2),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 3),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 4),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 5),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 6),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 7),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 8),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 9),
+       SUM(LEAST(GREATEST(ROUND(r.star * 2), 0), 10) = 10),
+       NOW(6)
+FROM review r
+GROUP BY r.store_id;
@@ -0,0 +1,7 @@
+-- 가게 좌표 (주변 가게 검색용)
+-- 기존 가게는 좌표가 없으므로 NULL 허용, 좌표가 없는 가게는 주변 검색 대상에서 제외
+-- 반경 검색은 애플리케이션 메모리 격자 색인(StoreGeoIndex)에서 처리하므로 좌표 인덱스는 두지 않음
+
+ALTER TABLE store
+    ADD COLUMN latitude  DOUBLE NULL,
+    ADD COLUMN longitude DOUBLE NULL;
@@ -0,0 +1,26 @@
+-- 리뷰 FK 이름 고정 (fk_review_store / fk_review_member)
+-- 리뷰 작성은 없는 회원/가게 ID를 INSERT의 FK 위반으로 감지하며, 위반 판별을 제약 이름으로 함 (ForeignKeyViolations)
+-- 기존 FK는 Hibernate가 만든 임의 이름이라 information_schema에서 찾아 삭제 후 이름을 붙여 다시 생성
+-- (MySQL은 FK 이름 변경을 지원하지 않음)
+
+SET @fk_store := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+                  WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'review'
+                    AND COLUMN_NAME = 'store_id' AND REFERENCED_TABLE_NAME = 'store'
+                  LIMIT 1);
+SET @drop_store := IF(@fk_store IS NULL, 'DO 0', CONCAT('ALTER TABLE review DROP FOREIGN KEY `', @fk_store, '`'));
+PREPARE stmt FROM @drop_store;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @fk_member := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+                   WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'review'
+                     AND COLUMN_NAME = 'user_id' AND REFERENCED_TABLE_NAME = 'member'
+                   LIMIT 1);
+SET @drop_member := IF(@fk_member IS NULL, 'DO 0', CONCAT('ALTER TABLE review DROP FOREIGN KEY `', @fk_member, '`'));
+PREPARE stmt FROM @drop_member;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE review
+    ADD CONSTRAINT fk_review_store FOREIGN KEY (store_id) REFERENCES store (store_id),
+    ADD CONSTRAINT fk_review_member FOREIGN KEY (user_id) REFERENCES member (id);
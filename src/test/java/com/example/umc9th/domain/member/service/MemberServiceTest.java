@@ -5,15 +5,23 @@ import com.example.umc9th.domain.member.dto.MemberResponse;
 import com.example.umc9th.domain.member.entity.Member;
 import com.example.umc9th.domain.member.enums.Gender;
 import com.example.umc9th.domain.member.repository.MemberRepository;
+import com.example.umc9th.global.auth.cache.UserDetailsCache;
 import com.example.umc9th.global.auth.enums.SocialType;
+import com.example.umc9th.global.auth.jwt.JwtUtil;
+import com.example.umc9th.global.auth.service.AuthService;
+import com.example.umc9th.global.auth.service.PasswordHashingService;
 import com.example.umc9th.global.exception.CustomException;
 import com.example.umc9th.global.response.code.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -53,6 +61,28 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private AuthService authService;
+
+    /**
+     * 실제 TransactionTemplate + Mock 트랜잭션 매니저
+     * - 콜백은 그대로 실행되고, 트랜잭션 시작/커밋 시점을 검증할 수 있음
+     */
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
     /**
      * @InjectMocks: @Mock 객체들을 자동 주입
      * - MemberService의 생성자에 memberRepository를 자동 주입
@@ -225,6 +255,128 @@ class MemberServiceTest {
     }
 
 
+    // ===== 회원가입 / 로그인 테스트 =====
+
+    /**
+     * 해싱은 쓰기 트랜잭션이 시작되기 전에 끝나야 함 (해싱 대기 중 DB 커넥션 미점유)
+     */
+    @Test
+    @DisplayName("회원가입은 비밀번호 해싱이 끝난 뒤에 쓰기 트랜잭션을 시작한다")
+    void signup_HashesOutsideTransaction() {
+        // Given
+        transactionTemplate.setTransactionManager(transactionManager);
+        MemberRequest.Join request = MemberRequest.Join.builder()
+                .name("신규회원")
+                .email("new@example.com")
+                .password("password123")
+                .build();
+        given(memberRepository.existsByEmail("new@example.com")).willReturn(false);
+        given(passwordHashingService.encode("password123")).willReturn("$2a$10$hash");
+        given(memberRepository.save(any(Member.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        memberService.signup(request);
+
+        // Then: 해싱 → 트랜잭션 시작 → 저장 → 커밋
+        InOrder inOrder = inOrder(passwordHashingService, transactionManager, memberRepository);
+        inOrder.verify(passwordHashingService).encode("password123");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(memberRepository).save(argThat((Member member) -> "$2a$10$hash".equals(member.getPassword())));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    /**
+     * 해싱 스레드 풀이 포화면 AUTH_BUSY (503), 쓰기 트랜잭션은 시작하지 않음
+     */
+    @Test
+    @DisplayName("해싱 스레드 풀이 포화면 회원가입은 AUTH_BUSY로 실패하고 트랜잭션을 열지 않는다")
+    void signup_HashingBusy_ThrowsAuthBusy() {
+        // Given
+        MemberRequest.Join request = MemberRequest.Join.builder()
+                .email("new@example.com")
+                .password("password123")
+                .build();
+        given(memberRepository.existsByEmail("new@example.com")).willReturn(false);
+        given(passwordHashingService.encode("password123")).willThrow(new CustomException(ErrorCode.AUTH_BUSY));
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.signup(request))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AUTH_BUSY);
+        then(transactionTemplate).should(never()).execute(any());
+        then(memberRepository).should(never()).save(any(Member.class));
+    }
+
+    /**
+     * 해싱 스레드 풀이 포화면 로그인도 AUTH_BUSY, 토큰 저장 없음
+     */
+    @Test
+    @DisplayName("해싱 스레드 풀이 포화면 로그인은 AUTH_BUSY로 실패하고 Refresh Token을 저장하지 않는다")
+    void login_HashingBusy_ThrowsAuthBusy() {
+        // Given
+        Member member = createMemberWithPassword(1L, "$2a$10$old");
+        given(memberRepository.findByEmail("login@example.com")).willReturn(Optional.of(member));
+        given(passwordHashingService.matches("password123", "$2a$10$old"))
+                .willThrow(new CustomException(ErrorCode.AUTH_BUSY));
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.login(loginRequest()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AUTH_BUSY);
+        then(authService).shouldHaveNoInteractions();
+    }
+
+    /**
+     * cost가 바뀐 해시는 로그인 성공 시 새 해시로 교체 (읽은 해시가 그대로일 때만)
+     */
+    @Test
+    @DisplayName("로그인 시 cost가 바뀐 해시는 트랜잭션 밖에서 재해싱한 뒤 조건부 UPDATE로 교체한다")
+    void login_RehashesOutdatedPassword() {
+        // Given
+        transactionTemplate.setTransactionManager(transactionManager);
+        Member member = createMemberWithPassword(1L, "$2a$04$old");
+        given(memberRepository.findByEmail("login@example.com")).willReturn(Optional.of(member));
+        given(passwordHashingService.matches("password123", "$2a$04$old")).willReturn(true);
+        given(passwordHashingService.needsRehash("$2a$04$old")).willReturn(true);
+        given(passwordHashingService.encode("password123")).willReturn("$2a$10$new");
+        given(memberRepository.updatePasswordIfUnchanged(eq(1L), eq("$2a$04$old"), eq("$2a$10$new"), any()))
+                .willReturn(1);
+
+        // When
+        memberService.login(loginRequest());
+
+        // Then: 검증/재해싱 → 트랜잭션 안에서 해시 교체 + Refresh Token 저장
+        InOrder inOrder = inOrder(passwordHashingService, transactionManager, memberRepository, authService);
+        inOrder.verify(passwordHashingService).encode("password123");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(memberRepository).updatePasswordIfUnchanged(eq(1L), eq("$2a$04$old"), eq("$2a$10$new"), any());
+        inOrder.verify(authService).saveRefreshToken(eq(member), any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    /**
+     * cost가 그대로면 재해싱하지 않음
+     */
+    @Test
+    @DisplayName("로그인 시 해시가 최신 cost면 재해싱하지 않는다")
+    void login_NoRehashWhenUpToDate() {
+        // Given
+        transactionTemplate.setTransactionManager(transactionManager);
+        Member member = createMemberWithPassword(1L, "$2a$10$current");
+        given(memberRepository.findByEmail("login@example.com")).willReturn(Optional.of(member));
+        given(passwordHashingService.matches("password123", "$2a$10$current")).willReturn(true);
+        given(passwordHashingService.needsRehash("$2a$10$current")).willReturn(false);
+
+        // When
+        memberService.login(loginRequest());
+
+        // Then
+        then(passwordHashingService).should(never()).encode(any());
+        then(memberRepository).should(never()).updatePasswordIfUnchanged(any(), any(), any(), any());
+        then(authService).should().saveRefreshToken(eq(member), any());
+    }
+
+
     // ===== 회원 삭제 테스트 =====
 
     /**
@@ -250,6 +402,7 @@ class MemberServiceTest {
         // Then: 메서드 호출 확인
         then(memberRepository).should().findById(memberId);
         then(memberRepository).should().delete(mockMember);
+        then(userDetailsCache).should().evictMember(memberId);
     }
 
     /**
@@ -305,6 +458,25 @@ class MemberServiceTest {
 
     // ===== 헬퍼 메서드 =====
 
+    private MemberRequest.Login loginRequest() {
+        return MemberRequest.Login.builder()
+                .email("login@example.com")
+                .password("password123")
+                .build();
+    }
+
+    private Member createMemberWithPassword(Long id, String encodedPassword) {
+        return Member.builder()
+                .id(id)
+                .name("로그인회원")
+                .email("login@example.com")
+                .password(encodedPassword)
+                .socialUid("LOCAL_login@example.com")
+                .socialType(SocialType.GOOGLE)
+                .point(0)
+                .build();
+    }
+
     /**
      * Mock Member 생성 헬퍼 메서드
      *
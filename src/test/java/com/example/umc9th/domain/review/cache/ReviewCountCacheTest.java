@@ -0,0 +1,83 @@
+package com.example.umc9th.domain.review.cache;
+
+import com.example.umc9th.domain.review.dto.ReviewTotal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReviewCountCache 테스트
+ * - 리뷰 작성 시 그 리뷰가 포함될 수 있는 필터 키만 제거되는지 (회원/가게 범위 역색인)
+ */
+@DisplayName("ReviewCountCache 테스트")
+class ReviewCountCacheTest {
+
+    private final ReviewCountCache cache = new ReviewCountCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 시 같은 회원/가게이거나 조건이 없는 키만 제거된다")
+    void evict_RemovesOnlyAffectedKeys() {
+        // Given
+        ReviewCountCache.Key memberAndStore = ReviewCountCache.Key.of(1L, 10L, null, null, null);
+        ReviewCountCache.Key member = ReviewCountCache.Key.of(1L, null, null, 3.0f, null);
+        ReviewCountCache.Key store = ReviewCountCache.Key.of(null, 10L, "가게", null, null);
+        ReviewCountCache.Key all = ReviewCountCache.Key.of(null, null, null, null, null);
+        ReviewCountCache.Key otherMember = ReviewCountCache.Key.of(2L, null, null, null, null);
+        ReviewCountCache.Key otherStore = ReviewCountCache.Key.of(null, 20L, null, null, null);
+        ReviewCountCache.Key memberOtherStore = ReviewCountCache.Key.of(1L, 20L, null, null, null);
+        for (ReviewCountCache.Key key : new ReviewCountCache.Key[]{
+                memberAndStore, member, store, all, otherMember, otherStore, memberOtherStore}) {
+            cache.get(key, () -> ReviewTotal.exact(5L));
+        }
+
+        // When: 회원 1이 가게 10에 리뷰 작성
+        cache.evict(1L, 10L);
+
+        // Then
+        AtomicInteger loads = new AtomicInteger();
+        for (ReviewCountCache.Key key : new ReviewCountCache.Key[]{memberAndStore, member, store, all}) {
+            assertThat(cache.get(key, () -> reload(loads)).count()).isEqualTo(6L);
+        }
+        for (ReviewCountCache.Key key : new ReviewCountCache.Key[]{otherMember, otherStore, memberOtherStore}) {
+            assertThat(cache.get(key, () -> reload(loads)).count()).isEqualTo(5L);
+        }
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 제거하면 커밋 전 옛 개수로 다시 채워진 항목도 커밋 후 제거된다")
+    void evict_EvictsAgainAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        ReviewCountCache.Key key = ReviewCountCache.Key.of(1L, null, null, null, null);
+        cache.get(key, () -> ReviewTotal.exact(5L));
+
+        // When: 제거 직후 커밋 전 다른 요청이 옛 개수로 다시 채움
+        cache.evict(1L, 10L);
+        cache.get(key, () -> ReviewTotal.exact(5L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(cache.get(key, () -> ReviewTotal.exact(6L)).count()).isEqualTo(6L);
+    }
+
+    private ReviewTotal reload(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return ReviewTotal.exact(6L);
+    }
+}
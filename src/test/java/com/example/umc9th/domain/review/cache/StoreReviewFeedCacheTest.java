@@ -0,0 +1,138 @@
+package com.example.umc9th.domain.review.cache;
+
+import com.example.umc9th.domain.review.dto.ReviewListRow;
+import com.example.umc9th.domain.review.dto.ReviewResponse;
+import com.example.umc9th.domain.review.event.ReviewCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * StoreReviewFeedCache 테스트
+ * - 링 버퍼 첫 페이지 응답, 새 리뷰 write-through, 순서가 깨진 리뷰 처리 검증
+ */
+@DisplayName("StoreReviewFeedCache 테스트")
+class StoreReviewFeedCacheTest {
+
+    private static final long STORE_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final StoreReviewFeedCache cache = new StoreReviewFeedCache(
+            3, DataSize.ofMegabytes(1), Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("캐시 미스일 때만 loader를 호출하고, 버퍼 밖에 리뷰가 더 있으면 hasNext = true")
+    void getFirstPage_LoadsOnceAndKeepsNewest() {
+        // Given: 리뷰 5개 (capacity 3 → 3개만 보관)
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        ReviewResponse.ReviewCursorListDTO first = cache.getFirstPage(STORE_ID, 2, id -> {
+            loads.incrementAndGet();
+            return reviews(5, 4, 3, 2);  // 최신순 capacity + 1개
+        });
+        ReviewResponse.ReviewCursorListDTO second = cache.getFirstPage(STORE_ID, 3, id -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(first.getReviewList()).extracting(ReviewResponse.MyReview::getId).containsExactly(5L, 4L);
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(second.getReviewList()).extracting(ReviewResponse.MyReview::getId).containsExactly(5L, 4L, 3L);
+        assertThat(second.getHasNext()).isTrue();
+        assertThat(second.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("새 리뷰는 맨 앞에 추가되고 가장 오래된 리뷰가 밀려난다 (DB 재조회 없음)")
+    void onReviewCreated_WriteThrough() {
+        // Given: 리뷰 2개뿐인 가게 (전부 버퍼 안)
+        cache.getFirstPage(STORE_ID, 3, id -> reviews(2, 1));
+
+        // When: 새 리뷰 2개
+        cache.onReviewCreated(event(3));
+        cache.onReviewCreated(event(4));
+        ReviewResponse.ReviewCursorListDTO page = cache.getFirstPage(STORE_ID, 3, id -> {
+            throw new AssertionError("캐시가 살아 있으면 DB를 조회하지 않아야 함");
+        });
+
+        // Then: 4, 3, 2 (1은 밀려났으므로 다음 페이지 존재), 가게 정보는 기존 리뷰 값 재사용
+        assertThat(page.getReviewList()).extracting(ReviewResponse.MyReview::getId).containsExactly(4L, 3L, 2L);
+        assertThat(page.getReviewList().get(0).getStore().getName()).isEqualTo("가게");
+        assertThat(page.getHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("리뷰가 없던 가게에 새 리뷰가 오면 가게 정보가 없으므로 피드를 버리고 다음 조회에서 다시 적재한다")
+    void onReviewCreated_EmptyFeedInvalidates() {
+        // Given: 리뷰 없는 가게
+        cache.getFirstPage(STORE_ID, 3, id -> List.of());
+
+        // When
+        cache.onReviewCreated(event(1));
+        AtomicInteger loads = new AtomicInteger();
+        ReviewResponse.ReviewCursorListDTO page = cache.getFirstPage(STORE_ID, 3, id -> {
+            loads.incrementAndGet();
+            return reviews(1);
+        });
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(page.getReviewList()).extracting(ReviewResponse.MyReview::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("가게 리뷰가 모두 버퍼 안에 있으면 hasNext = false")
+    void getFirstPage_CompleteFeed() {
+        ReviewResponse.ReviewCursorListDTO page = cache.getFirstPage(STORE_ID, 3, id -> reviews(2, 1));
+
+        assertThat(page.getReviewList()).hasSize(2);
+        assertThat(page.getHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시보다 오래된 리뷰가 늦게 도착하면 해당 가게 피드를 버리고 다음 조회에서 다시 적재한다")
+    void onReviewCreated_OutOfOrderInvalidates() {
+        // Given
+        cache.getFirstPage(STORE_ID, 3, id -> reviews(5, 4));
+
+        // When: 더 오래된 리뷰(3)의 이벤트가 늦게 도착
+        cache.onReviewCreated(event(3));
+        AtomicInteger loads = new AtomicInteger();
+        cache.getFirstPage(STORE_ID, 3, id -> {
+            loads.incrementAndGet();
+            return reviews(5, 4, 3);
+        });
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private List<ReviewResponse.MyReview> reviews(long... ids) {
+        List<ReviewResponse.MyReview> reviews = new ArrayList<>();
+        for (long id : ids) {
+            reviews.add(ReviewResponse.MyReview.from(row(id), List.of()));
+        }
+        return reviews;
+    }
+
+    private ReviewListRow row(long id) {
+        return new ReviewListRow(id, "리뷰" + id, 4.0f, BASE_TIME.plusMinutes(id), STORE_ID, "가게", "서울시 강남구");
+    }
+
+    private ReviewCreatedEvent event(long id) {
+        return new ReviewCreatedEvent(id, 1L, STORE_ID, "리뷰" + id, 4.0f, BASE_TIME.plusMinutes(id));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.umc9th.domain.review.repository;
+
+import com.example.umc9th.domain.location.entity.Location;
+import com.example.umc9th.domain.member.entity.Food;
+import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.domain.member.enums.FoodName;
+import com.example.umc9th.domain.review.entity.Review;
+import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.global.auth.enums.SocialType;
+import com.example.umc9th.global.config.JpaConfig;
+import com.example.umc9th.global.exception.ForeignKeyViolations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 리뷰 Repository 테스트
+ *
+ * - 엔티티에 고정한 FK 이름(fk_review_store / fk_review_member)이 실제 INSERT 위반 예외에 실려 오는지 확인
+ * - ForeignKeyViolations가 어느 FK의 위반인지 구분하는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:review_fk;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@DisplayName("리뷰 Repository 테스트")
+class ReviewRepositoryTest {
+
+    private static final long MISSING_ID = 999_999L;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private Store store;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        Location location = em.persist(Location.builder().name("강남구").build());
+        Food food = em.persist(Food.builder().name(FoodName.KOREAN).build());
+        store = em.persist(Store.builder()
+                .name("리뷰가게")
+                .managerNumber(1012345678L)
+                .detailAddress("서울시 강남구 1")
+                .location(location)
+                .food(food)
+                .build());
+        member = em.persist(Member.builder()
+                .name("리뷰회원")
+                .birth(LocalDate.of(1990, 1, 1))
+                .address("서울시")
+                .detailAddress("강남구")
+                .socialUid("review_fk_uid")
+                .socialType(SocialType.GOOGLE)
+                .email("review-fk@example.com")
+                .point(0)
+                .build());
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("없는 가게로 저장하면 fk_review_store 위반으로 판별된다")
+    void save_MissingStore() {
+        // When
+        DataIntegrityViolationException e = catchThrowableOfType(
+                () -> reviewRepository.save(review(em.getEntityManager().getReference(Store.class, MISSING_ID), member)),
+                DataIntegrityViolationException.class);
+
+        // Then
+        assertThat(e).isNotNull();
+        assertThat(ForeignKeyViolations.isViolationOf(e, Review.FK_STORE)).isTrue();
+        assertThat(ForeignKeyViolations.isViolationOf(e, Review.FK_MEMBER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("없는 회원으로 저장하면 fk_review_member 위반으로 판별된다")
+    void save_MissingMember() {
+        // When
+        DataIntegrityViolationException e = catchThrowableOfType(
+                () -> reviewRepository.save(review(store, em.getEntityManager().getReference(Member.class, MISSING_ID))),
+                DataIntegrityViolationException.class);
+
+        // Then
+        assertThat(e).isNotNull();
+        assertThat(ForeignKeyViolations.isViolationOf(e, Review.FK_MEMBER)).isTrue();
+        assertThat(ForeignKeyViolations.isViolationOf(e, Review.FK_STORE)).isFalse();
+    }
+
+    private Review review(Store store, Member member) {
+        return Review.builder()
+                .content("FK 위반 확인용 리뷰")
+                .star(4.0f)
+                .store(store)
+                .user(member)
+                .build();
+    }
+}
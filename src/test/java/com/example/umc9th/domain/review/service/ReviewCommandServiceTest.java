@@ -0,0 +1,122 @@
+package com.example.umc9th.domain.review.service;
+
+import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.domain.member.repository.MemberRepository;
+import com.example.umc9th.domain.review.cache.ReviewCountCache;
+import com.example.umc9th.domain.review.dto.ReviewRequest;
+import com.example.umc9th.domain.review.entity.Review;
+import com.example.umc9th.domain.review.repository.ReviewRepository;
+import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.domain.store.repository.StoreRatingSummaryRepository;
+import com.example.umc9th.domain.store.repository.StoreRepository;
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.response.code.ErrorCode;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ReviewCommandService 테스트
+ * - 없는 회원/가게 ID는 INSERT의 FK 위반(MySQL 1452 + 고정한 FK 이름)으로 감지해 404 ErrorCode로 변환
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewCommandService 테스트")
+class ReviewCommandServiceTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreRatingSummaryRepository storeRatingSummaryRepository;
+
+    @Mock
+    private ReviewCountCache reviewCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReviewCommandService reviewCommandService;
+
+    @Test
+    @DisplayName("리뷰 작성 - 없는 가게면 STORE_NOT_FOUND")
+    void createReview_StoreNotFound() {
+        // Given
+        givenInsertFails(Review.FK_STORE);
+
+        // When & Then
+        assertThatThrownBy(() -> reviewCommandService.createReview(request()))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.STORE_NOT_FOUND);
+        then(storeRatingSummaryRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 - 없는 회원이면 MEMBER_NOT_FOUND")
+    void createReview_MemberNotFound() {
+        // Given
+        givenInsertFails(Review.FK_MEMBER);
+
+        // When & Then
+        assertThatThrownBy(() -> reviewCommandService.createReview(request()))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 - 다른 무결성 위반은 변환하지 않고 그대로 전파")
+    void createReview_OtherViolationPropagates() {
+        // Given: 중복 키(1062)는 FK 위반이 아님
+        SQLException duplicate = new SQLException("Duplicate entry '1' for key 'PRIMARY'", "23000", 1062);
+        DataIntegrityViolationException e = new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", duplicate, "PRIMARY"));
+        givenReferences();
+        given(reviewRepository.save(any(Review.class))).willThrow(e);
+
+        // When & Then
+        assertThatThrownBy(() -> reviewCommandService.createReview(request())).isSameAs(e);
+    }
+
+    private void givenInsertFails(String constraintName) {
+        // MySQL 드라이버가 던지는 형태: SQLState 23000, 벤더 코드 1452 + Hibernate가 추출한 제약 이름
+        SQLException parentMissing = new SQLException(
+                "Cannot add or update a child row: a foreign key constraint fails", "23000", 1452);
+        givenReferences();
+        given(reviewRepository.save(any(Review.class))).willThrow(new DataIntegrityViolationException("fk",
+                new ConstraintViolationException("fk", parentMissing, constraintName)));
+    }
+
+    private void givenReferences() {
+        given(memberRepository.getReferenceById(1L)).willReturn(mock(Member.class));
+        given(storeRepository.getReferenceById(2L)).willReturn(mock(Store.class));
+    }
+
+    private ReviewRequest.CreateReviewDTO request() {
+        return ReviewRequest.CreateReviewDTO.builder()
+                .memberId(1L)
+                .storeId(2L)
+                .content("음식이 정말 맛있어요!")
+                .star(4.5f)
+                .build();
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.umc9th.domain.review.service;
+
+import com.example.umc9th.domain.location.entity.Location;
+import com.example.umc9th.domain.member.entity.Food;
+import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.domain.member.enums.FoodName;
+import com.example.umc9th.domain.review.cache.ReviewCountCache;
+import com.example.umc9th.domain.review.cache.StoreReviewFeedCache;
+import com.example.umc9th.domain.review.dto.ReviewResponse;
+import com.example.umc9th.domain.review.entity.Reply;
+import com.example.umc9th.domain.review.entity.Review;
+import com.example.umc9th.domain.review.entity.ReviewPhoto;
+import com.example.umc9th.domain.review.repository.ReplyRepository;
+import com.example.umc9th.domain.review.repository.ReviewPhotoRepository;
+import com.example.umc9th.domain.review.repository.ReviewQueryRepository;
+import com.example.umc9th.domain.review.repository.ReviewRepository;
+import com.example.umc9th.domain.review.search.ReviewContentIndex;
+import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.global.auth.enums.SocialType;
+import com.example.umc9th.global.config.JpaConfig;
+import com.example.umc9th.global.config.QueryDslConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 리뷰 목록 조회 쿼리 수 테스트 (N+1 검증)
+ *
+ * @DataJpaTest:
+ * - H2 인메모리 DB + JPA 관련 빈만 로드
+ * - Flyway 마이그레이션은 MySQL 전용이므로 비활성화하고 ddl-auto로 스키마 생성
+ *
+ * Hibernate Statistics로 실제 실행된 SQL 문 수를 세어
+ * 리뷰 수와 관계없이 사진 조회가 페이지당 IN 쿼리 한 번,
+ * 답글 수/최근 답글 조회가 페이지당 GROUP BY 쿼리 한 번인지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({QueryDslConfig.class, JpaConfig.class, ReviewQueryRepository.class})
+@DisplayName("리뷰 목록 조회 쿼리 수 테스트")
+class ReviewQueryServiceQueryCountTest {
+
+    private static final int REVIEW_COUNT = 5;
+    private static final int PHOTOS_PER_REVIEW = 2;
+    private static final int REPLIES_PER_REVIEW = 3;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReviewQueryRepository reviewQueryRepository;
+
+    @Autowired
+    private ReviewPhotoRepository reviewPhotoRepository;
+
+    @Autowired
+    private ReplyRepository replyRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private ReviewQueryService reviewQueryService;
+    private Statistics statistics;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        reviewQueryService = new ReviewQueryService(
+                reviewQueryRepository,
+                reviewPhotoRepository,
+                replyRepository,
+                new ReviewCountCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                new ReviewContentIndex(reviewRepository, 100),
+                new StoreReviewFeedCache(50, DataSize.ofMegabytes(1), Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                0L, 10_000, 500, 50);
+
+        Location location = em.persist(Location.builder().name("강남구").build());
+        Food food = em.persist(Food.builder().name(FoodName.KOREAN).build());
+        Member member = em.persist(Member.builder()
+                .name("테스트회원")
+                .birth(LocalDate.of(1990, 1, 1))
+                .address("서울시")
+                .detailAddress("강남구")
+                .socialUid("query_count_uid")
+                .socialType(SocialType.GOOGLE)
+                .email("query-count@example.com")
+                .point(0)
+                .build());
+        memberId = member.getId();
+
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            Store store = em.persist(Store.builder()
+                    .name("가게" + i)
+                    .managerNumber(1012345678L)
+                    .detailAddress("서울시 강남구 " + i)
+                    .location(location)
+                    .food(food)
+                    .build());
+            Review review = em.persist(Review.builder()
+                    .content("리뷰" + i)
+                    .star(4.0f)
+                    .store(store)
+                    .user(member)
+                    .build());
+            for (int p = 0; p < PHOTOS_PER_REVIEW; p++) {
+                em.persist(ReviewPhoto.builder()
+                        .photoUrl("https://img.example.com/" + i + "/" + p + ".jpg")
+                        .review(review)
+                        .build());
+            }
+            for (int r = 0; r < REPLIES_PER_REVIEW; r++) {
+                em.persist(Reply.builder()
+                        .content("답글" + i + "-" + r)
+                        .review(review)
+                        .build());
+            }
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("[Slice] 리뷰 목록 1회 + 사진 IN 쿼리 1회 + 답글 요약 쿼리 1회만 실행된다")
+    void slice_PhotosAndRepliesLoadedWithSingleQueryEach() {
+        // When
+        ReviewResponse.ReviewPreViewSliceDTO result = reviewQueryService.getMyReviewsListWithSlice(memberId, 1);
+
+        // Then: 리뷰 수와 관계없이 SQL 3개
+        assertThat(result.getReviewList()).hasSize(REVIEW_COUNT);
+        assertThat(result.getReviewList()).allSatisfy(review -> {
+            assertThat(review.getPhotoUrls()).hasSize(PHOTOS_PER_REVIEW);
+            assertThat(review.getReplyCount()).isEqualTo((long) REPLIES_PER_REVIEW);
+            assertThat(review.getLatestReply().getContent()).endsWith("-" + (REPLIES_PER_REVIEW - 1));
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[Page] 첫 요청은 개수 + 목록 + 사진 + 답글 요약, 같은 필터 재요청은 개수 쿼리 없이 실행된다")
+    void page_PhotosLoadedWithSingleInQueryAndCountCached() {
+        // When: 첫 요청
+        ReviewResponse.ReviewPreViewListDTO first = reviewQueryService.getMyReviewsList(memberId, 1);
+
+        // Then: COUNT + 목록 + 사진 + 답글 요약
+        assertThat(first.getReviewList()).hasSize(REVIEW_COUNT);
+        assertThat(first.getReviewList().get(0).getPhotoUrls()).hasSize(PHOTOS_PER_REVIEW);
+        assertThat(first.getReviewList().get(0).getReplyCount()).isEqualTo((long) REPLIES_PER_REVIEW);
+        assertThat(first.getTotalElements()).isEqualTo((long) REVIEW_COUNT);
+        assertThat(first.getIsTotalExact()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+        // When: 같은 필터로 다시 요청
+        statistics.clear();
+        reviewQueryService.getMyReviewsList(memberId, 1);
+
+        // Then: 개수는 캐시 사용 → 목록 + 사진 + 답글 요약
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[필터 조회] 전체 목록도 사진, 답글 요약은 각각 쿼리 한 번으로 조회된다")
+    void getReviews_PhotosLoadedWithSingleInQuery() {
+        // When
+        List<ReviewResponse.MyReview> result = reviewQueryService.getReviews(memberId, null, null, null, null);
+
+        // Then
+        assertThat(result).hasSize(REVIEW_COUNT);
+        assertThat(result.get(0).getPhotoUrls())
+                .allSatisfy(url -> assertThat(url).startsWith("https://img.example.com/"));
+        assertThat(result.get(0).getReplyCount()).isEqualTo((long) REPLIES_PER_REVIEW);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -1,17 +1,19 @@
 package com.example.umc9th.domain.review.service;
 
-import com.example.umc9th.domain.member.entity.Food;
-import com.example.umc9th.domain.member.entity.Member;
-import com.example.umc9th.domain.member.enums.Gender;
+import com.example.umc9th.domain.review.cache.ReviewCountCache;
+import com.example.umc9th.domain.review.cache.StoreReviewFeedCache;
+import com.example.umc9th.domain.review.dto.ReviewListRow;
 import com.example.umc9th.domain.review.dto.ReviewResponse;
-import com.example.umc9th.domain.review.entity.Review;
+import com.example.umc9th.domain.review.dto.ReviewTotal;
+import com.example.umc9th.domain.review.repository.ReplyRepository;
+import com.example.umc9th.domain.review.repository.ReviewPhotoRepository;
 import com.example.umc9th.domain.review.repository.ReviewQueryRepository;
-import com.example.umc9th.domain.store.entity.Store;
-import com.example.umc9th.global.auth.enums.SocialType;
+import com.example.umc9th.domain.review.search.ReviewContentIndex;
+import com.example.umc9th.global.search.BigramIndex;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -20,11 +22,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -65,13 +67,44 @@ class ReviewQueryServiceTest {
         private ReviewQueryRepository reviewQueryRepository;
 
         /**
-         * @InjectMocks: @Mock 객체들을 자동 주입
-         *               - ReviewQueryService의 생성자에 reviewQueryRepository를 자동 주입
-         *               - 실제로 테스트할 대상 객체
+         * 리뷰 사진 Repository Mock
+         * - 별도 stub이 없으면 빈 리스트 반환 (사진 없는 리뷰)
+         */
+        @Mock
+        private ReviewPhotoRepository reviewPhotoRepository;
+
+        /**
+         * 답글 Repository Mock
+         * - 별도 stub이 없으면 빈 맵 반환 (답글 없는 리뷰)
+         */
+        @Mock
+        private ReplyRepository replyRepository;
+
+        /**
+         * 개수 캐시 Mock
+         * - Page 방식 테스트에서는 항상 캐시 미스로 동작하도록 loader를 그대로 호출
+         */
+        @Mock
+        private ReviewCountCache reviewCountCache;
+
+        @Mock
+        private ReviewContentIndex reviewContentIndex;
+
+        @Mock
+        private StoreReviewFeedCache storeReviewFeedCache;
+
+        /**
+         * 테스트 대상 객체
+         * - 생성자에 @Mock 객체들과 설정값(개수 근사 상한, 검색 후보/결과 수)을 직접 전달
+         * - 설정값이 int/long 생성자 인자라 @InjectMocks 대신 @BeforeEach에서 생성
          */
-        @InjectMocks
         private ReviewQueryService reviewQueryService;
 
+        @BeforeEach
+        void setUp() {
+                reviewQueryService = createService(10_000, 500, 50);
+        }
+
         // ===== getMyReviewsList() 테스트 (Page 방식) =====
 
         /**
@@ -88,16 +121,21 @@ class ReviewQueryServiceTest {
                 Long memberId = 1L;
                 Integer page = 1; // 1-based (사용자 입력)
 
-                List<Review> mockReviews = Arrays.asList(
+                List<ReviewListRow> mockReviews = Arrays.asList(
                                 createMockReview(1L, "맛있어요", 5.0f, memberId, "반이학생"),
                                 createMockReview(2L, "좋아요", 4.0f, memberId, "맘스터치"));
 
                 PageRequest pageRequest = PageRequest.of(0, 10); // 0-based (내부 처리)
-                Page<Review> mockPage = new PageImpl<>(mockReviews, pageRequest, 15); // 전체 15개
+                Page<ReviewListRow> mockPage = new PageImpl<>(mockReviews, pageRequest, 15); // 전체 15개
+
+                // 개수 캐시 미스 → countReviews() 결과 사용
+                givenCountCacheMiss();
+                given(reviewQueryRepository.countReviews(eq(memberId), isNull(), isNull(), isNull(), isNull(), anyLong()))
+                                .willReturn(ReviewTotal.exact(15L));
 
                 // ReviewQueryRepository.findReviewsWithPaging() 호출 시 mockPage 반환
                 given(reviewQueryRepository.findReviewsWithPaging(
-                                eq(memberId), isNull(), isNull(), isNull(), isNull(), any(PageRequest.class)))
+                                eq(memberId), isNull(), isNull(), isNull(), isNull(), any(PageRequest.class), eq(15L)))
                                 .willReturn(mockPage);
 
                 // When: Service의 getMyReviewsList() 호출
@@ -108,13 +146,14 @@ class ReviewQueryServiceTest {
                 assertThat(result.getReviewList()).hasSize(2);
                 assertThat(result.getTotalPage()).isEqualTo(2); // 15개 / 10개 = 2페이지
                 assertThat(result.getTotalElements()).isEqualTo(15L);
+                assertThat(result.getIsTotalExact()).isTrue(); // 정확한 COUNT
                 assertThat(result.getIsFirst()).isTrue(); // 첫 페이지
                 assertThat(result.getIsLast()).isFalse(); // 마지막 아님
 
                 // Repository 메서드 호출 확인
                 then(reviewQueryRepository).should(times(1))
                                 .findReviewsWithPaging(eq(memberId), isNull(), isNull(), isNull(), isNull(),
-                                                any(PageRequest.class));
+                                                any(PageRequest.class), eq(15L));
         }
 
         @Test
@@ -125,10 +164,13 @@ class ReviewQueryServiceTest {
                 Integer page = 1;
 
                 PageRequest pageRequest = PageRequest.of(0, 10);
-                Page<Review> emptyPage = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
+                Page<ReviewListRow> emptyPage = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
 
+                givenCountCacheMiss();
+                given(reviewQueryRepository.countReviews(eq(memberId), isNull(), isNull(), isNull(), isNull(), anyLong()))
+                                .willReturn(ReviewTotal.exact(0L));
                 given(reviewQueryRepository.findReviewsWithPaging(
-                                eq(memberId), isNull(), isNull(), isNull(), isNull(), any(PageRequest.class)))
+                                eq(memberId), isNull(), isNull(), isNull(), isNull(), any(PageRequest.class), eq(0L)))
                                 .willReturn(emptyPage);
 
                 // When
@@ -140,6 +182,30 @@ class ReviewQueryServiceTest {
                 assertThat(result.getTotalPage()).isEqualTo(0);
         }
 
+        @Test
+        @DisplayName("[Page] 캐시된 근사 개수를 사용하면 isTotalExact가 false이고 COUNT 쿼리를 실행하지 않는다")
+        void getMyReviewsList_CachedApproximateTotal() {
+                // Given: 캐시에 근사 개수(하한 1000)가 저장된 상태
+                Long memberId = 1L;
+                PageRequest pageRequest = PageRequest.of(1, 10);
+                Page<ReviewListRow> mockPage = new PageImpl<>(
+                                List.of(createMockReview(11L, "리뷰11", 4.0f, memberId, "가게")), pageRequest, 1000);
+
+                given(reviewCountCache.get(any(), any())).willReturn(ReviewTotal.atLeast(1000L));
+                given(reviewQueryRepository.findReviewsWithPaging(
+                                eq(memberId), isNull(), isNull(), isNull(), isNull(), any(PageRequest.class), eq(1000L)))
+                                .willReturn(mockPage);
+
+                // When: 2페이지 조회
+                ReviewResponse.ReviewPreViewListDTO result = reviewQueryService.getMyReviewsList(memberId, 2);
+
+                // Then: 근사 개수 그대로 전달, COUNT 쿼리 없음
+                assertThat(result.getTotalElements()).isEqualTo(1000L);
+                assertThat(result.getIsTotalExact()).isFalse();
+                then(reviewQueryRepository).should(never())
+                                .countReviews(any(), any(), any(), any(), any(), anyLong());
+        }
+
         // ===== getMyReviewsListWithSlice() 테스트 (Slice 방식) =====
 
         /**
@@ -157,13 +223,13 @@ class ReviewQueryServiceTest {
                 Long memberId = 1L;
                 Integer page = 1; // 1-based
 
-                List<Review> mockReviews = Arrays.asList(
+                List<ReviewListRow> mockReviews = Arrays.asList(
                                 createMockReview(1L, "리뷰1", 5.0f, memberId, "가게1"),
                                 createMockReview(2L, "리뷰2", 4.5f, memberId, "가게2"),
                                 createMockReview(3L, "리뷰3", 4.0f, memberId, "가게3"));
 
                 PageRequest pageRequest = PageRequest.of(0, 10); // 0-based
-                Slice<Review> mockSlice = new SliceImpl<>(mockReviews, pageRequest, true); // hasNext = true
+                Slice<ReviewListRow> mockSlice = new SliceImpl<>(mockReviews, pageRequest, true); // hasNext = true
 
                 given(reviewQueryRepository.findReviewsWithSlice(
                                 eq(memberId), isNull(), isNull(), isNull(), isNull(), any(PageRequest.class)))
@@ -192,11 +258,11 @@ class ReviewQueryServiceTest {
                 Long memberId = 1L;
                 Integer page = 2;
 
-                List<Review> mockReviews = List.of(
+                List<ReviewListRow> mockReviews = List.of(
                                 createMockReview(4L, "리뷰4", 3.5f, memberId, "가게4"));
 
                 PageRequest pageRequest = PageRequest.of(1, 10); // 2페이지 (0-based로 1)
-                Slice<Review> mockSlice = new SliceImpl<>(mockReviews, pageRequest, false); // hasNext = false
+                Slice<ReviewListRow> mockSlice = new SliceImpl<>(mockReviews, pageRequest, false); // hasNext = false
 
                 given(reviewQueryRepository.findReviewsWithSlice(
                                 eq(memberId), isNull(), isNull(), isNull(), isNull(), any(PageRequest.class)))
@@ -228,7 +294,7 @@ class ReviewQueryServiceTest {
                 Float minScore = 3.0f;
                 Float maxScore = 5.0f;
 
-                List<Review> mockReviews = Arrays.asList(
+                List<ReviewListRow> mockReviews = Arrays.asList(
                                 createMockReview(1L, "완벽해요", 5.0f, memberId, "맛집A"),
                                 createMockReview(2L, "좋아요", 4.0f, memberId, "맛집B"));
 
@@ -254,7 +320,7 @@ class ReviewQueryServiceTest {
                 Long memberId = 1L;
                 Float minScore = 4.0f;
 
-                List<Review> mockReviews = List.of(
+                List<ReviewListRow> mockReviews = List.of(
                                 createMockReview(1L, "좋아요", 4.5f, memberId, "가게1"));
 
                 given(reviewQueryRepository.findReviews(memberId, null, null, minScore, null))
@@ -276,7 +342,7 @@ class ReviewQueryServiceTest {
         @DisplayName("[통합] 필터 없이 전체 리뷰를 조회할 수 있다")
         void getReviews_NoFilters_Success() {
                 // Given: 모든 필터가 null
-                List<Review> mockReviews = Arrays.asList(
+                List<ReviewListRow> mockReviews = Arrays.asList(
                                 createMockReview(1L, "리뷰1", 5.0f, 1L, "가게1"),
                                 createMockReview(2L, "리뷰2", 3.0f, 2L, "가게2"),
                                 createMockReview(3L, "리뷰3", 4.0f, 3L, "가게3"));
@@ -436,11 +502,11 @@ class ReviewQueryServiceTest {
          * 변환 로직이 제대로 동작하는지 확인 필요
          */
         @Test
-        @DisplayName("[DTO] Review 엔티티가 ReviewResponse.MyReview DTO로 올바르게 변환된다")
+        @DisplayName("[DTO] 리뷰 목록 행이 ReviewResponse.MyReview DTO로 올바르게 변환된다")
         void entityToDtoConversion_Success() {
                 // Given
                 Long memberId = 1L;
-                Review mockReview = createMockReview(1L, "변환 테스트", 4.5f, memberId, "테스트가게");
+                ReviewListRow mockReview = createMockReview(1L, "변환 테스트", 4.5f, memberId, "테스트가게");
 
                 given(reviewQueryRepository.findReviews(eq(memberId), any(), any(), any(), any()))
                                 .willReturn(List.of(mockReview));
@@ -462,57 +528,109 @@ class ReviewQueryServiceTest {
                 assertThat(dto.getStore().getName()).isEqualTo("테스트가게");
         }
 
+        // ===== searchReviews() 테스트 (본문 검색) =====
+
+        /**
+         * searchReviews() - 필터에 맞는 리뷰가 상위 후보 밖에 있는 경우
+         *
+         * 후보를 배치 단위로 필터하며 결과가 찰 때까지 다음 배치로 넘어가야 함
+         * (상위 후보 몇 개만 필터하면 결과가 비어 버림)
+         */
+        @Test
+        @DisplayName("[검색] 상위 후보가 필터에 걸러져도 다음 후보 배치에서 결과를 채운다")
+        void searchReviews_PagesCandidatesUntilFilled() {
+                // Given: 후보 6개(순위: 6 → 1), 배치 2개씩, 최대 결과 2개
+                givenSearchLimits(100, 2, 2);
+                given(reviewContentIndex.search("민트초코", 100)).willReturn(hits(6, 5, 4, 3, 2, 1));
+                given(reviewQueryRepository.findReviewsByIds(argThat(ids -> ids.containsAll(List.of(6L, 5L))),
+                                eq(1L), any(), any(), any(), any()))
+                                .willReturn(List.of());
+                given(reviewQueryRepository.findReviewsByIds(argThat(ids -> ids.containsAll(List.of(4L, 3L))),
+                                eq(1L), any(), any(), any(), any()))
+                                .willReturn(List.of(createMockReview(3L, "민트초코 최고", 5.0f, 1L, "가게")));
+                given(reviewQueryRepository.findReviewsByIds(argThat(ids -> ids.containsAll(List.of(2L, 1L))),
+                                eq(1L), any(), any(), any(), any()))
+                                .willReturn(List.of(
+                                                createMockReview(1L, "민트초코 별로", 2.0f, 1L, "가게"),
+                                                createMockReview(2L, "민트초코 무난", 3.0f, 1L, "가게")));
+
+                // When
+                List<ReviewResponse.MyReview> result = reviewQueryService.searchReviews("민트초코", 1L, null, null, null, null);
+
+                // Then: 배치 순서 + 배치 안의 색인 순위대로 2개
+                assertThat(result).extracting(ReviewResponse.MyReview::getId).containsExactly(3L, 2L);
+                then(reviewQueryRepository).should(times(3))
+                                .findReviewsByIds(anyList(), any(), any(), any(), any(), any());
+        }
+
+        /**
+         * searchReviews() - 첫 배치에서 결과가 모두 채워지는 경우
+         */
+        @Test
+        @DisplayName("[검색] 첫 후보 배치로 결과가 차면 다음 배치는 조회하지 않는다")
+        void searchReviews_StopsWhenFilled() {
+                // Given
+                givenSearchLimits(100, 2, 1);
+                given(reviewContentIndex.search("민트초코", 100)).willReturn(hits(4, 3, 2, 1));
+                given(reviewQueryRepository.findReviewsByIds(anyList(), any(), any(), any(), any(), any()))
+                                .willReturn(List.of(
+                                                createMockReview(3L, "민트초코 무난", 3.0f, 1L, "가게"),
+                                                createMockReview(4L, "민트초코 최고", 5.0f, 1L, "가게")));
+
+                // When
+                List<ReviewResponse.MyReview> result = reviewQueryService.searchReviews("민트초코", null, null, null, null, null);
+
+                // Then
+                assertThat(result).extracting(ReviewResponse.MyReview::getId).containsExactly(4L);
+                then(reviewQueryRepository).should(times(1))
+                                .findReviewsByIds(anyList(), any(), any(), any(), any(), any());
+        }
+
         // ===== 헬퍼 메서드 =====
 
         /**
-         * Mock Review 생성 헬퍼 메서드
+         * 본문 검색 설정값을 바꿔 테스트 대상 다시 생성
+         */
+        private void givenSearchLimits(int maxCandidates, int batchSize, int maxResults) {
+                reviewQueryService = createService(maxCandidates, batchSize, maxResults);
+        }
+
+        private ReviewQueryService createService(int searchMaxCandidates, int searchCandidateBatchSize,
+                        int searchMaxResults) {
+                return new ReviewQueryService(reviewQueryRepository, reviewPhotoRepository, replyRepository,
+                                reviewCountCache, reviewContentIndex, storeReviewFeedCache,
+                                0L, searchMaxCandidates, searchCandidateBatchSize, searchMaxResults);
+        }
+
+        /**
+         * 색인 검색 결과 (인자 순서 = 순위)
+         */
+        private List<BigramIndex.Hit> hits(long... ids) {
+                return Arrays.stream(ids).mapToObj(id -> new BigramIndex.Hit(id, 1)).toList();
+        }
+
+        /**
+         * 개수 캐시가 항상 미스인 것처럼 loader를 그대로 호출
+         */
+        private void givenCountCacheMiss() {
+                given(reviewCountCache.get(any(), any()))
+                                .willAnswer(invocation -> invocation.<Supplier<ReviewTotal>>getArgument(1).get());
+        }
+
+        /**
+         * Mock 리뷰 목록 행 생성 헬퍼 메서드
          *
-         * 테스트마다 Review 객체를 만드는 코드 중복 제거
+         * 목록 조회는 엔티티 대신 ReviewListRow 프로젝션을 반환하므로
+         * Member/Store 엔티티 없이 필요한 컬럼만 채움
          */
-        private Review createMockReview(Long reviewId, String content, Float star, Long memberId, String storeName) {
-                // Mock Member 생성
-                Member mockMember = Member.builder()
-                                .id(memberId)
-                                .name("테스트회원")
-                                .gender(Gender.MALE)
-                                .birth(LocalDate.of(1990, 1, 1))
-                                .address("서울시")
-                                .detailAddress("강남구")
-                                .socialUid("test_uid")
-                                .socialType(SocialType.GOOGLE)
-                                .email("test@example.com")
-                                .phoneNumber("01012345678")
-                                .point(100)
-                                .build();
-
-                // Mock Store 생성
-                Store mockStore = Store.builder()
-                                .id(1L)
-                                .name(storeName)
-                                .detailAddress("서울시 강남구")
-                                .managerNumber(1012345678L)
-                                .build();
-
-                // Mock Review 생성
-                // Note: @CreatedDate는 실제 JPA에서만 동작하므로 테스트에서는 직접 설정
-                Review review = Review.builder()
-                                .id(reviewId)
-                                .content(content)
-                                .star(star)
-                                .user(mockMember)
-                                .store(mockStore)
-                                .build();
-
-                // createdAt은 @CreatedDate로 자동 설정되지만, 단위 테스트에서는 JPA Auditing이 작동하지 않으므로
-                // 리플렉션을 사용하여 createdAt 필드를 직접 설정
-                try {
-                        java.lang.reflect.Field createdAtField = Review.class.getDeclaredField("createdAt");
-                        createdAtField.setAccessible(true);
-                        createdAtField.set(review, LocalDateTime.now());
-                } catch (Exception e) {
-                        // 리플렉션 실패 시 무시 (테스트 환경에서는 큰 문제 없음)
-                }
-
-                return review;
+        private ReviewListRow createMockReview(Long reviewId, String content, Float star, Long memberId, String storeName) {
+                return new ReviewListRow(
+                                reviewId,
+                                content,
+                                star,
+                                LocalDateTime.now(),
+                                1L,
+                                storeName,
+                                "서울시 강남구");
         }
 }
@@ -0,0 +1,89 @@
+package com.example.umc9th.domain.store.cache;
+
+import com.example.umc9th.domain.location.entity.Location;
+import com.example.umc9th.domain.member.entity.Food;
+import com.example.umc9th.domain.member.enums.FoodName;
+import com.example.umc9th.domain.store.dto.StoreSnapshot;
+import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.domain.store.event.StoreCreatedEvent;
+import com.example.umc9th.domain.store.repository.StoreRepository;
+import com.example.umc9th.global.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * StoreDetailCache 테스트
+ * - read-through 적재, 없는 가게 미저장, 가게 추가 후 무효화 검증
+ */
+@DisplayName("StoreDetailCache 테스트")
+class StoreDetailCacheTest {
+
+    private final StoreRepository storeRepository = mock(StoreRepository.class);
+    private final StoreDetailCache cache = new StoreDetailCache(
+            storeRepository, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("같은 가게를 여러 번 조회해도 DB는 한 번만 조회한다")
+    void get_LoadsOnce() {
+        // Given
+        given(storeRepository.findByIdWithDetails(1L)).willReturn(Optional.of(store(1L, "반이학생")));
+
+        // When
+        StoreSnapshot first = cache.get(1L);
+        StoreSnapshot second = cache.get(1L);
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.name()).isEqualTo("반이학생");
+        assertThat(first.region()).isEqualTo("강남구");
+        assertThat(first.foodCategory()).isEqualTo("KOREAN");
+        then(storeRepository).should(times(1)).findByIdWithDetails(1L);
+    }
+
+    @Test
+    @DisplayName("없는 가게는 캐시하지 않아 추가된 뒤에는 바로 조회된다")
+    void find_MissingStoreNotCached() {
+        // Given: 처음엔 없고, 이후 추가됨
+        given(storeRepository.findByIdWithDetails(2L))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(store(2L, "새 가게")));
+
+        // Then
+        assertThat(cache.exists(2L)).isFalse();
+        assertThatThrownBy(() -> cache.get(2L)).isInstanceOf(CustomException.class);
+        assertThat(cache.exists(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("가게 추가 이벤트를 받으면 해당 항목을 제거해 다음 조회 때 다시 적재한다")
+    void onStoreCreated_Evicts() {
+        // Given
+        given(storeRepository.findByIdWithDetails(3L)).willReturn(Optional.of(store(3L, "가게")));
+        cache.get(3L);
+
+        // When
+        cache.onStoreCreated(new StoreCreatedEvent(3L, "가게", null, null));
+        cache.get(3L);
+
+        // Then
+        then(storeRepository).should(times(2)).findByIdWithDetails(3L);
+    }
+
+    private static Store store(Long id, String name) {
+        return Store.builder()
+                .id(id)
+                .name(name)
+                .managerNumber(1012345678L)
+                .detailAddress("서울시 강남구 테헤란로 123")
+                .location(Location.builder().id(1L).name("강남구").build())
+                .food(Food.builder().id(1L).name(FoodName.KOREAN).build())
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.umc9th.domain.store.repository;
+
+import com.example.umc9th.domain.location.entity.Location;
+import com.example.umc9th.domain.member.entity.Food;
+import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.domain.member.enums.FoodName;
+import com.example.umc9th.domain.review.entity.Review;
+import com.example.umc9th.domain.store.entity.Store;
+import com.example.umc9th.domain.store.entity.StoreRatingSummary;
+import com.example.umc9th.global.auth.enums.SocialType;
+import com.example.umc9th.global.config.JpaConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 가게 별점 요약 Repository 테스트
+ *
+ * - 네이티브 upsert(ON DUPLICATE KEY UPDATE, VALUES())를 쓰므로 H2를 MySQL 호환 모드로 실행
+ * - 리뷰 작성(addReview)으로 쌓은 요약과 전체 재계산(rebuildRange) 결과가 같은지 확인
+ *   (특히 x.25 / x.75점처럼 두 칸 사이에 걸친 별점)
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:rating_summary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@DisplayName("가게 별점 요약 Repository 테스트")
+class StoreRatingSummaryRepositoryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private StoreRatingSummaryRepository storeRatingSummaryRepository;
+
+    private Store store;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        Location location = em.persist(Location.builder().name("강남구").build());
+        Food food = em.persist(Food.builder().name(FoodName.KOREAN).build());
+        store = em.persist(Store.builder()
+                .name("별점가게")
+                .managerNumber(1012345678L)
+                .detailAddress("서울시 강남구 1")
+                .location(location)
+                .food(food)
+                .build());
+        member = em.persist(Member.builder()
+                .name("리뷰회원")
+                .birth(LocalDate.of(1990, 1, 1))
+                .address("서울시")
+                .detailAddress("강남구")
+                .socialUid("rating_summary_uid")
+                .socialType(SocialType.GOOGLE)
+                .email("rating@example.com")
+                .point(0)
+                .build());
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 시 upsert로 개수/합계/히스토그램이 누적된다")
+    void addReview_Accumulates() {
+        // When
+        addReview(4.0f);
+        addReview(4.0f);
+        addReview(1.5f);
+
+        // Then
+        StoreRatingSummary summary = findSummary();
+        assertThat(summary.getReviewCount()).isEqualTo(3);
+        assertThat(summary.getStarSum()).isEqualTo(9.5);
+        assertThat(summary.getHistogram().get(8)).isEqualTo(2);
+        assertThat(summary.getHistogram().get(3)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("두 칸 사이 별점은 작성/재계산 모두 위 칸에 집계된다")
+    void addReview_MatchesRebuild() {
+        // Given: 2.25 → 2.5점 칸(5), 4.75 → 5.0점 칸(10), 0.25 → 0.5점 칸(1), 3.0 → 3.0점 칸(6)
+        for (float star : new float[]{2.25f, 4.75f, 0.25f, 3.0f}) {
+            addReview(star);
+        }
+        List<Long> incremental = findSummary().getHistogram();
+
+        // When
+        int rebuilt = storeRatingSummaryRepository.rebuildRange(store.getId(), store.getId());
+        em.clear();
+        StoreRatingSummary summary = findSummary();
+
+        // Then
+        assertThat(rebuilt).isPositive();
+        assertThat(incremental).containsExactly(0L, 1L, 0L, 0L, 0L, 1L, 1L, 0L, 0L, 0L, 1L);
+        assertThat(summary.getHistogram()).isEqualTo(incremental);
+        assertThat(summary.getReviewCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("재계산은 어긋난 요약을 review 테이블 기준으로 덮어쓴다")
+    void rebuildRange_OverwritesDrift() {
+        // Given: 요약 반영 없이 리뷰만 저장된 상태 + 리뷰 1건은 요약 반영
+        persistReview(5.0f);
+        addReview(1.0f);
+
+        // When
+        storeRatingSummaryRepository.rebuildRange(store.getId(), store.getId());
+        em.clear();
+
+        // Then
+        StoreRatingSummary summary = findSummary();
+        assertThat(summary.getReviewCount()).isEqualTo(2);
+        assertThat(summary.getStarSum()).isEqualTo(6.0);
+        assertThat(summary.getAverageStar()).isEqualTo(3.0);
+        assertThat(summary.getHistogram().get(10)).isEqualTo(1);
+        assertThat(summary.getHistogram().get(2)).isEqualTo(1);
+    }
+
+    private void addReview(float star) {
+        Review review = persistReview(star);
+        storeRatingSummaryRepository.addReview(review.getId());
+        em.clear();
+    }
+
+    private Review persistReview(float star) {
+        Review review = em.persist(Review.builder()
+                .content("별점 " + star)
+                .star(star)
+                .store(em.find(Store.class, store.getId()))
+                .user(em.find(Member.class, member.getId()))
+                .build());
+        em.flush();
+        return review;
+    }
+
+    private StoreRatingSummary findSummary() {
+        return storeRatingSummaryRepository.findById(store.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.umc9th.domain.store.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * StoreNameIndex 테스트
+ * - 기존 LIKE '%단어%' OR 검색과 같은 결과를 내는지 검증 (DB 없이 색인만 사용)
+ */
+@DisplayName("StoreNameIndex 테스트")
+class StoreNameIndexTest {
+
+    private StoreNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreNameIndex(null, 1000);
+        index.add(1L, "민트초코 카페");
+        index.add(2L, "초코케이크");
+        index.add(3L, "민트 초코 라떼");
+        index.add(4L, "Burger House");
+        index.add(5L, "김밥천국");
+    }
+
+    @Test
+    @DisplayName("단어가 이름에 연속으로 포함된 가게만 찾는다 (bigram만 겹치는 가게 제외)")
+    void findIds_SubstringMatchOnly() {
+        // "민트 초코 라떼"는 민트/초코 bigram은 있지만 "민트초코"를 포함하지 않음
+        assertThat(index.findIds("민트초코")).containsExactlyInAnyOrder(1L);
+    }
+
+    @Test
+    @DisplayName("공백으로 나눈 단어 중 하나라도 포함되면 일치한다 (OR)")
+    void findIds_AnyKeyword() {
+        assertThat(index.findIds("민트 케이크")).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않는다")
+    void findIds_IgnoreCase() {
+        assertThat(index.findIds("burger")).containsExactlyInAnyOrder(4L);
+    }
+
+    @Test
+    @DisplayName("한 글자 단어도 이름 전체에서 찾는다")
+    void findIds_SingleCharacter() {
+        assertThat(index.findIds("밥")).containsExactlyInAnyOrder(5L);
+    }
+
+    @Test
+    @DisplayName("빈 검색어나 일치하는 가게가 없으면 빈 집합")
+    void findIds_NoMatch() {
+        assertThat(index.findIds(" ")).isEmpty();
+        assertThat(index.findIds("떡볶이")).isEmpty();
+    }
+}
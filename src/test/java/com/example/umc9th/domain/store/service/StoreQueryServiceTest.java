@@ -3,19 +3,28 @@ package com.example.umc9th.domain.store.service;
 import com.example.umc9th.domain.location.entity.Location;
 import com.example.umc9th.domain.member.entity.Food;
 import com.example.umc9th.domain.member.enums.FoodName;
+import com.example.umc9th.domain.store.cache.StoreDetailCache;
+import com.example.umc9th.domain.store.dto.StoreCursor;
 import com.example.umc9th.domain.store.dto.StoreResponse;
 import com.example.umc9th.domain.store.entity.Store;
 import com.example.umc9th.domain.store.repository.StoreQueryRepository;
+import com.example.umc9th.domain.store.repository.StoreRatingSummaryRepository;
+import com.example.umc9th.domain.store.search.StoreAutocompleteIndex;
+import com.example.umc9th.domain.store.search.StoreGeoIndex;
+import com.example.umc9th.domain.store.search.StoreNameIndex;
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.search.GeoGridIndex;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -50,14 +59,37 @@ class StoreQueryServiceTest {
     @Mock
     private StoreQueryRepository storeQueryRepository;
 
+    @Mock
+    private StoreDetailCache storeDetailCache;
+
+    @Mock
+    private StoreRatingSummaryRepository storeRatingSummaryRepository;
+
     /**
-     * @InjectMocks: @Mock 객체들을 자동 주입
-     * - StoreQueryService의 생성자에 storeQueryRepository를 자동 주입
-     * - 실제로 테스트할 대상 객체
+     * 가게 이름 색인 Mock
+     * - 이름 검색 테스트에서 후보 가게 ID를 반환하도록 stub
+     */
+    @Mock
+    private StoreNameIndex storeNameIndex;
+
+    @Mock
+    private StoreAutocompleteIndex storeAutocompleteIndex;
+
+    @Mock
+    private StoreGeoIndex storeGeoIndex;
+
+    /**
+     * 테스트 대상 객체
+     * - 생성자에 @Mock 객체들과 주변 가게 검색 설정값(application.yml 기본값과 동일)을 직접 전달
+     * - 설정값이 int 생성자 인자라 @InjectMocks 대신 @BeforeEach에서 생성
      */
-    @InjectMocks
     private StoreQueryService storeQueryService;
 
+    @BeforeEach
+    void setUp() {
+        storeQueryService = new StoreQueryService(storeQueryRepository, storeDetailCache, storeRatingSummaryRepository,
+                storeNameIndex, storeAutocompleteIndex, storeGeoIndex, 5000, 50, 1000);
+    }
 
     // ===== searchStores() 메서드 테스트 =====
 
@@ -79,12 +111,12 @@ class StoreQueryServiceTest {
                 createMockStore(3L, "가게C", "강남구", FoodName.CHINESE)
         );
 
-        // Mockito: "searchStores(null, null, null)이 호출되면 mockStores를 반환해라"
-        given(storeQueryRepository.searchStores(null, null, null))
+        // Mockito: "searchStores(null, null, null, null, 20)이 호출되면 mockStores를 반환해라"
+        given(storeQueryRepository.searchStores(null, null, null, null, 20))
                 .willReturn(mockStores);
 
         // When: Service의 searchStores() 호출
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, null);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, null, null, null).getStoreList();
 
         // Then: 결과 검증
         assertThat(result).hasSize(3);
@@ -94,7 +126,7 @@ class StoreQueryServiceTest {
 
         // 검증: Repository의 searchStores가 1번 호출되었는지
         then(storeQueryRepository).should(times(1))
-                .searchStores(null, null, null);
+                .searchStores(null, null, null, null, 20);
     }
 
     /**
@@ -110,18 +142,18 @@ class StoreQueryServiceTest {
                 createMockStore(2L, "강남가게B", "강남구", FoodName.JAPANESE)
         );
 
-        given(storeQueryRepository.searchStores(regions, null, null))
+        given(storeQueryRepository.searchStores(regions, null, null, null, 20))
                 .willReturn(mockStores);
 
         // When: 강남구 필터로 검색
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(regions, null, null);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(regions, null, null, null, null).getStoreList();
 
         // Then: 강남구 가게만 2개 조회됨
         assertThat(result).hasSize(2);
         assertThat(result)
                 .allMatch(store -> store.getRegion().equals("강남구"));
 
-        then(storeQueryRepository).should().searchStores(regions, null, null);
+        then(storeQueryRepository).should().searchStores(regions, null, null, null, 20);
     }
 
     /**
@@ -138,11 +170,11 @@ class StoreQueryServiceTest {
                 createMockStore(3L, "강남가게2", "강남구", FoodName.CHINESE)
         );
 
-        given(storeQueryRepository.searchStores(regions, null, null))
+        given(storeQueryRepository.searchStores(regions, null, null, null, 20))
                 .willReturn(mockStores);
 
         // When: 강남구, 서초구 필터로 검색
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(regions, null, null);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(regions, null, null, null, null).getStoreList();
 
         // Then: 3개 조회, 강남구 또는 서초구만
         assertThat(result).hasSize(3);
@@ -150,7 +182,7 @@ class StoreQueryServiceTest {
                 .extracting("region")
                 .containsOnly("강남구", "서초구");
 
-        then(storeQueryRepository).should().searchStores(regions, null, null);
+        then(storeQueryRepository).should().searchStores(regions, null, null, null, 20);
     }
 
     /**
@@ -166,16 +198,16 @@ class StoreQueryServiceTest {
                 createMockStore(2L, "가게B", "서초구", FoodName.JAPANESE)
         );
 
-        given(storeQueryRepository.searchStores(emptyRegions, null, null))
+        given(storeQueryRepository.searchStores(emptyRegions, null, null, null, 20))
                 .willReturn(mockStores);
 
         // When: 빈 리스트로 검색
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(emptyRegions, null, null);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(emptyRegions, null, null, null, null).getStoreList();
 
         // Then: 전체 가게 조회됨
         assertThat(result).hasSize(2);
 
-        then(storeQueryRepository).should().searchStores(emptyRegions, null, null);
+        then(storeQueryRepository).should().searchStores(emptyRegions, null, null, null, 20);
     }
 
     /**
@@ -191,11 +223,14 @@ class StoreQueryServiceTest {
                 createMockStore(2L, "서초맛집", "서초구", FoodName.JAPANESE)
         );
 
-        given(storeQueryRepository.searchStores(null, searchName, null))
+        // 색인이 후보 ID를 반환 → Repository는 ID로만 조회
+        Set<Long> storeIds = Set.of(1L, 2L);
+        given(storeNameIndex.findIds(searchName)).willReturn(storeIds);
+        given(storeQueryRepository.searchStores(null, storeIds, null, null, 20))
                 .willReturn(mockStores);
 
         // When: 이름 검색
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, searchName, null);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, searchName, null, null, null).getStoreList();
 
         // Then: "맛집"이 포함된 가게만 조회됨
         assertThat(result).hasSize(2);
@@ -203,7 +238,24 @@ class StoreQueryServiceTest {
                 .extracting(StoreResponse.SearchResult::getName)
                 .allMatch(name -> ((String) name).contains("맛집"));
 
-        then(storeQueryRepository).should().searchStores(null, searchName, null);
+        then(storeQueryRepository).should().searchStores(null, storeIds, null, null, 20);
+    }
+
+    /**
+     * 이름 검색 결과가 없으면 DB 조회 생략
+     */
+    @Test
+    @DisplayName("이름 색인에 일치하는 가게가 없으면 DB를 조회하지 않고 빈 리스트를 반환한다")
+    void searchStores_ByName_NoMatchSkipsQuery() {
+        // Given
+        given(storeNameIndex.findIds("없는가게")).willReturn(Set.of());
+
+        // When
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, "없는가게", null, null, null).getStoreList();
+
+        // Then
+        assertThat(result).isEmpty();
+        then(storeQueryRepository).shouldHaveNoInteractions();
     }
 
     /**
@@ -219,16 +271,17 @@ class StoreQueryServiceTest {
                 createMockStore(2L, "가게B", "서초구", FoodName.JAPANESE)
         );
 
-        given(storeQueryRepository.searchStores(null, emptySearchName, null))
+        given(storeQueryRepository.searchStores(null, null, null, null, 20))
                 .willReturn(mockStores);
 
         // When: 빈 문자열로 검색
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, emptySearchName, null);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, emptySearchName, null, null, null).getStoreList();
 
-        // Then: 전체 가게 조회됨
+        // Then: 이름 조건 없이 전체 가게 조회됨
         assertThat(result).hasSize(2);
 
-        then(storeQueryRepository).should().searchStores(null, emptySearchName, null);
+        then(storeNameIndex).shouldHaveNoInteractions();
+        then(storeQueryRepository).should().searchStores(null, null, null, null, 20);
     }
 
     /**
@@ -245,11 +298,11 @@ class StoreQueryServiceTest {
                 createMockStore(1L, "가게A", "강남구", FoodName.CHINESE)
         );
 
-        given(storeQueryRepository.searchStores(null, null, sortBy))
+        given(storeQueryRepository.searchStores(null, null, sortBy, null, 20))
                 .willReturn(mockStores);
 
         // When: latest 정렬로 조회
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, sortBy);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, sortBy, null, null).getStoreList();
 
         // Then: ID가 큰 순서대로 정렬됨
         assertThat(result).hasSize(3);
@@ -257,7 +310,7 @@ class StoreQueryServiceTest {
                 .extracting("id")
                 .containsExactly(3L, 2L, 1L);
 
-        then(storeQueryRepository).should().searchStores(null, null, sortBy);
+        then(storeQueryRepository).should().searchStores(null, null, sortBy, null, 20);
     }
 
     /**
@@ -274,11 +327,11 @@ class StoreQueryServiceTest {
                 createMockStore(3L, "C가게", "강남구", FoodName.CHINESE)
         );
 
-        given(storeQueryRepository.searchStores(null, null, sortBy))
+        given(storeQueryRepository.searchStores(null, null, sortBy, null, 20))
                 .willReturn(mockStores);
 
         // When: name 정렬로 조회
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, sortBy);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, sortBy, null, null).getStoreList();
 
         // Then: 이름 오름차순으로 정렬됨
         assertThat(result).hasSize(3);
@@ -286,7 +339,7 @@ class StoreQueryServiceTest {
                 .extracting("name")
                 .containsExactly("A가게", "B가게", "C가게");
 
-        then(storeQueryRepository).should().searchStores(null, null, sortBy);
+        then(storeQueryRepository).should().searchStores(null, null, sortBy, null, 20);
     }
 
     /**
@@ -301,16 +354,16 @@ class StoreQueryServiceTest {
                 createMockStore(2L, "가게B", "서초구", FoodName.JAPANESE)
         );
 
-        given(storeQueryRepository.searchStores(null, null, null))
+        given(storeQueryRepository.searchStores(null, null, null, null, 20))
                 .willReturn(mockStores);
 
         // When: sortBy 없이 조회
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, null);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, null, null, null).getStoreList();
 
         // Then: 최신순으로 정렬됨
         assertThat(result).hasSize(2);
 
-        then(storeQueryRepository).should().searchStores(null, null, null);
+        then(storeQueryRepository).should().searchStores(null, null, null, null, 20);
     }
 
     /**
@@ -325,16 +378,16 @@ class StoreQueryServiceTest {
                 createMockStore(1L, "가게A", "강남구", FoodName.KOREAN)
         );
 
-        given(storeQueryRepository.searchStores(null, null, invalidSortBy))
+        given(storeQueryRepository.searchStores(null, null, invalidSortBy, null, 20))
                 .willReturn(mockStores);
 
         // When: 잘못된 sortBy로 조회
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, invalidSortBy);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, invalidSortBy, null, null).getStoreList();
 
         // Then: Repository가 알아서 처리 (예외 발생 안 함)
         assertThat(result).hasSize(1);
 
-        then(storeQueryRepository).should().searchStores(null, null, invalidSortBy);
+        then(storeQueryRepository).should().searchStores(null, null, invalidSortBy, null, 20);
     }
 
     /**
@@ -352,11 +405,13 @@ class StoreQueryServiceTest {
                 createMockStore(2L, "B카페", "강남구", FoodName.WESTERN)
         );
 
-        given(storeQueryRepository.searchStores(regions, searchName, sortBy))
+        Set<Long> storeIds = Set.of(1L, 2L, 3L);
+        given(storeNameIndex.findIds(searchName)).willReturn(storeIds);
+        given(storeQueryRepository.searchStores(regions, storeIds, sortBy, null, 20))
                 .willReturn(mockStores);
 
         // When: 복합 조건으로 검색
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(regions, searchName, sortBy);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(regions, searchName, sortBy, null, null).getStoreList();
 
         // Then: 조건에 맞는 가게만 정렬되어 조회됨
         assertThat(result).hasSize(2);
@@ -364,7 +419,7 @@ class StoreQueryServiceTest {
                 .allMatch(store -> store.getRegion().equals("강남구"))
                 .allMatch(store -> store.getName().contains("카페"));
 
-        then(storeQueryRepository).should().searchStores(regions, searchName, sortBy);
+        then(storeQueryRepository).should().searchStores(regions, storeIds, sortBy, null, 20);
     }
 
     /**
@@ -376,16 +431,16 @@ class StoreQueryServiceTest {
         // Given: 검색 결과 없음
         List<String> regions = List.of("존재하지않는지역");
 
-        given(storeQueryRepository.searchStores(regions, null, null))
+        given(storeQueryRepository.searchStores(regions, null, null, null, 20))
                 .willReturn(Collections.emptyList());
 
         // When: 검색 실행
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(regions, null, null);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(regions, null, null, null, null).getStoreList();
 
         // Then: 빈 리스트 반환 (예외 발생 X)
         assertThat(result).isEmpty();
 
-        then(storeQueryRepository).should().searchStores(regions, null, null);
+        then(storeQueryRepository).should().searchStores(regions, null, null, null, 20);
     }
 
     /**
@@ -399,11 +454,11 @@ class StoreQueryServiceTest {
                 createMockStore(1L, "테스트가게", "강남구", FoodName.KOREAN)
         );
 
-        given(storeQueryRepository.searchStores(null, null, null))
+        given(storeQueryRepository.searchStores(null, null, null, null, 20))
                 .willReturn(mockStores);
 
         // When: 조회 실행
-        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, null);
+        List<StoreResponse.SearchResult> result = storeQueryService.searchStores(null, null, null, null, null).getStoreList();
 
         // Then: DTO 필드가 모두 정확히 변환됨
         assertThat(result).hasSize(1);
@@ -415,6 +470,65 @@ class StoreQueryServiceTest {
         assertThat(dto.getDetailAddress()).isEqualTo("강남구 테헤란로 123");
     }
 
+    /**
+     * 커서 페이지네이션 - size + 1개를 받으면 다음 페이지가 있음
+     */
+    @Test
+    @DisplayName("size보다 많이 조회되면 size개만 응답하고 마지막 가게로 다음 커서를 만든다")
+    void searchStores_HasNext_ReturnsCursorOfLastStore() {
+        // Given: size 2 → Repository는 최대 3개 반환
+        given(storeQueryRepository.searchStores(null, null, "name", null, 2)).willReturn(List.of(
+                createMockStore(3L, "A가게", "강남구", FoodName.KOREAN),
+                createMockStore(1L, "B|가게", "강남구", FoodName.KOREAN),
+                createMockStore(2L, "C가게", "강남구", FoodName.KOREAN)
+        ));
+
+        // When
+        StoreResponse.StoreCursorListDTO page = storeQueryService.searchStores(null, null, "name", null, 2);
+
+        // Then: 2개만 응답, 커서는 두 번째 가게의 (이름, ID) - 이름에 구분자가 있어도 복원됨
+        assertThat(page.getStoreList()).extracting(StoreResponse.SearchResult::getId).containsExactly(3L, 1L);
+        assertThat(page.getHasNext()).isTrue();
+        assertThat(StoreCursor.decode(page.getNextCursor(), true)).isEqualTo(new StoreCursor("B|가게", 1L));
+
+        // When: 다음 페이지 요청
+        given(storeQueryRepository.searchStores(null, null, "name", new StoreCursor("B|가게", 1L), 2))
+                .willReturn(List.of(createMockStore(2L, "C가게", "강남구", FoodName.KOREAN)));
+        StoreResponse.StoreCursorListDTO next =
+                storeQueryService.searchStores(null, null, "name", page.getNextCursor(), 2);
+
+        // Then: 마지막 페이지
+        assertThat(next.getStoreList()).extracting(StoreResponse.SearchResult::getId).containsExactly(2L);
+        assertThat(next.getHasNext()).isFalse();
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    /**
+     * 최대 페이지 크기 검증
+     */
+    @Test
+    @DisplayName("페이지 크기가 최대값(100)을 넘으면 예외가 발생하고 DB를 조회하지 않는다")
+    void searchStores_PageSizeTooLarge_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> storeQueryService.searchStores(null, null, null, null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(storeQueryRepository).shouldHaveNoInteractions();
+    }
+
+    /**
+     * 다른 정렬 기준의 커서는 거부
+     */
+    @Test
+    @DisplayName("최신순 커서를 이름순 검색에 넘기면 INVALID_CURSOR 예외가 발생한다")
+    void searchStores_CursorOfOtherSort_ThrowsException() {
+        // Given: 최신순 커서 (키 1개)
+        String latestCursor = new StoreCursor(null, 10L).encode();
+
+        // When & Then
+        assertThatThrownBy(() -> storeQueryService.searchStores(null, null, "name", latestCursor, null))
+                .isInstanceOf(CustomException.class);
+    }
+
 
     // ===== countStoresByRegion() 메서드 테스트 =====
 
@@ -602,6 +716,79 @@ class StoreQueryServiceTest {
     }
 
 
+    // ===== getNearbyStores() 메서드 테스트 =====
+
+    /**
+     * 필터가 있으면 후보를 넉넉히 받아 거른 뒤 가까운 순으로 size개만 응답
+     */
+    @Test
+    @DisplayName("주변 가게를 필터 통과 가게 중 가까운 순으로 size개 조회한다")
+    void getNearbyStores_FilteredAndOrderedByDistance() {
+        // Given
+        List<String> regions = List.of("강남구");
+        given(storeGeoIndex.nearest(37.5, 127.0, 1000, 8)).willReturn(List.of(
+                new GeoGridIndex.Hit(3L, 100.4),
+                new GeoGridIndex.Hit(1L, 250.0),
+                new GeoGridIndex.Hit(2L, 400.0),
+                new GeoGridIndex.Hit(4L, 700.0)
+        ));
+        // DB는 거리 순서를 모름 (서초구 2번 가게는 필터에서 빠짐)
+        given(storeQueryRepository.findStoresByIds(any(), eq(regions), eq(null))).willReturn(List.of(
+                createMockStore(4L, "가게D", "강남구", FoodName.KOREAN),
+                createMockStore(1L, "가게A", "강남구", FoodName.KOREAN),
+                createMockStore(3L, "가게C", "강남구", FoodName.KOREAN)
+        ));
+
+        // When
+        List<StoreResponse.NearbyResult> result = storeQueryService.getNearbyStores(37.5, 127.0, 1000, regions, null, 2);
+
+        // Then: 후보 2 × 4 = 8개 요청, 가까운 2개만 응답
+        assertThat(result).extracting(StoreResponse.NearbyResult::getId).containsExactly(3L, 1L);
+        assertThat(result.get(0).getDistanceMeters()).isEqualTo(100L);
+        then(storeQueryRepository).should(times(1)).findStoresByIds(any(), any(), any());
+    }
+
+    /**
+     * 필터를 통과한 가게가 부족하고 반경 안에 후보가 더 있으면 후보 수를 늘려 다시 조회
+     */
+    @Test
+    @DisplayName("필터 통과 가게가 부족하면 후보 수를 늘려 다시 조회한다")
+    void getNearbyStores_ExpandsCandidatesWhenFilteredOut() {
+        // Given: 첫 후보 4개가 꽉 찼지만 필터 통과는 0개
+        List<GeoGridIndex.Hit> firstHits = List.of(
+                new GeoGridIndex.Hit(1L, 10.0), new GeoGridIndex.Hit(2L, 20.0),
+                new GeoGridIndex.Hit(3L, 30.0), new GeoGridIndex.Hit(4L, 40.0));
+        List<GeoGridIndex.Hit> secondHits = List.of(
+                new GeoGridIndex.Hit(1L, 10.0), new GeoGridIndex.Hit(2L, 20.0),
+                new GeoGridIndex.Hit(3L, 30.0), new GeoGridIndex.Hit(4L, 40.0),
+                new GeoGridIndex.Hit(5L, 50.0));
+        given(storeGeoIndex.nearest(37.5, 127.0, 1000, 4)).willReturn(firstHits);
+        given(storeGeoIndex.nearest(37.5, 127.0, 1000, 16)).willReturn(secondHits);
+        given(storeQueryRepository.findStoresByIds(any(), eq(null), eq(1L)))
+                .willReturn(List.of())
+                .willReturn(List.of(createMockStore(5L, "가게E", "강남구", FoodName.KOREAN)));
+
+        // When
+        List<StoreResponse.NearbyResult> result = storeQueryService.getNearbyStores(37.5, 127.0, 1000, null, 1L, 1);
+
+        // Then: 두 번째 조회(반경 안 후보 5개 < 16개)에서 응답
+        assertThat(result).extracting(StoreResponse.NearbyResult::getId).containsExactly(5L);
+        then(storeQueryRepository).should(times(2)).findStoresByIds(any(), any(), any());
+    }
+
+    /**
+     * 반경 제한 검증
+     */
+    @Test
+    @DisplayName("최대 반경을 넘으면 예외가 발생하고 색인을 조회하지 않는다")
+    void getNearbyStores_RadiusTooLarge_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> storeQueryService.getNearbyStores(37.5, 127.0, 5001, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(storeGeoIndex).shouldHaveNoInteractions();
+    }
+
+
     // ===== Repository 호출 검증 테스트 =====
 
     /**
@@ -612,13 +799,13 @@ class StoreQueryServiceTest {
     void verifyRepositoryCallCount() {
         // Given
         List<Store> mockStores = List.of(createMockStore(1L, "가게", "강남구", FoodName.KOREAN));
-        given(storeQueryRepository.searchStores(any(), any(), any())).willReturn(mockStores);
+        given(storeQueryRepository.searchStores(any(), any(), any(), any(), anyInt())).willReturn(mockStores);
 
         // When: Service 메서드 1번 호출
-        storeQueryService.searchStores(null, null, null);
+        storeQueryService.searchStores(null, null, null, null, null).getStoreList();
 
         // Then: Repository도 정확히 1번만 호출됨
-        then(storeQueryRepository).should(times(1)).searchStores(any(), any(), any());
+        then(storeQueryRepository).should(times(1)).searchStores(any(), any(), any(), any(), anyInt());
         then(storeQueryRepository).shouldHaveNoMoreInteractions();
     }
 
@@ -634,15 +821,17 @@ class StoreQueryServiceTest {
         String sortBy = "name";
         List<Store> mockStores = Collections.emptyList();
 
-        given(storeQueryRepository.searchStores(regions, searchName, sortBy))
+        Set<Long> storeIds = Set.of(10L);
+        given(storeNameIndex.findIds(searchName)).willReturn(storeIds);
+        given(storeQueryRepository.searchStores(regions, storeIds, sortBy, null, 20))
                 .willReturn(mockStores);
 
         // When: 특정 파라미터로 호출
-        storeQueryService.searchStores(regions, searchName, sortBy);
+        storeQueryService.searchStores(regions, searchName, sortBy, null, null).getStoreList();
 
-        // Then: Repository에 동일한 파라미터가 전달됨
+        // Then: Repository에 지역, 색인 후보 ID, 정렬이 전달됨
         then(storeQueryRepository).should()
-                .searchStores(eq(regions), eq(searchName), eq(sortBy));
+                .searchStores(eq(regions), eq(storeIds), eq(sortBy), isNull(), eq(20));
     }
 
 
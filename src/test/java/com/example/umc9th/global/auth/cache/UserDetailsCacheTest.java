@@ -0,0 +1,116 @@
+package com.example.umc9th.global.auth.cache;
+
+import com.example.umc9th.global.auth.MemberSnapshot;
+import com.example.umc9th.global.auth.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UserDetailsCache 테스트
+ * - 스냅샷 캐시, 회원 ID 기준 무효화(이메일 변경 전/후 키 포함), 커밋 후 재무효화 검증
+ */
+@DisplayName("UserDetailsCache 테스트")
+class UserDetailsCacheTest {
+
+    private final UserDetailsCache cache = new UserDetailsCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 이메일은 한 번만 조회하고 스냅샷을 재사용한다")
+    void get_LoadsOnce() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, MemberSnapshot> loader = email -> {
+            loads.incrementAndGet();
+            return snapshot(1L, email, "$2a$10$hash");
+        };
+
+        // When
+        MemberSnapshot first = cache.get("user@example.com", loader);
+        MemberSnapshot second = cache.get("user@example.com", loader);
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getUsername()).isEqualTo("user@example.com");
+        assertThat(first.getPassword()).isEqualTo("$2a$10$hash");
+        assertThat(first.toString()).doesNotContain("$2a$10$hash");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("evictMember 후에는 옛 스냅샷 대신 새로 조회한 값을 돌려준다")
+    void evictMember_ServesFreshSnapshot() {
+        // Given: 비밀번호 변경 전 스냅샷이 캐시됨
+        cache.get("user@example.com", email -> snapshot(1L, email, "old-hash"));
+
+        // When
+        cache.evictMember(1L);
+        MemberSnapshot reloaded = cache.get("user@example.com", email -> snapshot(1L, email, "new-hash"));
+
+        // Then
+        assertThat(reloaded.passwordHash()).isEqualTo("new-hash");
+    }
+
+    @Test
+    @DisplayName("이메일이 바뀐 회원은 변경 전/후 키가 모두 제거되고 다른 회원은 남는다")
+    void evictMember_RemovesAllEmailsOfMember() {
+        // Given: 같은 회원이 두 이메일 키로 캐시됨 + 다른 회원
+        cache.get("before@example.com", email -> snapshot(1L, email, "hash"));
+        cache.get("after@example.com", email -> snapshot(1L, email, "hash"));
+        cache.get("other@example.com", email -> snapshot(2L, email, "hash"));
+
+        // When
+        cache.evictMember(1L);
+
+        // Then
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, MemberSnapshot> loader = email -> {
+            loads.incrementAndGet();
+            return snapshot(99L, email, "reloaded");
+        };
+        cache.get("before@example.com", loader);
+        cache.get("after@example.com", loader);
+        assertThat(loads).hasValue(2);
+
+        MemberSnapshot other = cache.get("other@example.com", loader);
+        assertThat(other.memberId()).isEqualTo(2L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 무효화하면 커밋 전 다시 채워진 옛 값도 커밋 후 제거된다")
+    void evictMember_EvictsAgainAfterCommit() {
+        // Given: 트랜잭션 동기화 활성화
+        TransactionSynchronizationManager.initSynchronization();
+        cache.get("user@example.com", email -> snapshot(1L, email, "old-hash"));
+
+        // When: 무효화 직후, 커밋 전 다른 요청이 옛 데이터로 다시 채움
+        cache.evictMember(1L);
+        cache.get("user@example.com", email -> snapshot(1L, email, "old-hash"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        MemberSnapshot reloaded = cache.get("user@example.com", email -> snapshot(1L, email, "new-hash"));
+        assertThat(reloaded.passwordHash()).isEqualTo("new-hash");
+    }
+
+    private MemberSnapshot snapshot(Long memberId, String email, String passwordHash) {
+        return new MemberSnapshot(memberId, email, Role.ROLE_USER, passwordHash);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.umc9th.global.auth.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BloomFilter 테스트
+ * - 미탐(false negative) 없음, 오탐률이 목표치 근처인지 검증
+ */
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있음(true)으로 답한다")
+    void mightContain_NoFalseNegatives() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("jti-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("넣지 않은 값의 오탐률이 목표치의 몇 배를 넘지 않는다")
+    void mightContain_FalsePositiveRateNearTarget() {
+        // Given: 예상 개수만큼 채움 (목표 오탐률 1%)
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat((double) falsePositives / trials).isLessThan(0.03);
+    }
+
+    @Test
+    @DisplayName("비어 있는 필터는 아무것도 포함하지 않는다")
+    void mightContain_EmptyFilter() {
+        BloomFilter filter = new BloomFilter(100, 0.001);
+
+        assertThat(filter.mightContain("anything")).isFalse();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.umc9th.global.auth.jwt;
+
+import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.global.auth.CustomUserDetails;
+import com.example.umc9th.global.auth.CustomUserDetailsService;
+import com.example.umc9th.global.auth.JwtPrincipal;
+import com.example.umc9th.global.auth.MemberSnapshot;
+import com.example.umc9th.global.auth.enums.Role;
+import com.example.umc9th.global.auth.enums.SocialType;
+import com.example.umc9th.global.auth.service.TokenRevocationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * JwtAuthFilter 테스트
+ * - jwt.claims-only-auth=true: 토큰 Claims만으로 JwtPrincipal 생성 (회원 조회 없음)
+ * - jwt.claims-only-auth=false: CustomUserDetailsService로 회원 조회
+ */
+@DisplayName("JwtAuthFilter 테스트")
+class JwtAuthFilterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-auth-filter-0123456789";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 600_000L, 100);
+    private final CustomUserDetailsService customUserDetailsService = mock(CustomUserDetailsService.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Claims 기반 모드 - 회원 조회 없이 토큰 클레임으로 인증 정보를 만든다")
+    void claimsOnly_BuildsPrincipalWithoutLookup() throws Exception {
+        // Given
+        JwtAuthFilter filter = new JwtAuthFilter(jwtUtil, customUserDetailsService, tokenRevocationService, true);
+        String token = jwtUtil.createAccessToken(new CustomUserDetails(member()));
+
+        // When
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isInstanceOf(JwtPrincipal.class);
+        JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+        assertThat(principal.getMemberId()).isEqualTo(7L);
+        assertThat(principal.getEmail()).isEqualTo("user@example.com");
+        assertThat(principal.getRole()).isEqualTo(Role.ROLE_USER);
+        then(customUserDetailsService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("DB 조회 모드 - 이메일로 회원을 조회해 인증 정보를 만든다")
+    void databaseMode_LoadsUser() throws Exception {
+        // Given
+        JwtAuthFilter filter = new JwtAuthFilter(jwtUtil, customUserDetailsService, tokenRevocationService, false);
+        String token = jwtUtil.createAccessToken(new CustomUserDetails(member()));
+        MemberSnapshot snapshot = new MemberSnapshot(7L, "user@example.com", Role.ROLE_USER, "hash");
+        given(customUserDetailsService.loadUserByUsername("user@example.com")).willReturn(snapshot);
+
+        // When
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 인증 정보를 만들지 않는다")
+    void revokedToken_NotAuthenticated() throws Exception {
+        // Given
+        JwtAuthFilter filter = new JwtAuthFilter(jwtUtil, customUserDetailsService, tokenRevocationService, true);
+        String token = jwtUtil.createAccessToken(new CustomUserDetails(member()));
+        given(tokenRevocationService.isRevoked(any())).willReturn(true);
+
+        // When
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        then(customUserDetailsService).shouldHaveNoInteractions();
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private Member member() {
+        return Member.builder()
+                .id(7L)
+                .name("회원")
+                .email("user@example.com")
+                .socialUid("LOCAL_user@example.com")
+                .socialType(SocialType.GOOGLE)
+                .point(0)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.umc9th.global.auth.jwt;
+
+import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.global.auth.CustomUserDetails;
+import com.example.umc9th.global.auth.enums.SocialType;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JwtUtil 테스트
+ * - verify(): 서명/만료 검증, 검증 캐시 적중
+ * - verifyRefreshToken(): 검증 캐시를 쓰지 않음
+ * - 캐시 비활성화(max-size 0)
+ */
+@DisplayName("JwtUtil 테스트")
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-test-0123456789";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 600_000L, 100);
+    private final CustomUserDetails user = new CustomUserDetails(member());
+
+    @Test
+    @DisplayName("유효한 토큰은 Claims를 반환하고 두 번째 검증은 캐시된 결과를 쓴다")
+    void verify_ValidTokenIsCached() {
+        // Given
+        String token = jwtUtil.createAccessToken(user);
+
+        // When
+        Claims first = jwtUtil.verify(token);
+        Claims second = jwtUtil.verify(token);
+
+        // Then
+        assertThat(first).isNotNull();
+        assertThat(first.getSubject()).isEqualTo("user@example.com");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 다르거나 만료되었거나 비어 있는 토큰은 null")
+    void verify_InvalidTokens() {
+        // Given
+        String foreign = new JwtUtil("another-secret-key-for-jwt-util-test-0123456789", 60_000L, 600_000L, 100)
+                .createAccessToken(user);
+        String expired = new JwtUtil(SECRET, -120_000L, 600_000L, 100).createAccessToken(user);
+
+        // When & Then (만료는 허용 오차 60초를 넘김)
+        assertThat(jwtUtil.verify(foreign)).isNull();
+        assertThat(jwtUtil.verify(expired)).isNull();
+        assertThat(jwtUtil.verify("not-a-jwt")).isNull();
+        assertThat(jwtUtil.verify(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Refresh Token 검증은 캐시에 저장하지 않는다")
+    void verifyRefreshToken_BypassesCache() {
+        // Given
+        String refreshToken = jwtUtil.createRefreshToken(user);
+
+        // When
+        Claims refreshClaims = jwtUtil.verifyRefreshToken(refreshToken);
+        Claims afterRefresh = jwtUtil.verify(refreshToken);
+
+        // Then: verifyRefreshToken이 캐시했다면 verify가 같은 인스턴스를 돌려줌
+        assertThat(refreshClaims).isNotNull();
+        assertThat(afterRefresh).isNotSameAs(refreshClaims);
+        assertThat(jwtUtil.verifyRefreshToken(refreshToken)).isNotSameAs(refreshClaims);
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 0이면 매번 서명을 검증한다")
+    void verify_CacheDisabled() {
+        // Given
+        JwtUtil uncached = new JwtUtil(SECRET, 60_000L, 600_000L, 0);
+        String token = uncached.createAccessToken(user);
+
+        // When
+        Claims first = uncached.verify(token);
+        Claims second = uncached.verify(token);
+
+        // Then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull().isNotSameAs(first);
+    }
+
+    private Member member() {
+        return Member.builder()
+                .id(7L)
+                .name("회원")
+                .email("user@example.com")
+                .socialUid("LOCAL_user@example.com")
+                .socialType(SocialType.GOOGLE)
+                .point(0)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.umc9th.global.auth.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TokenDigests 테스트
+ * - V2 마이그레이션의 MySQL SHA2(token, 256)과 같은 값(소문자 hex 64자)이어야 기존 토큰을 찾을 수 있음
+ */
+@DisplayName("TokenDigests 테스트")
+class TokenDigestsTest {
+
+    @Test
+    @DisplayName("SHA-256 다이제스트를 소문자 hex 64자로 반환한다")
+    void sha256Hex_LowercaseHex() {
+        // When: SHA2('abc', 256)과 같은 표준 테스트 벡터
+        String digest = TokenDigests.sha256Hex("abc");
+
+        // Then
+        assertThat(digest)
+                .hasSize(64)
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    @DisplayName("토큰이 다르면 다이제스트도 다르다")
+    void sha256Hex_DifferentTokens() {
+        assertThat(TokenDigests.sha256Hex("token-a")).isNotEqualTo(TokenDigests.sha256Hex("token-b"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.umc9th.global.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * VerifiedTokenCache 테스트
+ * - 항목은 토큰 exp 시각까지만 유지 (만료된 토큰이 캐시로 통과하지 않음)
+ */
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100);
+
+    @Test
+    @DisplayName("exp가 지나면 캐시에서 사라진다")
+    void get_ExpiresAtTokenExpiration() throws InterruptedException {
+        // Given
+        cache.put("soon", claimsExpiringIn(200));
+        assertThat(cache.get("soon")).isNotNull();
+
+        // When
+        Thread.sleep(400);
+
+        // Then
+        assertThat(cache.get("soon")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 만료되었거나 exp가 없는 Claims는 저장하지 않는다")
+    void put_SkipsExpiredOrMissingExpiration() {
+        // When
+        cache.put("expired", claimsExpiringIn(-1_000));
+        cache.put("no-exp", Jwts.claims().subject("user@example.com").build());
+
+        // Then
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.get("no-exp")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료 전 Claims는 그대로 반환한다")
+    void put_ThenGet() {
+        // Given
+        Claims claims = claimsExpiringIn(60_000);
+
+        // When
+        cache.put("valid", claims);
+
+        // Then
+        assertThat(cache.get("valid")).isSameAs(claims);
+    }
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .subject("user@example.com")
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.umc9th.global.auth.scheduler;
+
+import com.example.umc9th.global.auth.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * TokenCleanupScheduler 테스트
+ * - 만료 토큰 ID를 청크 단위로 찾아 그 범위만 삭제하고, 마지막 청크(크기 미만)에서 멈추는지
+ * - 정리 작업이 진행 중이면 다음 실행을 건너뛰는지
+ */
+@DisplayName("TokenCleanupScheduler 테스트")
+class TokenCleanupSchedulerTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TokenCleanupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        scheduler = new TokenCleanupScheduler(refreshTokenRepository, new TransactionTemplate(transactionManager),
+                meterRegistry, CHUNK_SIZE, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("청크마다 찾은 ID 범위만 삭제하고 마지막 청크 후 종료한다")
+    void cleanupExpiredTokens_DeletesChunkByChunk() {
+        // Given: 만료 토큰 ID 1, 2 | 5, 7 | 9
+        given(refreshTokenRepository.findExpiredIdsAfter(any(), eq(0L), any())).willReturn(List.of(1L, 2L));
+        given(refreshTokenRepository.findExpiredIdsAfter(any(), eq(2L), any())).willReturn(List.of(5L, 7L));
+        given(refreshTokenRepository.findExpiredIdsAfter(any(), eq(7L), any())).willReturn(List.of(9L));
+        given(refreshTokenRepository.deleteExpiredInRange(eq(1L), eq(2L), any())).willReturn(2);
+        given(refreshTokenRepository.deleteExpiredInRange(eq(5L), eq(7L), any())).willReturn(2);
+        given(refreshTokenRepository.deleteExpiredInRange(eq(9L), eq(9L), any())).willReturn(1);
+
+        // When
+        scheduler.cleanupExpiredTokens();
+
+        // Then
+        InOrder inOrder = inOrder(refreshTokenRepository);
+        inOrder.verify(refreshTokenRepository).deleteExpiredInRange(eq(1L), eq(2L), any());
+        inOrder.verify(refreshTokenRepository).deleteExpiredInRange(eq(5L), eq(7L), any());
+        inOrder.verify(refreshTokenRepository).deleteExpiredInRange(eq(9L), eq(9L), any());
+        then(refreshTokenRepository).should(times(3)).findExpiredIdsAfter(any(), anyLong(), any());
+        then(transactionManager).should(times(3)).commit(any());
+        assertThat(meterRegistry.counter("auth.refresh-token.purge.deleted").count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("마지막 청크가 꽉 차 있으면 빈 결과를 확인한 뒤 종료한다")
+    void cleanupExpiredTokens_StopsOnEmptyChunk() {
+        // Given
+        given(refreshTokenRepository.findExpiredIdsAfter(any(), eq(0L), any())).willReturn(List.of(3L, 4L));
+        given(refreshTokenRepository.findExpiredIdsAfter(any(), eq(4L), any())).willReturn(List.of());
+        given(refreshTokenRepository.deleteExpiredInRange(eq(3L), eq(4L), any())).willReturn(2);
+
+        // When
+        scheduler.cleanupExpiredTokens();
+
+        // Then
+        then(refreshTokenRepository).should(times(2)).findExpiredIdsAfter(any(), anyLong(), any());
+        then(refreshTokenRepository).should(times(1)).deleteExpiredInRange(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("정리 작업 중 다시 실행되면 건너뛰고, 끝난 뒤에는 다시 실행된다")
+    void cleanupExpiredTokens_SkipsWhileRunning() {
+        // Given: 첫 조회 도중 스케줄러가 한 번 더 호출됨
+        given(refreshTokenRepository.findExpiredIdsAfter(any(), eq(0L), any())).willAnswer(invocation -> {
+            scheduler.cleanupExpiredTokens();
+            return List.of();
+        }).willReturn(List.of());
+
+        // When
+        scheduler.cleanupExpiredTokens();
+
+        // Then: 중첩 호출은 조회 없이 건너뜀
+        then(refreshTokenRepository).should(times(1)).findExpiredIdsAfter(any(), anyLong(), any());
+
+        // When: 끝난 뒤 다시 실행
+        scheduler.cleanupExpiredTokens();
+
+        // Then
+        then(refreshTokenRepository).should(times(2)).findExpiredIdsAfter(any(), anyLong(), any());
+    }
+}
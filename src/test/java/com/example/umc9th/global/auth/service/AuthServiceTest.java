@@ -0,0 +1,294 @@
+package com.example.umc9th.global.auth.service;
+
+import com.example.umc9th.domain.member.entity.Member;
+import com.example.umc9th.domain.member.repository.MemberRepository;
+import com.example.umc9th.global.auth.CustomUserDetails;
+import com.example.umc9th.global.auth.cache.UserDetailsCache;
+import com.example.umc9th.global.auth.dto.TokenDto;
+import com.example.umc9th.global.auth.entity.RefreshToken;
+import com.example.umc9th.global.auth.enums.SocialType;
+import com.example.umc9th.global.auth.jwt.JwtUtil;
+import com.example.umc9th.global.auth.jwt.TokenDigests;
+import com.example.umc9th.global.auth.repository.RefreshTokenRepository;
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.response.code.ErrorCode;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * AuthService 테스트
+ * - 소셜 로그인: 신규 / 기존 / 이메일이 바뀐 소셜 회원 / 같은 이메일의 일반 가입 계정
+ * - Refresh Token: 원문 대신 다이제스트로 저장·조회·삭제
+ * - 세션 수 제한: 회원 행 잠금 후 유효 토큰 기준 한 문장 삭제
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService 테스트")
+class AuthServiceTest {
+
+    private static final int MAX_SESSIONS = 3;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(jwtUtil, refreshTokenRepository, userDetailsCache,
+                tokenRevocationService, memberRepository, MAX_SESSIONS);
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 - 신규 회원은 upsert로 가입되고 social_uid로 조회된다")
+    void socialLogin_NewMember() {
+        // Given
+        Member member = createSocialMember(1L, "google-uid", "new@example.com");
+        given(memberRepository.upsertSocialMember(eq("google-uid"), eq("GOOGLE"), eq("new@example.com"), eq("신규"), any()))
+                .willReturn(1);
+        given(memberRepository.findBySocialUid("google-uid")).willReturn(Optional.of(member));
+        givenTokensIssued();
+
+        // When
+        TokenDto.SocialLoginResult result = authService.socialLogin(SocialType.GOOGLE, "google-uid", "new@example.com", "신규");
+
+        // Then
+        assertThat(result.memberId()).isEqualTo(1L);
+        assertThat(result.accessToken()).isEqualTo("access");
+        then(memberRepository).should(never()).findFirstByEmailOrderByIdAsc(any());
+        then(refreshTokenRepository).should().save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 - 기존 소셜 회원은 삽입 없이 social_uid로 조회된다")
+    void socialLogin_ExistingMember() {
+        // Given
+        Member member = createSocialMember(2L, "google-uid", "old@example.com");
+        given(memberRepository.upsertSocialMember(any(), any(), any(), any(), any())).willReturn(0);
+        given(memberRepository.findBySocialUid("google-uid")).willReturn(Optional.of(member));
+        givenTokensIssued();
+
+        // When
+        TokenDto.SocialLoginResult result = authService.socialLogin(SocialType.GOOGLE, "google-uid", "old@example.com", "기존");
+
+        // Then
+        assertThat(result.memberId()).isEqualTo(2L);
+        then(memberRepository).should(never()).findFirstByEmailOrderByIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 - 제공자 쪽 이메일이 바뀌어도 social_uid로 기존 회원을 찾는다")
+    void socialLogin_EmailChanged() {
+        // Given: DB에는 예전 이메일로 저장되어 있음
+        Member member = createSocialMember(3L, "google-uid", "before@example.com");
+        given(memberRepository.upsertSocialMember(any(), any(), any(), any(), any())).willReturn(0);
+        given(memberRepository.findBySocialUid("google-uid")).willReturn(Optional.of(member));
+        givenTokensIssued();
+
+        // When
+        TokenDto.SocialLoginResult result = authService.socialLogin(SocialType.GOOGLE, "google-uid", "after@example.com", "변경");
+
+        // Then: 이메일 기준 조회였다면 MEMBER_NOT_FOUND
+        assertThat(result.memberId()).isEqualTo(3L);
+        assertThat(result.email()).isEqualTo("before@example.com");
+        then(memberRepository).should(never()).findFirstByEmailOrderByIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 - 같은 이메일의 일반 가입 계정이 있으면 그 계정으로 로그인한다")
+    void socialLogin_ExistingLocalAccount() {
+        // Given: upsert가 삽입을 건너뛰어 social_uid로는 없음
+        Member local = createSocialMember(4L, "LOCAL_local@example.com", "local@example.com");
+        given(memberRepository.upsertSocialMember(any(), any(), any(), any(), any())).willReturn(0);
+        given(memberRepository.findBySocialUid("google-uid")).willReturn(Optional.empty());
+        given(memberRepository.findFirstByEmailOrderByIdAsc("local@example.com")).willReturn(Optional.of(local));
+        givenTokensIssued();
+
+        // When
+        TokenDto.SocialLoginResult result = authService.socialLogin(SocialType.GOOGLE, "google-uid", "local@example.com", "일반");
+
+        // Then
+        assertThat(result.memberId()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 - social_uid와 이메일 모두 없으면 MEMBER_NOT_FOUND")
+    void socialLogin_NotFound() {
+        // Given
+        given(memberRepository.upsertSocialMember(any(), any(), any(), any(), any())).willReturn(0);
+        given(memberRepository.findBySocialUid("google-uid")).willReturn(Optional.empty());
+        given(memberRepository.findFirstByEmailOrderByIdAsc("none@example.com")).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> authService.socialLogin(SocialType.GOOGLE, "google-uid", "none@example.com", "없음"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MEMBER_NOT_FOUND);
+        then(refreshTokenRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Refresh Token 저장 - 원문이 아닌 다이제스트로 저장한다")
+    void saveRefreshToken_StoresDigest() {
+        // Given
+        Member member = createSocialMember(1L, "google-uid", "user@example.com");
+        given(jwtUtil.getRefreshTokenExpiryDate()).willReturn(LocalDateTime.now().plusDays(7));
+
+        // When
+        authService.saveRefreshToken(member, "refresh-token");
+
+        // Then
+        then(refreshTokenRepository).should().save(argThat((RefreshToken token) ->
+                token.getTokenHash().equals(TokenDigests.sha256Hex("refresh-token"))));
+    }
+
+    @Test
+    @DisplayName("세션 수 제한 - 회원 행을 잠근 뒤 새 토큰 자리를 빼고 최신 토큰만 남긴다")
+    void saveRefreshToken_EvictsBeyondLimitUnderLock() {
+        // Given
+        Member member = createSocialMember(1L, "google-uid", "user@example.com");
+        given(refreshTokenRepository.deleteActiveBeyondNewest(eq(1L), anyInt(), any())).willReturn(1);
+
+        // When
+        authService.saveRefreshToken(member, "refresh-token");
+
+        // Then: 잠금 → 한 문장 삭제(최대 3개 중 새 토큰 자리 1개 제외) → 저장 순서
+        InOrder inOrder = inOrder(memberRepository, refreshTokenRepository);
+        inOrder.verify(memberRepository).lockById(1L);
+        inOrder.verify(refreshTokenRepository).deleteActiveBeyondNewest(eq(1L), eq(MAX_SESSIONS - 1),
+                argThat((LocalDateTime now) -> !now.isAfter(LocalDateTime.now())));
+        inOrder.verify(refreshTokenRepository).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("세션 수 제한 - 최대치가 0 이하이면 잠금/삭제 없이 저장만 한다")
+    void saveRefreshToken_NoLimit() {
+        // Given
+        AuthService unlimited = new AuthService(jwtUtil, refreshTokenRepository, userDetailsCache,
+                tokenRevocationService, memberRepository, 0);
+        Member member = createSocialMember(1L, "google-uid", "user@example.com");
+
+        // When
+        unlimited.saveRefreshToken(member, "refresh-token");
+
+        // Then
+        then(memberRepository).should(never()).lockById(any());
+        then(refreshTokenRepository).should(never()).deleteActiveBeyondNewest(any(), anyInt(), any());
+        then(refreshTokenRepository).should().save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("Token Refresh - 다이제스트로 조회하고 새 토큰의 다이제스트로 교체한다")
+    void refreshAccessToken_RotatesByDigest() {
+        // Given
+        Member member = createSocialMember(1L, "google-uid", "user@example.com");
+        RefreshToken stored = createRefreshToken(member, "old-refresh", LocalDateTime.now().plusDays(1));
+        Claims claims = mock(Claims.class);
+        given(claims.getSubject()).willReturn("user@example.com");
+        given(jwtUtil.verifyRefreshToken("old-refresh")).willReturn(claims);
+        given(refreshTokenRepository.findByTokenHash(TokenDigests.sha256Hex("old-refresh"))).willReturn(Optional.of(stored));
+        given(jwtUtil.createAccessToken(any(CustomUserDetails.class))).willReturn("new-access");
+        given(jwtUtil.createRefreshToken(any(CustomUserDetails.class))).willReturn("new-refresh");
+        given(jwtUtil.getRefreshTokenExpiryDate()).willReturn(LocalDateTime.now().plusDays(7));
+
+        // When
+        TokenDto.TokenResponse response = authService.refreshAccessToken("old-refresh");
+
+        // Then
+        assertThat(response.refreshToken()).isEqualTo("new-refresh");
+        assertThat(stored.getTokenHash()).isEqualTo(TokenDigests.sha256Hex("new-refresh"));
+        then(refreshTokenRepository).should().save(stored);
+    }
+
+    @Test
+    @DisplayName("Token Refresh - DB에 없는 다이제스트면 INVALID_TOKEN")
+    void refreshAccessToken_UnknownDigest() {
+        // Given
+        given(jwtUtil.verifyRefreshToken("logged-out")).willReturn(mock(Claims.class));
+        given(refreshTokenRepository.findByTokenHash(TokenDigests.sha256Hex("logged-out"))).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refreshAccessToken("logged-out"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("Token Refresh - 만료된 토큰은 삭제하고 EXPIRED_TOKEN")
+    void refreshAccessToken_Expired() {
+        // Given
+        Member member = createSocialMember(1L, "google-uid", "user@example.com");
+        RefreshToken stored = createRefreshToken(member, "expired", LocalDateTime.now().minusMinutes(1));
+        given(jwtUtil.verifyRefreshToken("expired")).willReturn(mock(Claims.class));
+        given(refreshTokenRepository.findByTokenHash(TokenDigests.sha256Hex("expired"))).willReturn(Optional.of(stored));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refreshAccessToken("expired"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPIRED_TOKEN);
+        then(refreshTokenRepository).should().delete(stored);
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 다이제스트 기준으로 한 번에 삭제하고 Access Token을 폐기한다")
+    void logout_DeletesByDigest() {
+        // Given
+        Claims accessClaims = mock(Claims.class);
+
+        // When
+        authService.logout("refresh-token", accessClaims);
+
+        // Then
+        then(refreshTokenRepository).should().deleteByTokenHash(TokenDigests.sha256Hex("refresh-token"));
+        then(tokenRevocationService).should().revoke(accessClaims);
+    }
+
+    private void givenTokensIssued() {
+        given(jwtUtil.createAccessToken(any(CustomUserDetails.class))).willReturn("access");
+        given(jwtUtil.createRefreshToken(any(CustomUserDetails.class))).willReturn("refresh");
+        given(refreshTokenRepository.save(any(RefreshToken.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private RefreshToken createRefreshToken(Member member, String token, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .tokenHash(TokenDigests.sha256Hex(token))
+                .member(member)
+                .issuedAt(LocalDateTime.now().minusDays(1))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private Member createSocialMember(Long id, String socialUid, String email) {
+        return Member.builder()
+                .id(id)
+                .name("소셜회원")
+                .email(email)
+                .socialUid(socialUid)
+                .socialType(SocialType.GOOGLE)
+                .point(0)
+                .build();
+    }
+}
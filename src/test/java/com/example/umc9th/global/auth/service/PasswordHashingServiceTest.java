@@ -0,0 +1,98 @@
+package com.example.umc9th.global.auth.service;
+
+import com.example.umc9th.global.exception.CustomException;
+import com.example.umc9th.global.response.code.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PasswordHashingService 테스트
+ * - 스레드 풀/대기열 포화, 대기 시간 초과 시 AUTH_BUSY (503) 검증
+ */
+@DisplayName("PasswordHashingService 테스트")
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차 있으면 즉시 AUTH_BUSY로 거절한다")
+    void encode_QueueFull_ThrowsAuthBusy() throws Exception {
+        // Given: 스레드 1개 + 대기열 1칸, 해싱은 release 전까지 멈춤
+        service = new PasswordHashingService(blockingEncoder(), new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(5));
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("a"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("b"));
+        Thread.sleep(100);  // 두 번째 작업이 대기열에 들어갈 시간
+
+        // When & Then: 세 번째 요청은 대기 없이 거절
+        assertThatThrownBy(() -> service.encode("c"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AUTH_BUSY);
+
+        // 풀려나면 앞선 요청은 정상 처리
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("hash:a");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("hash:b");
+    }
+
+    @Test
+    @DisplayName("대기 시간이 timeout을 넘으면 AUTH_BUSY로 실패한다")
+    void matches_Timeout_ThrowsAuthBusy() {
+        // Given
+        service = new PasswordHashingService(blockingEncoder(), new SimpleMeterRegistry(), 1, 1, Duration.ofMillis(100));
+
+        // When & Then
+        assertThatThrownBy(() -> service.matches("a", "hash:a"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AUTH_BUSY);
+        assertThat(ErrorCode.AUTH_BUSY.getStatus()).isEqualTo(503);
+    }
+
+    /**
+     * release 전까지 멈추는 인코더 (해싱이 오래 걸리는 상황 재현)
+     */
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return encodedPassword.equals("hash:" + rawPassword);
+            }
+
+            private void await() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
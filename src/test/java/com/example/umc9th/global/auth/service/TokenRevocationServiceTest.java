@@ -0,0 +1,166 @@
+package com.example.umc9th.global.auth.service;
+
+import com.example.umc9th.global.auth.entity.MemberTokenRevocation;
+import com.example.umc9th.global.auth.jwt.JwtUtil;
+import com.example.umc9th.global.auth.repository.MemberTokenRevocationRepository;
+import com.example.umc9th.global.auth.repository.RevokedAccessTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * TokenRevocationService 테스트
+ * - 모든 기기 로그아웃 기준 시각 비교 (밀리초 클레임 / 초 단위 iat / memberId 없음)
+ * - Bloom Filter 양성은 DB로 확정 (오탐 시 통과)
+ * - 재구성 중 커밋된 폐기가 교체 후에도 유지되는지
+ */
+@DisplayName("TokenRevocationService 테스트")
+class TokenRevocationServiceTest {
+
+    private static final long ACCESS_EXPIRATION_MS = 3_600_000L;
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository = mock(RevokedAccessTokenRepository.class);
+    private final MemberTokenRevocationRepository memberTokenRevocationRepository = mock(MemberTokenRevocationRepository.class);
+    private final TokenRevocationService service = new TokenRevocationService(
+            revokedAccessTokenRepository, memberTokenRevocationRepository, 1000, 0.001, ACCESS_EXPIRATION_MS);
+
+    @Test
+    @DisplayName("모든 기기 로그아웃 직후 같은 초에 발급된 토큰은 밀리초 클레임으로 구분해 통과시킨다")
+    void revokeAllForMember_SameSecondReissueIsValid() {
+        // Given
+        given(memberTokenRevocationRepository.findById(1L)).willReturn(Optional.empty());
+        Instant before = Instant.now();
+        service.revokeAllForMember(1L);
+        Instant after = Instant.now().plusMillis(1);
+
+        // When & Then: 폐기 전 발급 → 폐기, 폐기 후(같은 초일 수 있음) 재발급 → 유효
+        assertThat(service.isRevoked(claims(1L, "old", before.minusMillis(1), true))).isTrue();
+        assertThat(service.isRevoked(claims(1L, "new", after, true))).isFalse();
+    }
+
+    @Test
+    @DisplayName("밀리초 클레임이 없는 토큰은 폐기와 같은 초에 발급되었으면 폐기로 본다")
+    void revokeAllForMember_SecondPrecisionFallback() {
+        // Given
+        given(memberTokenRevocationRepository.findById(1L)).willReturn(Optional.empty());
+        service.revokeAllForMember(1L);
+        Instant sameSecond = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        // When & Then
+        assertThat(service.isRevoked(claims(1L, "legacy", sameSecond, false))).isTrue();
+        assertThat(service.isRevoked(claims(2L, "other-member", sameSecond, false))).isFalse();
+    }
+
+    @Test
+    @DisplayName("memberId 클레임이 없는 토큰은 일괄 폐기를 확인할 수 없으므로 폐기로 본다")
+    void isRevoked_MissingMemberId() {
+        Claims claims = Jwts.claims().id("no-member").issuedAt(new Date()).build();
+
+        assertThat(service.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 jti는 폐기, 폐기되지 않은 jti는 DB 조회 없이 통과")
+    void revoke_ThenIsRevoked() {
+        // Given
+        Claims revoked = claims(1L, "revoked-jti", Instant.now(), true);
+        given(revokedAccessTokenRepository.existsByJti("revoked-jti")).willReturn(false, true);
+        service.revoke(revoked);
+
+        // When & Then
+        assertThat(service.isRevoked(revoked)).isTrue();
+        assertThat(service.isRevoked(claims(1L, "active-jti", Instant.now(), true))).isFalse();
+        then(revokedAccessTokenRepository).should(never()).existsByJti("active-jti");
+    }
+
+    @Test
+    @DisplayName("Bloom Filter 오탐이면 DB 확인 후 통과시킨다")
+    void isRevoked_FalsePositiveConfirmedByDatabase() {
+        // Given: 아주 작은 필터를 가득 채워 어떤 jti든 양성이 나오게 함
+        TokenRevocationService tiny = new TokenRevocationService(
+                revokedAccessTokenRepository, memberTokenRevocationRepository, 1, 0.5, ACCESS_EXPIRATION_MS);
+        for (int i = 0; i < 500; i++) {
+            tiny.revoke(claims(1L, "revoked-" + i, Instant.now(), true));
+        }
+
+        // When
+        boolean revoked = tiny.isRevoked(claims(1L, "never-revoked", Instant.now(), true));
+
+        // Then
+        assertThat(revoked).isFalse();
+        then(revokedAccessTokenRepository).should().existsByJti("never-revoked");
+    }
+
+    @Test
+    @DisplayName("재구성 - DB에서 읽은 폐기 목록으로 필터와 회원별 기준 시각을 교체한다")
+    void rebuild_LoadsFromDatabase() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now();
+        given(revokedAccessTokenRepository.findActiveJtis(any())).willReturn(List.of("db-jti"));
+        given(revokedAccessTokenRepository.existsByJti("db-jti")).willReturn(true);
+        given(memberTokenRevocationRepository.findAllByRevokedBeforeAfter(any()))
+                .willReturn(List.of(new MemberTokenRevocation(3L, cutoff)));
+
+        // When
+        service.rebuild();
+
+        // Then
+        assertThat(service.isRevoked(claims(1L, "db-jti", Instant.now(), true))).isTrue();
+        assertThat(service.isRevoked(claims(3L, "member-3", toInstant(cutoff).minusMillis(1), true))).isTrue();
+        assertThat(service.isRevoked(claims(3L, "member-3-new", toInstant(cutoff).plusMillis(1), true))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 - DB 조회 중에 커밋된 폐기도 교체 후 유지된다")
+    void rebuild_KeepsRevocationsCommittedDuringLoad() {
+        // Given: 조회 도중 이 인스턴스에서 로그아웃 / 모든 기기 로그아웃 발생 (조회 결과에는 없음)
+        Claims duringLoad = claims(1L, "during-load", Instant.now(), true);
+        given(revokedAccessTokenRepository.existsByJti("during-load")).willReturn(false, true);
+        given(memberTokenRevocationRepository.findById(5L)).willReturn(Optional.empty());
+        given(revokedAccessTokenRepository.findActiveJtis(any())).willAnswer(invocation -> {
+            service.revoke(duringLoad);
+            return List.of();
+        });
+        given(memberTokenRevocationRepository.findAllByRevokedBeforeAfter(any())).willAnswer(invocation -> {
+            service.revokeAllForMember(5L);
+            return List.of();
+        });
+        Instant issuedBeforeLogout = Instant.now().minusMillis(1);
+
+        // When
+        service.rebuild();
+
+        // Then
+        assertThat(service.isRevoked(duringLoad)).isTrue();
+        assertThat(service.isRevoked(claims(5L, "member-5", issuedBeforeLogout, true))).isTrue();
+    }
+
+    private Claims claims(Long memberId, String jti, Instant issuedAt, boolean withMillis) {
+        var builder = Jwts.claims()
+                .id(jti)
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plusMillis(ACCESS_EXPIRATION_MS)))
+                .add("memberId", memberId);
+        if (withMillis) {
+            builder.add(JwtUtil.ISSUED_AT_MILLIS_CLAIM, issuedAt.toEpochMilli());
+        }
+        return builder.build();
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.umc9th.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ExportDataSource 테스트
+ * - useCursorFetch는 내보내기 전용 풀의 MySQL 커넥션에만 들어가는지
+ * - 풀 설정(크기, 읽기 전용, 지연 연결)과 fetch size
+ */
+@DisplayName("ExportDataSource 테스트")
+class ExportDataSourceTest {
+
+    @Test
+    @DisplayName("MySQL URL이면 내보내기 풀에 useCursorFetch=true와 fetch size를 설정한다")
+    void mysqlUrl_EnablesCursorFetchOnExportPool() {
+        // Given
+        DataSourceProperties properties = properties("jdbc:mysql://db.internal:3306/umc9th");
+
+        // When
+        ExportDataSource exportDataSource = new ExportDataSource(properties, 3, 200);
+
+        // Then
+        try {
+            assertThat(exportDataSource.dataSource().getDataSourceProperties())
+                    .containsEntry(ExportDataSource.USE_CURSOR_FETCH, "true");
+            assertThat(exportDataSource.dataSource().getJdbcUrl()).isEqualTo("jdbc:mysql://db.internal:3306/umc9th");
+            assertThat(exportDataSource.dataSource().getMaximumPoolSize()).isEqualTo(3);
+            assertThat(exportDataSource.dataSource().getMinimumIdle()).isZero();
+            assertThat(exportDataSource.dataSource().isReadOnly()).isTrue();
+            assertThat(exportDataSource.jdbcTemplate().getJdbcTemplate().getFetchSize()).isEqualTo(200);
+        } finally {
+            exportDataSource.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("MySQL이 아닌 URL에는 useCursorFetch를 넣지 않는다")
+    void otherUrl_NoCursorFetch() {
+        // Given
+        DataSourceProperties properties = properties("jdbc:h2:mem:export;MODE=MySQL");
+
+        // When
+        ExportDataSource exportDataSource = new ExportDataSource(properties, 2, 500);
+
+        // Then
+        try {
+            assertThat(exportDataSource.dataSource().getDataSourceProperties())
+                    .doesNotContainKey(ExportDataSource.USE_CURSOR_FETCH);
+        } finally {
+            exportDataSource.destroy();
+        }
+    }
+
+    private DataSourceProperties properties(String url) {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(url);
+        properties.setUsername("sa");
+        properties.setPassword("");
+        return properties;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.umc9th.global.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BigramIndex 테스트
+ * - 순수 자료구조이므로 Spring/Mock 없이 직접 생성해서 검증
+ */
+@DisplayName("BigramIndex 테스트")
+class BigramIndexTest {
+
+    @Test
+    @DisplayName("단어 안의 연속된 두 글자만 bigram으로 만든다 (공백·문장부호 기준 분리, 중복 제거)")
+    void bigrams_SplitByWordAndDistinct() {
+        // "민트 초코!" → 민트, 초코 / "초코초코" → 초코, 코초 (초코 중복 제거)
+        assertThat(BigramIndex.bigrams("민트 초코!")).hasSize(2);
+        assertThat(BigramIndex.bigrams("초코초코")).hasSize(2);
+
+        // 한 글자 단어만 있으면 bigram 없음
+        assertThat(BigramIndex.bigrams("a b 맛")).isEmpty();
+        assertThat(BigramIndex.bigrams(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일치한 bigram 수가 많은 순, 같으면 최신(ID 큰) 순으로 정렬된다")
+    void search_RankedByMatchCountThenNewest() {
+        // Given
+        BigramIndex index = new BigramIndex();
+        index.add(1L, "민트초코 아이스크림 맛있어요");
+        index.add(2L, "초코 케이크가 달아요");
+        index.add(3L, "민트초코 라떼 최고");
+        index.add(4L, "김치찌개 맛집");
+
+        // When: 민트, 트초, 초코
+        List<BigramIndex.Hit> hits = index.search("민트초코", 10);
+
+        // Then
+        assertThat(hits).extracting(BigramIndex.Hit::id).containsExactly(3L, 1L, 2L);
+        assertThat(hits).extracting(BigramIndex.Hit::matches).containsExactly(3, 3, 1);
+    }
+
+    @Test
+    @DisplayName("ID가 역순으로 추가되거나 중복 추가돼도 포스팅은 정렬·중복 없이 유지된다")
+    void add_OutOfOrderAndDuplicateIds() {
+        // Given: 큰 ID 먼저, 작은 ID 나중, 같은 ID 반복
+        BigramIndex index = new BigramIndex();
+        index.add(1_000_000L, "떡볶이");
+        index.add(5L, "떡볶이");
+        index.add(300L, "떡볶이");
+        index.add(5L, "떡볶이");
+
+        // When
+        List<BigramIndex.Hit> hits = index.search("떡볶이", 10);
+
+        // Then
+        assertThat(hits).extracting(BigramIndex.Hit::id).containsExactly(1_000_000L, 300L, 5L);
+    }
+
+    @Test
+    @DisplayName("limit만큼만 반환한다")
+    void search_Limit() {
+        BigramIndex index = new BigramIndex();
+        for (long id = 1; id <= 20; id++) {
+            index.add(id, "분위기 좋은 카페");
+        }
+
+        assertThat(index.search("카페", 5)).hasSize(5);
+        assertThat(index.search("카페", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("containingAll은 검색어의 bigram을 모두 가진 문서만 ID 오름차순으로 반환한다")
+    void containingAll_IntersectsPostings() {
+        // Given
+        BigramIndex index = new BigramIndex();
+        index.add(1L, "민트초코 카페");
+        index.add(2L, "초코 케이크");
+        index.add(3L, "민트 초코 라떼");  // 단어가 나뉘어 "트초" bigram 없음
+        index.add(4L, "민트초코칩");
+
+        // When / Then: 민트, 트초, 초코 모두 포함
+        assertThat(index.containingAll("민트초코")).containsExactly(1L, 4L);
+        assertThat(index.containingAll("없는단어")).isEmpty();
+        assertThat(index.containingAll("a")).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.umc9th.global.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * GeoGridIndex 테스트
+ * - 반경 필터, 가까운 k개 유지, 격자 칸 경계·경도 ±180도 경계 검증
+ */
+@DisplayName("GeoGridIndex 테스트")
+class GeoGridIndexTest {
+
+    @Test
+    @DisplayName("반경 안의 지점만 가까운 순으로 최대 k개 반환한다")
+    void nearest_WithinRadiusOrderedByDistance() {
+        // Given: 기준점에서 북쪽으로 약 110m, 330m, 1.1km, 5.5km
+        GeoGridIndex index = new GeoGridIndex(0.01);
+        index.add(1L, 37.5010, 127.0);
+        index.add(2L, 37.5030, 127.0);
+        index.add(3L, 37.5100, 127.0);
+        index.add(4L, 37.5500, 127.0);
+
+        // When
+        List<GeoGridIndex.Hit> all = index.nearest(37.5, 127.0, 2000, 10);
+        List<GeoGridIndex.Hit> top2 = index.nearest(37.5, 127.0, 2000, 2);
+
+        // Then
+        assertThat(all).extracting(GeoGridIndex.Hit::id).containsExactly(1L, 2L, 3L);
+        assertThat(all.get(0).distanceMeters()).isBetween(100.0, 120.0);
+        assertThat(top2).extracting(GeoGridIndex.Hit::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("기준점과 다른 격자 칸에 있는 가까운 지점도 찾는다")
+    void nearest_AcrossCellBoundary() {
+        // Given: 칸 경계(127.01) 바로 양쪽
+        GeoGridIndex index = new GeoGridIndex(0.01);
+        index.add(1L, 37.5, 127.0101);
+
+        // Then
+        assertThat(index.nearest(37.5, 127.0099, 100, 10)).extracting(GeoGridIndex.Hit::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("경도 180도 경계를 넘는 반경도 검색한다")
+    void nearest_AcrossAntimeridian() {
+        // Given
+        GeoGridIndex index = new GeoGridIndex(0.01);
+        index.add(1L, 0.0, -179.9995);
+
+        // Then: 약 110m 거리
+        assertThat(index.nearest(0.0, 179.9995, 500, 10)).extracting(GeoGridIndex.Hit::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("같은 ID를 다시 추가하면 좌표만 갱신된다")
+    void add_SameIdUpdatesCoordinate() {
+        // Given
+        GeoGridIndex index = new GeoGridIndex(0.01);
+        index.add(1L, 37.5, 127.0);
+        index.add(1L, 37.5, 127.0005);
+
+        // Then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(37.5, 127.0, 100, 10).get(0).distanceMeters()).isGreaterThan(40.0);
+    }
+}
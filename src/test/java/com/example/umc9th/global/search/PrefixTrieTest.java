@@ -0,0 +1,78 @@
+package com.example.umc9th.global.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PrefixTrie 테스트
+ * - 간선 분리, 노드별 상위 K개 유지, 대소문자 무시 접두사 일치 검증
+ */
+@DisplayName("PrefixTrie 테스트")
+class PrefixTrieTest {
+
+    @Test
+    @DisplayName("접두사로 시작하는 항목을 가중치 내림차순, 같으면 ID 내림차순으로 반환한다")
+    void topK_OrderedByWeightThenId() {
+        // Given
+        PrefixTrie trie = new PrefixTrie(10);
+        trie.put(new PrefixTrie.Entry(1L, "민트초코 카페", 5));
+        trie.put(new PrefixTrie.Entry(2L, "민트 베이커리", 20));
+        trie.put(new PrefixTrie.Entry(3L, "민들레 식당", 5));
+        trie.put(new PrefixTrie.Entry(4L, "김밥천국", 100));
+
+        // When
+        List<PrefixTrie.Entry> result = trie.topK("민", 10);
+
+        // Then
+        assertThat(result).extracting(PrefixTrie.Entry::id).containsExactly(2L, 3L, 1L);
+        assertThat(trie.topK("민트", 10)).extracting(PrefixTrie.Entry::id).containsExactly(2L, 1L);
+        assertThat(trie.topK("민트초", 10)).extracting(PrefixTrie.Entry::text).containsExactly("민트초코 카페");
+    }
+
+    @Test
+    @DisplayName("간선 중간에서 끝나는 접두사와 일치하지 않는 접두사를 구분한다")
+    void topK_PrefixEndingInsideEdge() {
+        // Given: "burger house" 하나 → 간선 하나로 압축
+        PrefixTrie trie = new PrefixTrie(10);
+        trie.put(new PrefixTrie.Entry(1L, "Burger House", 1));
+
+        // Then
+        assertThat(trie.topK("BURG", 10)).hasSize(1);
+        assertThat(trie.topK("burger h", 10)).hasSize(1);
+        assertThat(trie.topK("burgex", 10)).isEmpty();
+        assertThat(trie.topK("burger house!", 10)).isEmpty();
+        assertThat(trie.topK(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드마다 상위 K개만 보관하고 limit만큼 반환한다")
+    void topK_KeepsOnlyTopK() {
+        // Given
+        PrefixTrie trie = new PrefixTrie(3);
+        for (long id = 1; id <= 10; id++) {
+            trie.put(new PrefixTrie.Entry(id, "카페" + id, id));
+        }
+
+        // Then
+        assertThat(trie.topK("카페", 10)).extracting(PrefixTrie.Entry::id).containsExactly(10L, 9L, 8L);
+        assertThat(trie.topK("카페", 1)).extracting(PrefixTrie.Entry::id).containsExactly(10L);
+        assertThat(trie.topK("카페1", 10)).extracting(PrefixTrie.Entry::id).containsExactly(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("같은 ID를 다시 넣으면 중복 없이 새 값으로 교체된다")
+    void put_SameIdReplaces() {
+        // Given
+        PrefixTrie trie = new PrefixTrie(5);
+        trie.put(new PrefixTrie.Entry(1L, "떡볶이", 1));
+        trie.put(new PrefixTrie.Entry(2L, "떡집", 5));
+        trie.put(new PrefixTrie.Entry(1L, "떡볶이", 10));
+
+        // Then
+        assertThat(trie.topK("떡", 5)).extracting(PrefixTrie.Entry::id).containsExactly(1L, 2L);
+    }
+}